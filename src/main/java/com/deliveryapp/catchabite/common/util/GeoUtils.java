@@ -0,0 +1,56 @@
+package com.deliveryapp.catchabite.common.util;
+
+/**
+ * GeoUtils: 위도/경도 기반 거리 계산 유틸리티
+ *
+ * Description: 배달 좌표(매장/고객/라이더) 사이의 대원 거리(great-circle distance)를
+ * 미터 단위로 계산한다. 배달 인덱스, 배차, 정산 등에서 공통으로 사용.
+ *
+ * Required Variables/Parameters: 없음 (static utility)
+ */
+public final class GeoUtils {
+    private GeoUtils() {}
+
+    // 지구 평균 반지름(m)
+    public static final double EARTH_RADIUS_M = 6_371_008.8;
+
+    // 위도 1도당 거리(m) - 격자 셀 크기 환산용
+    public static final double METERS_PER_DEGREE_LAT = Math.PI * EARTH_RADIUS_M / 180.0;
+
+    /**
+     * 두 좌표 사이의 haversine 거리(m)를 반환한다.
+     */
+    public static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLon = Math.sin(dLon / 2);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 좌표 배열 n쌍의 haversine 거리(m)를 out에 채운다.
+     * 객체 생성 없이 기본형 배열만 순회하므로 JIT가 루프를 펼치기 쉽다. (배치 거리 계산용)
+     */
+    public static void haversineMeters(double[] lat1, double[] lon1, double[] lat2, double[] lon2,
+                                       double[] out, int n) {
+        final double toRad = Math.PI / 180.0;
+        for (int i = 0; i < n; i++) {
+            double phi1 = lat1[i] * toRad;
+            double phi2 = lat2[i] * toRad;
+            double sinLat = Math.sin((phi2 - phi1) * 0.5);
+            double sinLon = Math.sin((lon2[i] - lon1[i]) * toRad * 0.5);
+            double a = sinLat * sinLat + Math.cos(phi1) * Math.cos(phi2) * sinLon * sinLon;
+            out[i] = 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, Math.sqrt(a)));
+        }
+    }
+
+    /**
+     * 주어진 위도에서 경도 1도당 거리(m)를 반환한다. (극지방 0 나눗셈 방지)
+     */
+    public static double metersPerDegreeLon(double lat) {
+        return Math.max(1.0, METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(lat)));
+    }
+}
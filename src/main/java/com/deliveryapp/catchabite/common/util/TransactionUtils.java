@@ -0,0 +1,29 @@
+package com.deliveryapp.catchabite.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * TransactionUtils: 트랜잭션 커밋 이후 실행 유틸리티
+ *
+ * Description: 메모리 인덱스/레지스트리처럼 DB 밖의 상태를 갱신할 때, 롤백되면 DB와
+ * 어긋나지 않도록 커밋 이후에 실행한다. 트랜잭션이 없으면 즉시 실행한다.
+ *
+ * Required Variables/Parameters: 없음 (static utility)
+ */
+public final class TransactionUtils {
+    private TransactionUtils() {}
+
+    public static void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.deliveryapp.catchabite.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 배차(dispatch) 등 주기 작업(@Scheduled) 활성화
+ * (scheduling.enabled=false면 끔 - SQL 수를 세는 테스트처럼 주기 작업이 끼어들면 안 되는 경우)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,49 @@
+package com.deliveryapp.catchabite.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+import com.deliveryapp.catchabite.security.StompSubscriptionInterceptor;
+
+/**
+ * WebSocketConfig: STOMP over WebSocket 설정
+ *
+ * - 접속: ws://{host}/ws (HTTP 세션 쿠키로 로그인 사용자 식별)
+ * - 클라이언트 -> 서버: /app/** (예: 라이더 위치 핑 /app/rider/location)
+ * - 서버 -> 클라이언트: /topic/** (구독 권한은 StompSubscriptionInterceptor에서 확인)
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompSubscriptionInterceptor stompSubscriptionInterceptor;
+
+    // 인터셉터가 메시징 템플릿을 쓰는 서비스에 의존하므로 순환 참조를 피하기 위해 지연 주입
+    public WebSocketConfig(@Lazy StompSubscriptionInterceptor stompSubscriptionInterceptor) {
+        this.stompSubscriptionInterceptor = stompSubscriptionInterceptor;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // CorsConfig와 같은 로컬 프론트 Origin만 허용
+        registry.addEndpoint("/ws")
+                .setAllowedOriginPatterns("http://localhost:*", "http://127.0.0.1:*", "http://localhost", "http://127.0.0.1");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.enableSimpleBroker("/topic", "/queue");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompSubscriptionInterceptor);
+    }
+}
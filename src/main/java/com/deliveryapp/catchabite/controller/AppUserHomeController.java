@@ -0,0 +1,49 @@
+package com.deliveryapp.catchabite.controller;
+
+import com.deliveryapp.catchabite.common.response.ApiResponse;
+import com.deliveryapp.catchabite.dto.HomeFeedItemDTO;
+import com.deliveryapp.catchabite.service.HomeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * ============================================================
+ * [AppUserHomeController]
+ * 사용자 홈 화면 피드를 한 번에 내려주는 컨트롤러입니다.
+ * - 비로그인: 무작위 / 지금 인기 / (선택) 카테고리
+ * - 로그인: + 즐겨찾기 / 자주 주문한 가게, addressId가 있으면 + 가까운 가게(배달 가능한 가게만)
+ * ============================================================
+ */
+@RestController
+@RequestMapping("/api/v1/appuser/home")
+@RequiredArgsConstructor
+public class AppUserHomeController {
+
+    private final HomeFeedService homeFeedService;
+
+    /**
+     * GET /api/v1/appuser/home?addressId=&category=&limit=20
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<HomeFeedItemDTO>>> getHomeFeed(
+            @RequestParam(required = false) Long addressId,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal Object principal
+    ) {
+        List<HomeFeedItemDTO> feed = homeFeedService.getHomeFeed(resolveLoginKey(principal), addressId, category, limit);
+        return ResponseEntity.ok(ApiResponse.ok(feed));
+    }
+
+    // Helper method to parse the "TYPE:LOGIN_ID" string
+    private String resolveLoginKey(Object principal) {
+        if (principal instanceof String p && p.contains(":")) {
+            return p.split(":", 2)[1];
+        }
+        return null;
+    }
+}
@@ -1,15 +1,21 @@
 /* catchabite/controller/AppUserStoreController.java */
 package com.deliveryapp.catchabite.controller;
 
-import com.deliveryapp.catchabite.dto.MenuCategoryWithMenusDTO;
+import com.deliveryapp.catchabite.dto.AutocompleteSuggestionDTO;
+import com.deliveryapp.catchabite.dto.CursorPageDTO;
 import com.deliveryapp.catchabite.dto.UserStoreSummaryDTO;
 import com.deliveryapp.catchabite.dto.UserStoreResponseDTO;
+import com.deliveryapp.catchabite.service.MenuBoardSnapshots;
+import com.deliveryapp.catchabite.service.StoreAutocomplete;
 import com.deliveryapp.catchabite.service.UserStoreService;
-import com.deliveryapp.catchabite.service.UserMenuCategoryService;
 import com.deliveryapp.catchabite.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -23,7 +29,8 @@ import java.util.List;
 public class AppUserStoreController {
 
     private final UserStoreService userStoreService;
-    private final UserMenuCategoryService userMenuCategoryService;
+    private final StoreAutocomplete storeAutocomplete;
+    private final MenuBoardSnapshots menuBoardSnapshots;
 
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<List<UserStoreSummaryDTO>>> searchStores(@RequestParam String keyword) {
@@ -31,6 +38,16 @@ public class AppUserStoreController {
         return ResponseEntity.ok(ApiResponse.ok(stores));
     }
 
+    // 검색창 자동완성 (입력할 때마다 호출, 메모리 트라이만 조회)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<AutocompleteSuggestionDTO>>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<AutocompleteSuggestionDTO> suggestions = storeAutocomplete.suggest(prefix, limit);
+        return ResponseEntity.ok(ApiResponse.ok(suggestions));
+    }
+
     @GetMapping("/category")
     public ResponseEntity<ApiResponse<List<UserStoreSummaryDTO>>> getStoresByCategory(@RequestParam String storeCategory) {
         List<UserStoreSummaryDTO> stores = userStoreService.getStoresByCategory(storeCategory);
@@ -50,15 +67,60 @@ public class AppUserStoreController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    // 메뉴판은 미리 직렬화한 스냅샷을 그대로 내려주고, ETag가 같으면 304
     @GetMapping("/{storeId}/menus")
-    public ResponseEntity<ApiResponse<List<MenuCategoryWithMenusDTO>>> getStoreMenus(@PathVariable Long storeId) {
-        List<MenuCategoryWithMenusDTO> menus = userMenuCategoryService.getMenuBoardForUser(storeId);
-        return ResponseEntity.ok(ApiResponse.ok(menus));
+    public ResponseEntity<byte[]> getStoreMenus(
+            @PathVariable Long storeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        MenuBoardSnapshots.Snapshot snapshot = menuBoardSnapshots.get(storeId);
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+        // no-cache: 클라이언트가 저장은 하되 매번 If-None-Match로 재검증
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(menuBoardSnapshots.body(snapshot));
     }
 
     @GetMapping("/random")
-    public ResponseEntity<ApiResponse<List<UserStoreSummaryDTO>>> getRandomStores() {
-        List<UserStoreSummaryDTO> stores = userStoreService.getRandomStores();
+    public ResponseEntity<ApiResponse<CursorPageDTO<UserStoreSummaryDTO>>> getRandomStores(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPageDTO<UserStoreSummaryDTO> stores = userStoreService.getRandomStores(cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok(stores));
+    }
+
+    // 지금 인기 매장 (최근 주문 수 순, 메모리 카운터 기준)
+    @GetMapping("/popular")
+    public ResponseEntity<ApiResponse<List<UserStoreSummaryDTO>>> getPopularStores(
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        List<UserStoreSummaryDTO> stores = userStoreService.getPopularStores(limit);
+        return ResponseEntity.ok(ApiResponse.ok(stores));
+    }
+
+    // 선택한 배송지로 배달 가능한 매장 (가까운 순, 로그인 필요)
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<UserStoreSummaryDTO>>> getNearbyStores(
+            @RequestParam Long addressId,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal Object principal
+    ) {
+        List<UserStoreSummaryDTO> stores = userStoreService.getNearbyStores(addressId, resolveLoginKey(principal), limit);
+        return ResponseEntity.ok(ApiResponse.ok(stores));
+    }
+
+    @GetMapping("/nearby/search")
+    public ResponseEntity<ApiResponse<List<UserStoreSummaryDTO>>> searchNearbyStores(
+            @RequestParam String keyword,
+            @RequestParam Long addressId,
+            @AuthenticationPrincipal Object principal
+    ) {
+        List<UserStoreSummaryDTO> stores = userStoreService.searchNearbyStores(keyword, addressId, resolveLoginKey(principal));
         return ResponseEntity.ok(ApiResponse.ok(stores));
     }
 
@@ -1,18 +1,22 @@
 package com.deliveryapp.catchabite.controller;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.deliveryapp.catchabite.dto.DeliveryApiResponseDTO;
+import com.deliveryapp.catchabite.dto.NearbyDeliveryDTO;
 import com.deliveryapp.catchabite.entity.OrderDelivery;
 import com.deliveryapp.catchabite.repository.OrderDeliveryRepository;
 import com.deliveryapp.catchabite.security.AuthUser;
+import com.deliveryapp.catchabite.service.PendingDeliveryIndex;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +28,10 @@ import lombok.Setter;
 public class DeliveryLocationController {
 
     private final OrderDeliveryRepository orderDeliveryRepository;
+    private final PendingDeliveryIndex pendingDeliveryIndex;
+
+    private static final int MAX_NEARBY_RADIUS_M = 10_000;
+    private static final int MAX_NEARBY_LIMIT = 50;
 
     /**
      * 배달(내 배달) 좌표 조회: 매장/고객 좌표만 제공
@@ -59,6 +67,31 @@ public class DeliveryLocationController {
         return ResponseEntity.ok(DeliveryApiResponseDTO.success("좌표 조회 성공", data));
     }
 
+    /**
+     * 내 주변 대기(PENDING) 배달 조회: 매장 좌표 기준 가까운 순 k건
+     * GET /api/v1/rider/deliveries/nearby?latitude=..&longitude=..&radiusM=2000&limit=10
+     */
+    @GetMapping("/deliveries/nearby")
+    public ResponseEntity<DeliveryApiResponseDTO<List<NearbyDeliveryDTO>>> getNearbyDeliveries(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "2000") int radiusM,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("좌표 범위가 올바르지 않습니다. latitude/longitude");
+        }
+        if (radiusM <= 0 || radiusM > MAX_NEARBY_RADIUS_M) {
+            throw new IllegalArgumentException("radiusM은 1 ~ " + MAX_NEARBY_RADIUS_M + " 사이여야 합니다.");
+        }
+        if (limit <= 0 || limit > MAX_NEARBY_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 ~ " + MAX_NEARBY_LIMIT + " 사이여야 합니다.");
+        }
+
+        List<NearbyDeliveryDTO> data = pendingDeliveryIndex.findNearest(latitude, longitude, radiusM, limit);
+        return ResponseEntity.ok(DeliveryApiResponseDTO.success("주변 배달 조회 성공", data));
+    }
+
     // ---- Response DTO (원하면 별도 파일로 분리 추천) ----
     @Getter @Setter
     public static class DeliveryCoordinatesResponseDTO {
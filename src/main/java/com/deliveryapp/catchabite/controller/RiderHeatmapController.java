@@ -0,0 +1,46 @@
+package com.deliveryapp.catchabite.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.deliveryapp.catchabite.dto.DeliveryApiResponseDTO;
+import com.deliveryapp.catchabite.dto.HeatCellDTO;
+import com.deliveryapp.catchabite.service.DemandHeatmap;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/rider")
+@RequiredArgsConstructor
+public class RiderHeatmapController {
+
+    private static final int MAX_HEATMAP_RADIUS_M = 10_000;
+
+    private final DemandHeatmap demandHeatmap;
+
+    /**
+     * 내 주변 수요/공급 히트맵 (비어 있지 않은 셀만)
+     * GET /api/v1/rider/heatmap?latitude=..&longitude=..&radiusM=3000
+     */
+    @GetMapping("/heatmap")
+    public ResponseEntity<DeliveryApiResponseDTO<List<HeatCellDTO>>> getHeatmap(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "3000") int radiusM
+    ) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("좌표 범위가 올바르지 않습니다. latitude/longitude");
+        }
+        if (radiusM <= 0 || radiusM > MAX_HEATMAP_RADIUS_M) {
+            throw new IllegalArgumentException("radiusM은 1 ~ " + MAX_HEATMAP_RADIUS_M + " 사이여야 합니다.");
+        }
+        return ResponseEntity.ok(
+            DeliveryApiResponseDTO.success("히트맵 조회 성공", demandHeatmap.snapshot(latitude, longitude, radiusM))
+        );
+    }
+}
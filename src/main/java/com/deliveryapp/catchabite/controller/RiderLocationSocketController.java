@@ -0,0 +1,54 @@
+package com.deliveryapp.catchabite.controller;
+
+import java.security.Principal;
+import java.util.Map;
+
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+import com.deliveryapp.catchabite.dto.RiderLocationPingDTO;
+import com.deliveryapp.catchabite.security.RiderContext;
+import com.deliveryapp.catchabite.service.OnlineRiderRegistry;
+import com.deliveryapp.catchabite.service.RiderLocationTracker;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 라이더 위치 핑 수신 (STOMP SEND /app/rider/location)
+ *
+ * 배달원 PK는 세션 최초 핑에서 한 번만 조회해 WebSocket 세션 속성에 보관한다. (핑마다 DB 조회 없음)
+ */
+@Controller
+@RequiredArgsConstructor
+public class RiderLocationSocketController {
+
+    private static final String SESSION_DELIVERER_ID = "delivererId";
+
+    private final RiderContext riderContext;
+    private final RiderLocationTracker riderLocationTracker;
+    private final OnlineRiderRegistry onlineRiderRegistry;
+
+    @MessageMapping("/rider/location")
+    public void ping(@Payload @Valid RiderLocationPingDTO ping, SimpMessageHeaderAccessor headers, Principal principal) {
+        Long delivererId = resolveDelivererId(headers, principal);
+        riderLocationTracker.record(delivererId, ping.getLatitude(), ping.getLongitude(), ping.getRecordedAt());
+        // 위치 핑도 온라인 상태 유지 신호로 본다.
+        onlineRiderRegistry.touch(delivererId, ping.getLatitude(), ping.getLongitude());
+    }
+
+    private Long resolveDelivererId(SimpMessageHeaderAccessor headers, Principal principal) {
+        Map<String, Object> session = headers.getSessionAttributes();
+        Object cached = (session == null) ? null : session.get(SESSION_DELIVERER_ID);
+        if (cached instanceof Long id) return id;
+
+        if (principal == null || !principal.getName().startsWith("RIDER:")) {
+            throw new IllegalStateException("라이더만 위치를 전송할 수 있습니다.");
+        }
+        Long delivererId = riderContext.requireDelivererId(principal);
+        if (session != null) session.put(SESSION_DELIVERER_ID, delivererId);
+        return delivererId;
+    }
+}
@@ -0,0 +1,55 @@
+package com.deliveryapp.catchabite.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.deliveryapp.catchabite.dto.DeliveryApiResponseDTO;
+import com.deliveryapp.catchabite.dto.OnlineRiderDTO;
+import com.deliveryapp.catchabite.dto.RiderHeartbeatDTO;
+import com.deliveryapp.catchabite.security.AuthUser;
+import com.deliveryapp.catchabite.service.OnlineRiderRegistry;
+import com.deliveryapp.catchabite.service.RiderLocationTracker;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/rider")
+@RequiredArgsConstructor
+public class RiderPresenceController {
+
+    private final OnlineRiderRegistry onlineRiderRegistry;
+    private final RiderLocationTracker riderLocationTracker;
+
+    /**
+     * 운행 중 접속 유지 신호 (처음 호출 시 온라인 등록)
+     * POST /api/v1/rider/heartbeat
+     */
+    @PostMapping("/heartbeat")
+    public ResponseEntity<DeliveryApiResponseDTO<OnlineRiderDTO>> heartbeat(
+            @AuthenticationPrincipal AuthUser user,
+            @RequestBody @Valid RiderHeartbeatDTO request
+    ) {
+        OnlineRiderDTO rider = onlineRiderRegistry.heartbeat(
+                user.getDelivererId(), request.getLatitude(), request.getLongitude());
+        riderLocationTracker.record(user.getDelivererId(), request.getLatitude(), request.getLongitude(), 0L);
+        return ResponseEntity.ok(DeliveryApiResponseDTO.success("온라인", rider));
+    }
+
+    /**
+     * 운행 종료 (자동 배차/배정 대상에서 즉시 제외)
+     * DELETE /api/v1/rider/heartbeat
+     */
+    @DeleteMapping("/heartbeat")
+    public ResponseEntity<DeliveryApiResponseDTO<Void>> goOffline(
+            @AuthenticationPrincipal AuthUser user
+    ) {
+        onlineRiderRegistry.goOffline(user.getDelivererId());
+        return ResponseEntity.ok(DeliveryApiResponseDTO.success("오프라인"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.deliveryapp.catchabite.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.deliveryapp.catchabite.dto.DeliveryApiResponseDTO;
+import com.deliveryapp.catchabite.dto.TripPlanDTO;
+import com.deliveryapp.catchabite.security.AuthUser;
+import com.deliveryapp.catchabite.service.TripPlanningService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/rider/trips")
+@RequiredArgsConstructor
+public class RiderTripController {
+
+    private static final int MAX_SUGGEST_LIMIT = 10;
+
+    private final TripPlanningService tripPlanningService;
+
+    /**
+     * 내 진행 중 배달의 방문 순서 (픽업/전달 경유지)
+     * GET /api/v1/rider/trips/current
+     */
+    @GetMapping("/current")
+    public ResponseEntity<DeliveryApiResponseDTO<TripPlanDTO>> getCurrentTrip(
+            @AuthenticationPrincipal AuthUser user
+    ) {
+        return ResponseEntity.ok(
+            DeliveryApiResponseDTO.success("조회 성공", tripPlanningService.planCurrent(user.getDelivererId()))
+        );
+    }
+
+    /**
+     * 내 주변 대기 배달을 묶은 trip 후보
+     * GET /api/v1/rider/trips/suggested?latitude=..&longitude=..&limit=5
+     */
+    @GetMapping("/suggested")
+    public ResponseEntity<DeliveryApiResponseDTO<List<TripPlanDTO>>> getSuggestedTrips(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "5") int limit
+    ) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("좌표 범위가 올바르지 않습니다. latitude/longitude");
+        }
+        if (limit <= 0 || limit > MAX_SUGGEST_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 ~ " + MAX_SUGGEST_LIMIT + " 사이여야 합니다.");
+        }
+        return ResponseEntity.ok(
+            DeliveryApiResponseDTO.success("조회 성공", tripPlanningService.suggest(latitude, longitude, limit))
+        );
+    }
+}
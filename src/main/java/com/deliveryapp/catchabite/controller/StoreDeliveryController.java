@@ -11,9 +11,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+import com.deliveryapp.catchabite.dto.CursorPageDTO;
 import com.deliveryapp.catchabite.dto.DeliveryApiResponseDTO;
+import com.deliveryapp.catchabite.dto.DeliveryEventPageDTO;
 import com.deliveryapp.catchabite.dto.OrderDeliveryDTO;
 import com.deliveryapp.catchabite.security.AuthUser;
+import com.deliveryapp.catchabite.service.DeliveryEventPublisher;
 import com.deliveryapp.catchabite.service.OrderDeliveryService;
 
 import lombok.RequiredArgsConstructor;
@@ -24,6 +27,7 @@ import lombok.RequiredArgsConstructor;
 public class StoreDeliveryController {
 
     private final OrderDeliveryService deliveryService;
+    private final DeliveryEventPublisher deliveryEventPublisher;
 
     // 내 매장 배달 단건 조회
     @GetMapping("/{deliveryId}")
@@ -66,4 +70,49 @@ public class StoreDeliveryController {
         );
     }
 
+    // 내 매장 배달 상태 변경 이벤트 (재접속 시 since 이후만 조회)
+    @GetMapping("/events")
+    public ResponseEntity<DeliveryApiResponseDTO<DeliveryEventPageDTO>> getEventsSince(
+            @AuthenticationPrincipal AuthUser user,
+            @RequestParam(defaultValue = "0") long since
+    ) {
+        return ResponseEntity.ok(
+            DeliveryApiResponseDTO.success(
+                "조회 성공",
+                deliveryEventPublisher.eventsSince(DeliveryEventPublisher.Audience.OWNER, user.getStoreOwnerId(), since)
+            )
+        );
+    }
+
+    // 내 매장 전체 배달 목록 (커서 페이지, 첫 요청은 cursor 없이)
+    @GetMapping("/page")
+    public ResponseEntity<DeliveryApiResponseDTO<CursorPageDTO<OrderDeliveryDTO>>> getDeliveriesPage(
+            @AuthenticationPrincipal AuthUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+            DeliveryApiResponseDTO.success(
+                "조회 성공",
+                deliveryService.getDeliveriesByStore(user.getStoreOwnerId(), cursor, size)
+            )
+        );
+    }
+
+    // 상태별 조회 (커서 페이지)
+    @GetMapping("/status/page")
+    public ResponseEntity<DeliveryApiResponseDTO<CursorPageDTO<OrderDeliveryDTO>>> getByStatusPage(
+            @AuthenticationPrincipal AuthUser user,
+            @RequestParam DeliveryStatus orderDeliveryStatus,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+            DeliveryApiResponseDTO.success(
+                "조회 성공",
+                deliveryService.getDeliveriesByStoreAndStatus(user.getStoreOwnerId(), orderDeliveryStatus, cursor, size)
+            )
+        );
+    }
+
 }
@@ -7,12 +7,18 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.deliveryapp.catchabite.dto.CursorPageDTO;
 import com.deliveryapp.catchabite.dto.DeliveryApiResponseDTO;
+import com.deliveryapp.catchabite.dto.DeliveryEventPageDTO;
 import com.deliveryapp.catchabite.dto.OrderDeliveryDTO;
+import com.deliveryapp.catchabite.dto.RiderLocationDTO;
 import com.deliveryapp.catchabite.security.AuthUser;
+import com.deliveryapp.catchabite.service.DeliveryEventPublisher;
 import com.deliveryapp.catchabite.service.OrderDeliveryService;
+import com.deliveryapp.catchabite.service.RiderLocationTracker;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,6 +28,8 @@ import lombok.RequiredArgsConstructor;
 public class UserDeliveryController {
 
     private final OrderDeliveryService deliveryService;
+    private final DeliveryEventPublisher deliveryEventPublisher;
+    private final RiderLocationTracker riderLocationTracker;
 
     // 내 배달 단건 조회
     @GetMapping("/{deliveryId}")
@@ -35,6 +43,18 @@ public class UserDeliveryController {
         );
     }
 
+    // 내 배달의 라이더 현재 위치 (WebSocket 구독이 어려운 클라이언트용 폴링, 기록이 없으면 data=null)
+    @GetMapping("/{deliveryId}/location")
+    public ResponseEntity<DeliveryApiResponseDTO<RiderLocationDTO>> getRiderLocation(
+        @PathVariable Long deliveryId,
+        @AuthenticationPrincipal AuthUser user
+    ) {
+        Long delivererId = deliveryService.getTrackableDelivererIdForUser(deliveryId, user.getUserId());
+        return ResponseEntity.ok(
+            DeliveryApiResponseDTO.success("조회 성공", riderLocationTracker.latest(delivererId))
+        );
+    }
+
     // 내 주문들의 배달 목록
     @GetMapping
     public ResponseEntity<DeliveryApiResponseDTO<List<OrderDeliveryDTO>>> getMyDeliveries(
@@ -48,4 +68,33 @@ public class UserDeliveryController {
         );
     }
 
+    // 내 배달 상태 변경 이벤트 (재접속 시 since 이후만 조회)
+    @GetMapping("/events")
+    public ResponseEntity<DeliveryApiResponseDTO<DeliveryEventPageDTO>> getEventsSince(
+            @AuthenticationPrincipal AuthUser user,
+            @RequestParam(defaultValue = "0") long since
+    ) {
+        return ResponseEntity.ok(
+            DeliveryApiResponseDTO.success(
+                "조회 성공",
+                deliveryEventPublisher.eventsSince(DeliveryEventPublisher.Audience.USER, user.getUserId(), since)
+            )
+        );
+    }
+
+    // 내 주문들의 배달 목록 (커서 페이지, 첫 요청은 cursor 없이)
+    @GetMapping("/page")
+    public ResponseEntity<DeliveryApiResponseDTO<CursorPageDTO<OrderDeliveryDTO>>> getDeliveriesPage(
+            @AuthenticationPrincipal AuthUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+            DeliveryApiResponseDTO.success(
+                "조회 성공",
+                deliveryService.getDeliveriesByUser(user.getUserId(), cursor, size)
+            )
+        );
+    }
+
 }
@@ -32,6 +32,7 @@ public class StoreConverter {
                 .build();
     }
 
+    // 매장 1곳용 (store.getImages() 지연 로딩). 목록은 StoreSummaryLoader로 이미지를 일괄 조회한다.
     public UserStoreSummaryDTO toSummaryDTO(Store store) {
         if (store == null) return null;
 
@@ -41,14 +42,22 @@ public class StoreConverter {
                 .collect(Collectors.toList())
             : Collections.emptyList();
 
+        return toSummaryDTO(store, imageUrls);
+    }
+
+    // 이미지 URL을 미리 일괄 조회한 경우 (store.getImages() 지연 로딩을 건드리지 않음)
+    public UserStoreSummaryDTO toSummaryDTO(Store store, List<String> imageUrls) {
+        if (store == null) return null;
+
         return UserStoreSummaryDTO.builder()
                 .storeId(store.getStoreId())
                 .storeName(store.getStoreName())
                 .storeOpenStatus(store.getStoreOpenStatus())
                 .storeDeliveryFee(store.getStoreDeliveryFee())
                 .storeRating(store.getStoreRating())
-                .storeImageUrl(imageUrls)
+                .storeReviewCount(store.getStoreReviewCount())
+                .storeImageUrl(imageUrls != null ? imageUrls : Collections.emptyList())
                 .storeMinOrderPrice(store.getStoreMinOrder())
                 .build();
     }
-}
\ No newline at end of file
+}
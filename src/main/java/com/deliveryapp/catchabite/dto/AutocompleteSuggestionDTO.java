@@ -0,0 +1,20 @@
+package com.deliveryapp.catchabite.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// StoreAutocomplete - 검색창 자동완성 후보 1건
+@Getter
+@AllArgsConstructor
+public class AutocompleteSuggestionDTO {
+
+    public enum SuggestionType { STORE, MENU, CATEGORY }
+
+    private SuggestionType type;
+
+    // 화면에 보여줄 원문 (매장명 / 메뉴명 / 분류 값)
+    private String text;
+
+    // STORE일 때만 값이 있음 (바로 매장 화면으로 이동)
+    private Long storeId;
+}
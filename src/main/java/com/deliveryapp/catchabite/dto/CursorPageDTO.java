@@ -0,0 +1,19 @@
+package com.deliveryapp.catchabite.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 커서(keyset) 기반 목록 응답 - 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨서 조회
+@Getter
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    private List<T> content;
+
+    // 마지막 페이지이면 null
+    private String nextCursor;
+
+    private boolean hasNext;
+}
@@ -0,0 +1,34 @@
+package com.deliveryapp.catchabite.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// DelivererSettlementEngine - 기간 일괄 정산 실행 결과
+@Getter
+@Builder
+@AllArgsConstructor
+public class DelivererSettlementRunDTO {
+
+    private LocalDate periodFrom;
+    private LocalDate periodTo;
+
+    // 대상 배달원 수 / 생성된 정산 헤더 수
+    private int riderCount;
+    private int settlementCount;
+
+    // 생성된 정산 라인 수 / 총 정산금액
+    private long itemCount;
+    private long totalAmount;
+
+    // 거리 구간 rule이 없어 이번 정산에서 제외된 배달 수 (rule 등록 후 재실행 시 정산됨)
+    private long skippedNoRuleCount;
+
+    // 오류로 롤백된 배달원
+    private List<Long> failedDelivererIds;
+
+    private long elapsedMs;
+}
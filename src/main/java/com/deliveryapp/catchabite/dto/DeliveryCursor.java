@@ -0,0 +1,37 @@
+package com.deliveryapp.catchabite.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 배달 목록 keyset 커서 (orderDeliveryCreatedDate desc, deliveryId desc)
+ * 클라이언트에는 "생성일시|deliveryId"를 base64url로 인코딩한 문자열로 내려준다.
+ */
+public record DeliveryCursor(LocalDateTime createdDate, Long deliveryId) {
+
+    // 첫 페이지: 모든 행보다 "뒤"인 위치에서 시작 (쿼리 분기 없이 같은 seek 조건을 쓰기 위함)
+    public static final DeliveryCursor FIRST = new DeliveryCursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+
+    public String encode() {
+        String raw = createdDate + "|" + deliveryId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * cursor가 비어있으면 첫 페이지, 형식이 잘못되면 IllegalArgumentException
+     */
+    public static DeliveryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return FIRST;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new DeliveryCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.valueOf(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.deliveryapp.catchabite.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// "since 이후 이벤트" 조회 응답
+@Getter
+@AllArgsConstructor
+public class DeliveryEventPageDTO {
+
+    private List<DeliveryStatusEventDTO> events;
+
+    // 다음 요청의 since 값
+    private long lastSeq;
+
+    // since가 보관 범위보다 오래되어 일부 이벤트가 유실됨 -> 목록 전체 재조회 필요
+    private boolean resetRequired;
+}
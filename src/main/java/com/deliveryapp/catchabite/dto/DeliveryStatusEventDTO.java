@@ -0,0 +1,23 @@
+package com.deliveryapp.catchabite.dto;
+
+import java.time.LocalDateTime;
+
+import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 배달 상태 변경 이벤트 (STOMP push, "since 이후 이벤트" 조회 응답)
+@Getter
+@AllArgsConstructor
+public class DeliveryStatusEventDTO {
+
+    // 서버 전역 단조 증가 번호 (재접속 시 since 값으로 사용)
+    private long seq;
+
+    private Long deliveryId;
+    private Long orderId;
+    private DeliveryStatus orderDeliveryStatus;
+    private Long delivererId;
+    private LocalDateTime occurredAt;
+}
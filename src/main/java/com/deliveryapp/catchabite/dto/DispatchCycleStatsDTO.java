@@ -0,0 +1,34 @@
+package com.deliveryapp.catchabite.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// DeliveryDispatchScheduler - 배차 사이클 1회의 지연시간/매칭 품질 지표
+@Getter
+@Builder
+@AllArgsConstructor
+public class DispatchCycleStatsDTO {
+
+    private String algorithm;
+    private LocalDateTime startedAt;
+
+    // 사이클 전체 소요 시간(ms) / 그 중 매칭 계산 시간(ms)
+    private long elapsedMs;
+    private long matchMs;
+
+    // 후보 수
+    private int pendingCount;
+    private int availableRiderCount;
+
+    // 매칭 결과 (committed: 실제 DB 반영 건수, 수동 배정과 경합하면 matched보다 작을 수 있음)
+    private int matchedCount;
+    private int committedCount;
+
+    // 픽업 거리(m)
+    private long totalPickupDistanceM;
+    private long avgPickupDistanceM;
+    private long maxPickupDistanceM;
+}
@@ -0,0 +1,27 @@
+package com.deliveryapp.catchabite.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// DemandHeatmap - 격자 셀 1칸의 수요/공급 (라이더 앱 히트맵)
+@Getter
+@AllArgsConstructor
+public class HeatCellDTO {
+
+    // 셀 중심 좌표
+    private double latitude;
+    private double longitude;
+
+    // 대기 / 배차요청 배달 수 (매장 좌표 기준)
+    private int pendingCount;
+    private int assignedCount;
+
+    // 온라인 라이더 수
+    private int riderCount;
+
+    // 최근 window-minutes 분 동안 새로 들어온 대기 배달 수
+    private int recentDemand;
+
+    // 주변 수요/공급 기반 배달팁 할증 배율 (1.0 = 할증 없음)
+    private double surgeMultiplier;
+}
@@ -0,0 +1,22 @@
+package com.deliveryapp.catchabite.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// HomeFeedService - 홈 피드 매장 1건 (여러 출처에서 나온 같은 매장은 한 건으로 합침)
+@Getter
+@AllArgsConstructor
+public class HomeFeedItemDTO {
+
+    public enum Source { NEARBY, FAVORITE, FREQUENT, POPULAR, CATEGORY, RANDOM }
+
+    private UserStoreSummaryDTO store;
+
+    // 정렬 점수 (높을수록 위)
+    private double score;
+
+    // 이 매장이 나온 출처
+    private List<Source> sources;
+}
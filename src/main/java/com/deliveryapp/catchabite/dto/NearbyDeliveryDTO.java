@@ -0,0 +1,27 @@
+package com.deliveryapp.catchabite.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// DeliveryLocationController - 라이더 주변 대기(PENDING) 배달 조회 응답
+@Getter
+@Builder
+@AllArgsConstructor
+public class NearbyDeliveryDTO {
+
+    private Long deliveryId;
+
+    // 매장(픽업) 좌표
+    private BigDecimal storeLatitude;
+    private BigDecimal storeLongitude;
+
+    // 고객(도착지) 좌표
+    private BigDecimal dropoffLatitude;
+    private BigDecimal dropoffLongitude;
+
+    // 라이더 현재 위치 ~ 매장까지 거리(m)
+    private Integer distanceM;
+}
@@ -0,0 +1,23 @@
+package com.deliveryapp.catchabite.dto;
+
+import com.deliveryapp.catchabite.domain.enumtype.DelivererVehicleType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 온라인 라이더 상태 (OnlineRiderRegistry 스냅샷, heartbeat 응답)
+@Getter
+@AllArgsConstructor
+public class OnlineRiderDTO {
+
+    private Long delivererId;
+    private DelivererVehicleType vehicleType;
+    private double latitude;
+    private double longitude;
+
+    // 진행 중(배차요청 ~ 배달중) 배달 수
+    private int activeDeliveries;
+
+    // 마지막 heartbeat 수신 시각(epoch millis)
+    private long lastSeenAt;
+}
@@ -0,0 +1,52 @@
+package com.deliveryapp.catchabite.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+
+/**
+ * 배달 조회 쿼리 전용 생성자 프로젝션 (OrderDeliveryRepository.DELIVERY_DTO)
+ *
+ * JPQL의 new 표현식은 인자 순서로 생성자를 찾으므로, 컴포넌트 순서는 DELIVERY_DTO의 select 순서와 같아야 한다.
+ * 응답 DTO(OrderDeliveryDTO)에는 toDTO()에서 빌더로 옮기므로 DTO 필드를 추가/재배치해도 쿼리는 영향이 없다.
+ */
+public record OrderDeliveryRow(
+        Long deliveryId,
+        Long orderId,
+        Long delivererId,
+        LocalDateTime orderAcceptTime,
+        LocalDateTime orderDeliveryPickupTime,
+        LocalDateTime orderDeliveryStartTime,
+        LocalDateTime orderDeliveryCompleteTime,
+        BigDecimal orderDeliveryDistance,
+        Integer orderDeliveryEstTime,
+        Integer orderDeliveryActTime,
+        DeliveryStatus orderDeliveryStatus,
+        LocalDateTime orderDeliveryCreatedDate,
+        BigDecimal storeLatitude,
+        BigDecimal storeLongitude,
+        BigDecimal dropoffLatitude,
+        BigDecimal dropoffLongitude) {
+
+    public OrderDeliveryDTO toDTO() {
+        return OrderDeliveryDTO.builder()
+                .deliveryId(deliveryId)
+                .orderId(orderId)
+                .delivererId(delivererId)
+                .orderAcceptTime(orderAcceptTime)
+                .orderDeliveryPickupTime(orderDeliveryPickupTime)
+                .orderDeliveryStartTime(orderDeliveryStartTime)
+                .orderDeliveryCompleteTime(orderDeliveryCompleteTime)
+                .orderDeliveryDistance(orderDeliveryDistance)
+                .orderDeliveryEstTime(orderDeliveryEstTime)
+                .orderDeliveryActTime(orderDeliveryActTime)
+                .orderDeliveryStatus(orderDeliveryStatus)
+                .orderDeliveryCreatedDate(orderDeliveryCreatedDate)
+                .storeLatitude(storeLatitude)
+                .storeLongitude(storeLongitude)
+                .dropoffLatitude(dropoffLatitude)
+                .dropoffLongitude(dropoffLongitude)
+                .build();
+    }
+}
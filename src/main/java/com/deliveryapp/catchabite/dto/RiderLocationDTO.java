@@ -0,0 +1,17 @@
+package com.deliveryapp.catchabite.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 라이더 실시간 위치 (고객 구독 /topic/deliveries/{deliveryId}/location, 단건 조회 응답)
+@Getter
+@AllArgsConstructor
+public class RiderLocationDTO {
+
+    private Long delivererId;
+    private double latitude;
+    private double longitude;
+
+    // 측정 시각(epoch millis)
+    private long recordedAt;
+}
@@ -0,0 +1,26 @@
+package com.deliveryapp.catchabite.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 라이더 단말 -> 서버 GPS 핑 (STOMP /app/rider/location)
+@Getter @Setter
+@NoArgsConstructor
+public class RiderLocationPingDTO {
+
+    // 좌표가 빠진 요청이 (0, 0)으로 처리되지 않도록 래퍼 타입 + @NotNull
+    @NotNull
+    @DecimalMin("-90.0") @DecimalMax("90.0")
+    private Double latitude;
+
+    @NotNull
+    @DecimalMin("-180.0") @DecimalMax("180.0")
+    private Double longitude;
+
+    // 단말 측정 시각(epoch millis), 없으면 서버 수신 시각
+    private long recordedAt;
+}
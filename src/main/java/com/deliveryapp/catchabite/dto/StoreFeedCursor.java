@@ -0,0 +1,62 @@
+package com.deliveryapp.catchabite.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.SplittableRandom;
+
+/**
+ * 랜덤 매장 피드 커서 (storeRandomKey, storeId 순 seek)
+ *
+ * seed로 정한 시작 키부터 1.0까지 읽고(wrapped = false), 이어서 0부터 시작 키 전까지 읽는다(wrapped = true).
+ * 같은 seed의 커서를 따라가면 매장이 중복/누락 없이 한 바퀴 나온다.
+ * 클라이언트에는 "seed|wrapped|afterKey|afterId"를 base64url로 인코딩한 문자열로 내려준다.
+ */
+public record StoreFeedCursor(long seed, boolean wrapped, double afterKey, long afterId) {
+
+    // 첫 페이지: 시작 키 이상 전부
+    public static StoreFeedCursor start(long seed) {
+        return new StoreFeedCursor(seed, false, startKey(seed), -1L);
+    }
+
+    // seed별 고정 시작 키 [0, 1)
+    public static double startKey(long seed) {
+        return new SplittableRandom(seed).nextDouble();
+    }
+
+    // 읽기 상한 (미포함)
+    public double untilKey() {
+        return wrapped ? startKey(seed) : 1.0;
+    }
+
+    // 두 번째 구간(0 ~ 시작 키)의 처음
+    public StoreFeedCursor wrap() {
+        return new StoreFeedCursor(seed, true, -1.0, -1L);
+    }
+
+    // 마지막으로 내려준 매장 다음 위치 (시작 키보다 작으면 두 번째 구간)
+    public StoreFeedCursor next(double lastKey, long lastId) {
+        return new StoreFeedCursor(seed, lastKey < startKey(seed), lastKey, lastId);
+    }
+
+    public String encode() {
+        String raw = seed + "|" + wrapped + "|" + afterKey + "|" + afterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 형식이 잘못되면 IllegalArgumentException
+     */
+    public static StoreFeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new StoreFeedCursor(
+                    Long.parseLong(parts[0]),
+                    Boolean.parseBoolean(parts[1]),
+                    Double.parseDouble(parts[2]),
+                    Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.deliveryapp.catchabite.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// TripPlanner - 라이더 묶음 배달 경로 (출발 위치 -> stops 순서)
+@Getter
+@Builder
+@AllArgsConstructor
+public class TripPlanDTO {
+
+    // 묶인 배달
+    private List<Long> deliveryIds;
+
+    // 방문 순서 (각 배달의 픽업은 항상 전달보다 앞)
+    private List<TripStopDTO> stops;
+
+    private long totalDistanceM;
+    private int totalMinutes;
+
+    // 경로 계산에 걸린 시간(μs)
+    private long computeMicros;
+}
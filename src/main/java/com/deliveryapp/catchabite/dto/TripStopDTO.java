@@ -0,0 +1,21 @@
+package com.deliveryapp.catchabite.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 묶음 배달(trip) 경유지 1곳 - 픽업(매장) 또는 전달(고객)
+@Getter
+@AllArgsConstructor
+public class TripStopDTO {
+
+    public enum StopType { PICKUP, DROPOFF }
+
+    private Long deliveryId;
+    private StopType stopType;
+    private double latitude;
+    private double longitude;
+
+    // 직전 위치(첫 경유지는 출발 위치) ~ 이 경유지 거리(m) / 소요시간(분)
+    private long legDistanceM;
+    private int legMinutes;
+}
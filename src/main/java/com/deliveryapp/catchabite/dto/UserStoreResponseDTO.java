@@ -9,7 +9,7 @@ import java.util.List;
 import com.deliveryapp.catchabite.domain.enumtype.StoreOpenStatus;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserStoreResponseDTO {
@@ -31,7 +31,7 @@ public class UserStoreResponseDTO {
     // --- Delivery Logic ---
     private Integer minOrderPrice;
     private Integer deliveryFee;
-    private String estimatedDeliveryTime; // Placeholder (e.g. "30-45분")
+    private String estimatedDeliveryTime; // 실제 배달 소요시간 p50-p90 (e.g. "18-31분", 표본 부족 시 "20-30분")
 
     // --- Menu List ---
     private List<MenuCategoryWithMenusDTO> menuCategories;
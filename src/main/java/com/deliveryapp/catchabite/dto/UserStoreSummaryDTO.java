@@ -7,13 +7,16 @@ import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class UserStoreSummaryDTO {
    private Long storeId;
    private String storeName;
    private StoreOpenStatus storeOpenStatus;
    private Integer storeDeliveryFee;
    private Double storeRating;
+   private Integer storeReviewCount;
    private List<String> storeImageUrl;
    private Integer storeMinOrderPrice;
+   // 배송지 ~ 매장 거리(m), 거리 기반 목록에서만 채움
+   private Integer distanceMeters;
 }
\ No newline at end of file
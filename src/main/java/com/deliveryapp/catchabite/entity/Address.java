@@ -3,6 +3,7 @@ package com.deliveryapp.catchabite.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -54,6 +55,13 @@ public class Address {
     @Column(name = "ADDRESS_VISIBLE", length = 1)
     private String addressVisible;
 
+    // 좌표 (GeocodingService로 상세 주소에서 변환, 변환하지 못하면 null)
+    @Column(name = "ADDRESS_LATITUDE", precision = 10, scale = 7)
+    private BigDecimal addressLatitude;
+
+    @Column(name = "ADDRESS_LONGITUDE", precision = 10, scale = 7)
+    private BigDecimal addressLongitude;
+
     // 해당 주소로 주문된 주문 목록
     @OneToMany(mappedBy = "address", cascade = CascadeType.ALL)
     @Builder.Default
@@ -74,6 +82,11 @@ public class Address {
         }
     }
 
+    public void changeCoordinates(BigDecimal addressLatitude, BigDecimal addressLongitude) {
+        this.addressLatitude = addressLatitude;
+        this.addressLongitude = addressLongitude;
+    }
+
     public void deleteAddress(){
         this.addressVisible = "N";
     }
@@ -0,0 +1,53 @@
+package com.deliveryapp.catchabite.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 라이더 위치 이력 (RiderLocationTracker가 일정 주기마다 라이더별 최신 위치만 모아서 저장)
+@Entity
+@Table(
+    name = "deliverer_location",
+    indexes = {
+        @Index(name = "idx_deliverer_location_rider_time", columnList = "deliverer_id, recorded_at")
+    }
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DelivererLocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "location_id")
+    private Long locationId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "deliverer_id", nullable = false)
+    private Deliverer deliverer;
+
+    @Column(name = "latitude", nullable = false, precision = 10, scale = 7)
+    private BigDecimal latitude;
+
+    @Column(name = "longitude", nullable = false, precision = 10, scale = 7)
+    private BigDecimal longitude;
+
+    // 라이더 단말에서 측정한 시각
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
@@ -18,6 +18,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -50,6 +51,10 @@ public class OrderDelivery {
     @JoinColumn(name = "deliverer_id", nullable = true)
     private Deliverer deliverer;
 
+    // 배달원에게 배차(ASSIGNED)된 시간 - 미수락 배차 만료 기준
+    @Column(name = "order_assigned_time")
+    private LocalDateTime orderAssignedTime;
+
     // 배달 대행 수락한 시간
     @Column(name = "order_accept_time")
     private LocalDateTime orderAcceptTime;
@@ -100,6 +105,11 @@ public class OrderDelivery {
     private BigDecimal dropoffLongitude;
     /*******************************************************************************/
 
+    // 낙관적 락 버전 (상태 전이 조건부 UPDATE에서도 함께 증가시킨다)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     void prePersist() {
         //  주문 배송 상태는 입력된 값이 없으면, 기본값을 대기(PENDING)으로 할당함.
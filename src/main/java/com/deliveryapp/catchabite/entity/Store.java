@@ -3,8 +3,10 @@ package com.deliveryapp.catchabite.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import com.deliveryapp.catchabite.domain.enumtype.StoreCategory;
 
 import com.deliveryapp.catchabite.domain.enumtype.StoreOpenStatus;
@@ -45,9 +47,17 @@ public class Store {
     @Column(name = "store_min_order")
     private Integer storeMinOrder;
 
+    // 배달 가능 반경(m)
     @Column(name = "store_max_dist")
     private Integer storeMaxDist;
 
+    // 매장 좌표 (GeocodingService로 주소에서 변환, 변환하지 못하면 null)
+    @Column(name = "store_latitude", precision = 10, scale = 7)
+    private BigDecimal storeLatitude;
+
+    @Column(name = "store_longitude", precision = 10, scale = 7)
+    private BigDecimal storeLongitude;
+
     @Column(name = "store_delivery_fee")
     private Integer storeDeliveryFee;
 
@@ -57,13 +67,26 @@ public class Store {
     @Column(name = "store_close_time")
     private Integer storeCloseTime;
 
-    @Column(name = "store_rating")
+    /*
+     * 아래 집계 컬럼은 SQL로만 갱신한다. (updatable = false)
+     * 매장 정보 수정 시 엔티티에 읽어 둔 이전 값으로 덮어쓰지 않기 위함
+     */
+
+    // 리뷰 평균 평점 (StoreReviewAggregator가 리뷰 작성/수정/삭제 시 갱신)
+    @Column(name = "store_rating", updatable = false)
     private Double storeRating;
 
-    @Column(name = "store_total_order")
+    // 리뷰 수 (StoreReviewAggregator가 갱신)
+    @Column(name = "store_review_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer storeReviewCount = 0;
+
+    // 누적 주문 수 (StorePopularityCounters가 주기적으로 증분 반영)
+    @Column(name = "store_total_order", updatable = false)
     private Integer storeTotalOrder;
 
-    @Column(name = "store_recent_order")
+    // 최근 store.popularity.window-minutes 분 주문 수 (StorePopularityCounters)
+    @Column(name = "store_recent_order", updatable = false)
     private Integer storeRecentOrder;
 
     // 영업 상태 (OPEN / CLOSE)
@@ -78,6 +101,16 @@ public class Store {
     @Column(name = "store_origin_label", length = 4000)
     private String storeOriginLabel;
 
+    // 랜덤 매장 피드용 난수 키 [0, 1) - (영업상태, 키, id) 인덱스로 임의 위치부터 순서대로 읽는다.
+    @Column(name = "store_random_key", nullable = false)
+    private Double storeRandomKey;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.storeRandomKey == null) this.storeRandomKey = ThreadLocalRandom.current().nextDouble();
+        if (this.storeReviewCount == null) this.storeReviewCount = 0;
+    }
+
     /* =========================
        비즈니스 메서드
        ========================= */
@@ -110,6 +143,11 @@ public class Store {
         this.storeDeliveryFee = storeDeliveryFee;
     }
 
+    public void changeCoordinates(BigDecimal storeLatitude, BigDecimal storeLongitude) {
+        this.storeLatitude = storeLatitude;
+        this.storeLongitude = storeLongitude;
+    }
+
     public void changeOwnerSnapshotName(String ownerName) {
         this.storeOwnerName = ownerName;
     }
@@ -0,0 +1,47 @@
+package com.deliveryapp.catchabite.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/*
+ * 매장별 리뷰 집계 (StoreReviewAggregator가 리뷰 작성/수정/삭제 트랜잭션 안에서 증감 SQL로 갱신)
+ * 평균 평점과 리뷰 수는 store.store_rating / store.store_review_count에도 함께 반영한다.
+ */
+@Entity
+@Table(name = "store_review_stat")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreReviewStat {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false, precision = 14, scale = 2)
+    private BigDecimal ratingSum;
+
+    // 별점 분포 (평점을 반올림한 1~5점)
+    @Column(name = "star_1", nullable = false)
+    private long star1;
+
+    @Column(name = "star_2", nullable = false)
+    private long star2;
+
+    @Column(name = "star_3", nullable = false)
+    private long star3;
+
+    @Column(name = "star_4", nullable = false)
+    private long star4;
+
+    @Column(name = "star_5", nullable = false)
+    private long star5;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -3,6 +3,7 @@ package com.deliveryapp.catchabite.repository;
 import com.deliveryapp.catchabite.entity.Address;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -10,6 +11,9 @@ public interface AddressRepository extends JpaRepository<Address, Long> {
 
     // 사용자 주소 받아오기
     List<Address> findAllByAppUser_AppUserId(Long appUserId);
+
+    // 로그인 사용자 본인의 배송지인지 함께 확인
+    Optional<Address> findByAddressIdAndAppUser_AppUserEmail(Long addressId, String appUserEmail);
 }
 
 
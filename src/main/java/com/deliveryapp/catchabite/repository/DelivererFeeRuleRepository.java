@@ -1,10 +1,12 @@
 package com.deliveryapp.catchabite.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.deliveryapp.catchabite.entity.DelivererFeeRule;
 
@@ -41,4 +43,27 @@ public interface DelivererFeeRuleRepository extends JpaRepository<DelivererFeeRu
                 )
             """)
     long countOverlaps(Long delivererId, Long newMinM, Integer newMaxM, Long excludeRuleId);
+
+    // 캐시 적재용: 배달원들의 활성 rule 전체 (DelivererFeeRuleCache)
+    @Query("""
+            select r.deliverer.delivererId as delivererId,
+                   r.ruleId as ruleId,
+                   r.minM as minM,
+                   r.maxM as maxM,
+                   r.baseFee as baseFee,
+                   r.perKmFee as perKmFee
+            from DelivererFeeRule r
+            where r.deliverer.delivererId in :delivererIds
+            and r.activeYn = 'Y'
+            """)
+    List<RuleRow> findActiveRows(@Param("delivererIds") Collection<Long> delivererIds);
+
+    interface RuleRow {
+        Long getDelivererId();
+        Long getRuleId();
+        Integer getMinM();
+        Integer getMaxM();
+        Long getBaseFee();
+        Long getPerKmFee();
+    }
 }
@@ -17,6 +17,11 @@ public interface FavoriteStoreRepository extends JpaRepository<FavoriteStore, Lo
 
     Optional<FavoriteStore> findByAppUser_AppUserIdAndStore_StoreId(Long appUserId, Long storeId);
 
+    // 매장 상세 - 로그인 사용자(이메일)의 해당 매장 즐겨찾기 id만 조회 (사용자 조회 + 즐겨찾기 조회를 한 번에)
+    @Query("SELECT fs.favoriteId FROM FavoriteStore fs " +
+           "WHERE fs.appUser.appUserEmail = :email AND fs.store.storeId = :storeId")
+    Optional<Long> findFavoriteId(@Param("email") String email, @Param("storeId") Long storeId);
+
     // Fetch FavoriteStore + Store를 사용해서 N+1을 방지함
     @Query("SELECT fs FROM FavoriteStore fs JOIN FETCH fs.store WHERE fs.appUser.id = :userId")
     List<FavoriteStore> findAllByAppUserId(@Param("userId") Long userId);
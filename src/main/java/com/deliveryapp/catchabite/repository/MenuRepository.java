@@ -32,4 +32,14 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
            "LEFT JOIN FETCH m.menuOptionGroups mog " +
            "WHERE m.menuId = :menuId")
     Optional<Menu> findMenuDetailById(@Param("menuId") Long menuId);;
+
+    // 검색 인덱스(StoreSearchIndex) 적재용 - 메뉴명만 조회
+    @Query("SELECT m.menuId AS menuId, m.store.storeId AS storeId, m.menuName AS menuName FROM Menu m")
+    List<MenuSearchRow> findSearchRows();
+
+    interface MenuSearchRow {
+        Long getMenuId();
+        Long getStoreId();
+        String getMenuName();
+    }
 }
@@ -1,26 +1,172 @@
 package com.deliveryapp.catchabite.repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+import com.deliveryapp.catchabite.dto.OrderDeliveryRow;
+import com.deliveryapp.catchabite.entity.Deliverer;
 import com.deliveryapp.catchabite.entity.OrderDelivery;
 
-import jakarta.persistence.LockModeType;
-
 public interface OrderDeliveryRepository extends JpaRepository<OrderDelivery, Long> {
 
-    // 배달기사가 동시 수락/중복 수락을 막기위해 PESSIMISTIC_WRITE(비관적 락)를 이용
-    // '비관적 락'은 트랜젝션이 끝나기 전까지는 해당 트랙젝션이 이용하고 있는 DB의 값을 변경하지 않고 놔두다가, 이용이 끝나면 변경한다.
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select od from OrderDelivery od where od.deliveryId = :deliveryId")
-    Optional<OrderDelivery> findByIdForUpdate(@Param("deliveryId") Long deliveryId);
+    /* 배달 상태 전이 (조건부 UPDATE) ***********************************************************************************/
+    // 배달기사의 동시 수락/중복 수락을 막기 위해 비관적 락(SELECT ... FOR UPDATE) 대신
+    // "현재 상태 + 배정된 배달원"을 where 조건에 넣은 UPDATE 한 문장으로 전이한다.
+    // 동시에 여러 요청이 와도 조건을 만족하는 1건만 반영(반환값 1)되고 나머지는 0을 돌려받는다.
+    // 벌크 UPDATE는 @Version을 자동으로 올리지 않으므로 version을 직접 증가시킨다.
+
+    // 수락: ASSIGNED -> ACCEPTED
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                update OrderDelivery od
+                set od.orderDeliveryStatus = :to,
+                    od.orderAcceptTime = :now,
+                    od.version = od.version + 1
+                where od.deliveryId = :deliveryId
+                and od.orderDeliveryStatus = :from
+                and od.deliverer.delivererId = :delivererId
+        """)
+    int acceptIfAssigned(
+        @Param("deliveryId") Long deliveryId,
+        @Param("delivererId") Long delivererId,
+        @Param("from") DeliveryStatus from,
+        @Param("to") DeliveryStatus to,
+        @Param("now") LocalDateTime now
+        );
+
+    // 픽업완료: ACCEPTED -> PICKED_UP
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                update OrderDelivery od
+                set od.orderDeliveryStatus = :to,
+                    od.orderDeliveryPickupTime = :now,
+                    od.version = od.version + 1
+                where od.deliveryId = :deliveryId
+                and od.orderDeliveryStatus = :from
+                and od.deliverer.delivererId = :delivererId
+                and od.orderDeliveryPickupTime is null
+        """)
+    int pickupIfAccepted(
+        @Param("deliveryId") Long deliveryId,
+        @Param("delivererId") Long delivererId,
+        @Param("from") DeliveryStatus from,
+        @Param("to") DeliveryStatus to,
+        @Param("now") LocalDateTime now
+        );
+
+    // 배달시작: PICKED_UP -> IN_DELIVERY
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                update OrderDelivery od
+                set od.orderDeliveryStatus = :to,
+                    od.orderDeliveryStartTime = :now,
+                    od.version = od.version + 1
+                where od.deliveryId = :deliveryId
+                and od.orderDeliveryStatus = :from
+                and od.deliverer.delivererId = :delivererId
+                and od.orderDeliveryStartTime is null
+        """)
+    int startIfPickedUp(
+        @Param("deliveryId") Long deliveryId,
+        @Param("delivererId") Long delivererId,
+        @Param("from") DeliveryStatus from,
+        @Param("to") DeliveryStatus to,
+        @Param("now") LocalDateTime now
+        );
+
+    // 배달완료: IN_DELIVERY -> DELIVERED (+ 실제 소요 시간)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                update OrderDelivery od
+                set od.orderDeliveryStatus = :to,
+                    od.orderDeliveryCompleteTime = :now,
+                    od.orderDeliveryActTime = :actMinutes,
+                    od.version = od.version + 1
+                where od.deliveryId = :deliveryId
+                and od.orderDeliveryStatus = :from
+                and od.deliverer.delivererId = :delivererId
+                and od.orderDeliveryCompleteTime is null
+        """)
+    int completeIfInDelivery(
+        @Param("deliveryId") Long deliveryId,
+        @Param("delivererId") Long delivererId,
+        @Param("from") DeliveryStatus from,
+        @Param("to") DeliveryStatus to,
+        @Param("now") LocalDateTime now,
+        @Param("actMinutes") Integer actMinutes
+        );
+
+    // 재오픈: CANCELLED(미완료) -> PENDING, 배달 컨텍스트 초기화
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                update OrderDelivery od
+                set od.orderDeliveryStatus = :to,
+                    od.deliverer = null,
+                    od.orderAssignedTime = null,
+                    od.orderAcceptTime = null,
+                    od.orderDeliveryPickupTime = null,
+                    od.orderDeliveryStartTime = null,
+                    od.orderDeliveryCompleteTime = null,
+                    od.orderDeliveryActTime = null,
+                    od.version = od.version + 1
+                where od.deliveryId = :deliveryId
+                and od.orderDeliveryStatus = :from
+                and od.orderDeliveryCompleteTime is null
+        """)
+    int reopenIfCancelled(
+        @Param("deliveryId") Long deliveryId,
+        @Param("from") DeliveryStatus from,
+        @Param("to") DeliveryStatus to
+        );
+    /*******************************************************************************************************************/
+
+    // 조회 화면용 생성자 프로젝션 (OrderDeliveryRow, 서비스에서 OrderDeliveryDTO로 변환)
+    // order_delivery 컬럼만 읽고 엔티티를 영속성 컨텍스트에 올리지 않는다. (쿼리에 "left join od.deliverer d" 필요)
+    String DELIVERY_DTO = """
+            new com.deliveryapp.catchabite.dto.OrderDeliveryRow(
+                od.deliveryId, od.storeOrder.orderId, d.delivererId,
+                od.orderAcceptTime, od.orderDeliveryPickupTime, od.orderDeliveryStartTime, od.orderDeliveryCompleteTime,
+                od.orderDeliveryDistance, od.orderDeliveryEstTime, od.orderDeliveryActTime,
+                od.orderDeliveryStatus, od.orderDeliveryCreatedDate,
+                od.storeLatitude, od.storeLongitude, od.dropoffLatitude, od.dropoffLongitude)
+            """;
+
+    // 배달 단건 조회 DTO (주문 고객)
+    @Query("select " + DELIVERY_DTO + """
+                from OrderDelivery od
+                left join od.deliverer d
+                where od.deliveryId = :deliveryId
+                and od.storeOrder.appUser.appUserId = :userId
+        """)
+    Optional<OrderDeliveryRow> findDeliveryDtoForUser(@Param("deliveryId") Long deliveryId, @Param("userId") Long userId);
+
+    // 내 매장 배달 단건 조회 DTO (매장 주인)
+    @Query("select " + DELIVERY_DTO + """
+                from OrderDelivery od
+                left join od.deliverer d
+                where od.deliveryId = :deliveryId
+                and od.storeOrder.store.storeOwner.storeOwnerId = :storeOwnerId
+        """)
+    Optional<OrderDeliveryRow> findDeliveryDtoForStore(@Param("deliveryId") Long deliveryId, @Param("storeOwnerId") Long storeOwnerId);
+
+    // 내 배달 단건 조회 DTO (배달원)
+    @Query("select " + DELIVERY_DTO + """
+                from OrderDelivery od
+                join od.deliverer d
+                where od.deliveryId = :deliveryId
+                and d.delivererId = :delivererId
+        """)
+    Optional<OrderDeliveryRow> findDeliveryDtoForDeliverer(@Param("deliveryId") Long deliveryId, @Param("delivererId") Long delivererId);
 
     /* 01/19 16:03 수정 -> 01/20  *************************************************************************************************/
     // 배달 단건 조회 (주문 고객)
@@ -34,16 +180,21 @@ public interface OrderDeliveryRepository extends JpaRepository<OrderDelivery, Lo
         """)
     Optional<OrderDelivery> findDeliveryForUser(@Param("deliveryId") Long deliveryId, @Param("userId") Long userId);
 
-    // 주문들의 배달 목록 (주문 고객)
-    @Query("""
-                select od from OrderDelivery od
-                join fetch od.storeOrder so
-                join fetch so.appUser au
-                left join fetch od.deliverer d
-                where au.appUserId = :userId
-                order by so.orderDate desc
+    // 주문들의 배달 목록 (주문 고객) - keyset 페이지 (cursor 이후 pageable.size건)
+    @Query("select " + DELIVERY_DTO + """
+                from OrderDelivery od
+                left join od.deliverer d
+                where od.storeOrder.appUser.appUserId = :userId
+                and (od.orderDeliveryCreatedDate < :cursorDate
+                     or (od.orderDeliveryCreatedDate = :cursorDate and od.deliveryId < :cursorId))
+                order by od.orderDeliveryCreatedDate desc, od.deliveryId desc
         """)
-    List<OrderDelivery> findDeliveriesForUser(@Param("userId") Long userId);
+    List<OrderDeliveryRow> findDeliveriesForUser(
+        @Param("userId") Long userId,
+        @Param("cursorDate") LocalDateTime cursorDate,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+        );
 
     // 내 매장 배달 단건 조회 (매장 주인)
     @Query("""
@@ -56,27 +207,38 @@ public interface OrderDeliveryRepository extends JpaRepository<OrderDelivery, Lo
         """)
     Optional<OrderDelivery> findForStore(@Param("deliveryId") Long deliveryId, @Param("storeOwnerId") Long storeOwnerId);
 
-    // 내 매장 전체 배달 목록 조회 (매장 주인)
-    @Query("""
-                select distinct od from OrderDelivery od
-                join fetch od.storeOrder so
-                join fetch so.store s
-                join fetch s.storeOwner ow
-                where ow.storeOwnerId = :storeOwnerId
+    // 내 매장 전체 배달 목록 조회 (매장 주인) - keyset 페이지
+    @Query("select " + DELIVERY_DTO + """
+                from OrderDelivery od
+                left join od.deliverer d
+                where od.storeOrder.store.storeOwner.storeOwnerId = :storeOwnerId
+                and (od.orderDeliveryCreatedDate < :cursorDate
+                     or (od.orderDeliveryCreatedDate = :cursorDate and od.deliveryId < :cursorId))
+                order by od.orderDeliveryCreatedDate desc, od.deliveryId desc
         """)
-    List<OrderDelivery> findDeliveriesByStore(@Param("storeOwnerId") Long storeOwnerId);
+    List<OrderDeliveryRow> findDeliveriesByStore(
+        @Param("storeOwnerId") Long storeOwnerId,
+        @Param("cursorDate") LocalDateTime cursorDate,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+        );
 
-    // 상태별 조회 (매장 주인)
-    @Query("""
-                select distinct od from OrderDelivery od
-                join fetch od.storeOrder so   
-                join fetch so.store s 
-                where s.storeOwner.storeOwnerId = :storeOwnerId
-                and od.orderDeliveryStatus = :orderDeliveryStatus             
+    // 상태별 조회 (매장 주인) - keyset 페이지
+    @Query("select " + DELIVERY_DTO + """
+                from OrderDelivery od
+                left join od.deliverer d
+                where od.storeOrder.store.storeOwner.storeOwnerId = :storeOwnerId
+                and od.orderDeliveryStatus = :orderDeliveryStatus
+                and (od.orderDeliveryCreatedDate < :cursorDate
+                     or (od.orderDeliveryCreatedDate = :cursorDate and od.deliveryId < :cursorId))
+                order by od.orderDeliveryCreatedDate desc, od.deliveryId desc
         """)
-    List<OrderDelivery> findDeliveriesInStatus(
-        @Param("storeOwnerId") Long storeOwnerId, 
-        @Param("orderDeliveryStatus") DeliveryStatus orderDeliveryStatus
+    List<OrderDeliveryRow> findDeliveriesInStatus(
+        @Param("storeOwnerId") Long storeOwnerId,
+        @Param("orderDeliveryStatus") DeliveryStatus orderDeliveryStatus,
+        @Param("cursorDate") LocalDateTime cursorDate,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
         );
 
     // 내 배달 단건 조회 (배달원), '배정전' 상태에서는 delivererId가 null이 될 수 있기에 외부 조인을 함
@@ -92,29 +254,39 @@ public interface OrderDeliveryRepository extends JpaRepository<OrderDelivery, Lo
         @Param("delivererId") Long delivererId
         );
 
-    // 내 배달 목록 (배달원)
-    // order_delivery와 deliverer 테이블을 내부 조인시켜 delivererId를 찾는다.
-    @Query("""
-                select distinct od from OrderDelivery od
-                join fetch od.storeOrder so
-                join fetch od.deliverer d
+    // 내 배달 목록 (배달원) - keyset 페이지
+    // order_delivery.deliverer_id만으로 거르므로 (deliverer_id, created_date, delivery_id) 인덱스에서 바로 seek 한다.
+    @Query("select " + DELIVERY_DTO + """
+                from OrderDelivery od
+                left join od.deliverer d
                 where d.delivererId = :delivererId
-                order by od.orderDeliveryCreatedDate desc
+                and (od.orderDeliveryCreatedDate < :cursorDate
+                     or (od.orderDeliveryCreatedDate = :cursorDate and od.deliveryId < :cursorId))
+                order by od.orderDeliveryCreatedDate desc, od.deliveryId desc
         """)
-     List<OrderDelivery> findByDeliverer_DelivererId(@Param("delivererId") Long delivererId);
+     List<OrderDeliveryRow> findByDeliverer_DelivererId(
+        @Param("delivererId") Long delivererId,
+        @Param("cursorDate") LocalDateTime cursorDate,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+        );
 
-      // 상태별 내 배달 조회 (배달원)
-     @Query("""
-                select distinct od from OrderDelivery od
-                join fetch od.storeOrder so
-                join fetch od.deliverer d
+      // 상태별 내 배달 조회 (배달원) - keyset 페이지
+     @Query("select " + DELIVERY_DTO + """
+                from OrderDelivery od
+                left join od.deliverer d
                 where d.delivererId = :delivererId
                 and od.orderDeliveryStatus = :orderDeliveryStatus
-                order by od.orderDeliveryCreatedDate desc
+                and (od.orderDeliveryCreatedDate < :cursorDate
+                     or (od.orderDeliveryCreatedDate = :cursorDate and od.deliveryId < :cursorId))
+                order by od.orderDeliveryCreatedDate desc, od.deliveryId desc
         """)
-     List<OrderDelivery> findDeliveriesByDelivererInStatus(
-        @Param("delivererId") Long delivererId, 
-        @Param("orderDeliveryStatus") DeliveryStatus orderDeliveryStatus
+     List<OrderDeliveryRow> findDeliveriesByDelivererInStatus(
+        @Param("delivererId") Long delivererId,
+        @Param("orderDeliveryStatus") DeliveryStatus orderDeliveryStatus,
+        @Param("cursorDate") LocalDateTime cursorDate,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
         );
     /*******************************************************************************************************************/
 
@@ -128,4 +300,252 @@ public interface OrderDeliveryRepository extends JpaRepository<OrderDelivery, Lo
 
     List<OrderDelivery> findByDeliveryIdInAndDeliverer_DelivererId(List<Long> deliveryIds, Long delivererId);
     /*******************************************************************************************************************/
+
+    // 상태별 + 매장 좌표가 있는 배달 조회 (PendingDeliveryIndex 기동 시 적재용)
+    @Query("""
+                select od from OrderDelivery od
+                where od.orderDeliveryStatus = :orderDeliveryStatus
+                and od.storeLatitude is not null
+                and od.storeLongitude is not null
+        """)
+    List<OrderDelivery> findWithStoreCoordinatesByStatus(@Param("orderDeliveryStatus") DeliveryStatus orderDeliveryStatus);
+
+    /* 자동 배차(DeliveryDispatchScheduler) ****************************************************************************/
+    // 배차 후보: 좌표가 있는 대기 배달을 오래된 순으로 (한 사이클 최대 건수는 Pageable로 제한)
+    @Query("""
+                select od from OrderDelivery od
+                where od.orderDeliveryStatus = :orderDeliveryStatus
+                and od.deliverer is null
+                and od.storeLatitude is not null
+                and od.storeLongitude is not null
+                order by od.orderDeliveryCreatedDate asc, od.deliveryId asc
+        """)
+    List<OrderDelivery> findDispatchCandidates(
+        @Param("orderDeliveryStatus") DeliveryStatus orderDeliveryStatus,
+        Pageable pageable
+        );
+
+    // 라이더별 진행 중 배달 수 (OnlineRiderRegistry 보정용)
+    @Query("""
+                select od.deliverer.delivererId as delivererId, count(od) as activeCount
+                from OrderDelivery od
+                where od.deliverer is not null
+                and od.orderDeliveryStatus in :statuses
+                group by od.deliverer.delivererId
+        """)
+    List<ActiveCount> countActiveByDeliverer(@Param("statuses") Collection<DeliveryStatus> statuses);
+
+    interface ActiveCount {
+        Long getDelivererId();
+        Long getActiveCount();
+    }
+
+    // 라이더 1명의 진행 중 배달 수 (온라인 등록 시)
+    long countByDeliverer_DelivererIdAndOrderDeliveryStatusIn(Long delivererId, Collection<DeliveryStatus> statuses);
+
+    // 대기 상태이고 배달원이 비어있을 때만 배정 (수동 배정과 경합 시 한쪽만 성공)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                update OrderDelivery od
+                set od.deliverer = :deliverer,
+                    od.orderDeliveryStatus = :assigned,
+                    od.orderAssignedTime = :now,
+                    od.version = od.version + 1
+                where od.deliveryId = :deliveryId
+                and od.orderDeliveryStatus = :pending
+                and od.deliverer is null
+        """)
+    int assignIfPending(
+        @Param("deliveryId") Long deliveryId,
+        @Param("deliverer") Deliverer deliverer,
+        @Param("pending") DeliveryStatus pending,
+        @Param("assigned") DeliveryStatus assigned,
+        @Param("now") LocalDateTime now
+        );
+
+    // 미수락 배차 만료: 배차 시각이 기준 이전인 ASSIGNED 건을 PENDING으로 되돌린다. (AssignmentExpirySweeper)
+    // 만료 판정 이후 수락/재배차된 건은 조건(상태, 배차 시각)에서 걸러진다. (배차 시각이 없는 기존 데이터는 만료 대상)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                update OrderDelivery od
+                set od.deliverer = null,
+                    od.orderDeliveryStatus = :pending,
+                    od.orderAssignedTime = null,
+                    od.version = od.version + 1
+                where od.deliveryId in :deliveryIds
+                and od.orderDeliveryStatus = :assigned
+                and (od.orderAssignedTime is null or od.orderAssignedTime <= :assignedBefore)
+        """)
+    int expireAssignments(
+        @Param("deliveryIds") Collection<Long> deliveryIds,
+        @Param("assigned") DeliveryStatus assigned,
+        @Param("pending") DeliveryStatus pending,
+        @Param("assignedBefore") LocalDateTime assignedBefore
+        );
+
+    // 기동 시 만료 타이머 재적재용: ASSIGNED 건의 배차 시각
+    @Query("""
+                select od.deliveryId as deliveryId, od.orderAssignedTime as orderAssignedTime
+                from OrderDelivery od
+                where od.orderDeliveryStatus = :assigned
+        """)
+    List<AssignedRow> findAssignedRows(@Param("assigned") DeliveryStatus assigned);
+
+    interface AssignedRow {
+        Long getDeliveryId();
+        LocalDateTime getOrderAssignedTime();
+    }
+
+    // 상태 변경 이벤트 수신 대상 (주문 고객/매장 사장/배달원)
+    @Query("""
+                select od.deliveryId as deliveryId,
+                       so.orderId as orderId,
+                       od.orderDeliveryStatus as orderDeliveryStatus,
+                       au.appUserId as appUserId,
+                       o.storeOwnerId as storeOwnerId,
+                       d.delivererId as delivererId,
+                       s.storeId as storeId,
+                       od.storeLatitude as storeLatitude,
+                       od.storeLongitude as storeLongitude
+                from OrderDelivery od
+                join od.storeOrder so
+                join so.appUser au
+                join so.store s
+                join s.storeOwner o
+                left join od.deliverer d
+                where od.deliveryId = :deliveryId
+        """)
+    Optional<EventTarget> findEventTarget(@Param("deliveryId") Long deliveryId);
+
+    interface EventTarget {
+        Long getDeliveryId();
+        Long getOrderId();
+        DeliveryStatus getOrderDeliveryStatus();
+        Long getAppUserId();
+        Long getStoreOwnerId();
+        Long getDelivererId();
+        Long getStoreId();
+        BigDecimal getStoreLatitude();
+        BigDecimal getStoreLongitude();
+    }
+
+    // 기간 내 배달완료 건이 있는 배달원 (배달원 정산 대상)
+    @Query("""
+                select distinct od.deliverer.delivererId
+                from OrderDelivery od
+                where od.orderDeliveryStatus = :status
+                and od.orderDeliveryCompleteTime >= :fromAt
+                and od.orderDeliveryCompleteTime < :toAt
+        """)
+    List<Long> findDelivererIdsCompletedBetween(
+        @Param("status") DeliveryStatus status,
+        @Param("fromAt") LocalDateTime fromAt,
+        @Param("toAt") LocalDateTime toAt
+        );
+
+    // 거리/예상시간 미계산 배달 (매장/도착지 좌표가 모두 있는 건만, delivery_id 순 keyset)
+    @Query("""
+                select od.deliveryId as deliveryId,
+                       od.storeLatitude as storeLatitude, od.storeLongitude as storeLongitude,
+                       od.dropoffLatitude as dropoffLatitude, od.dropoffLongitude as dropoffLongitude
+                from OrderDelivery od
+                where od.orderDeliveryDistance is null
+                and od.deliveryId > :afterId
+                and od.storeLatitude is not null and od.storeLongitude is not null
+                and od.dropoffLatitude is not null and od.dropoffLongitude is not null
+                order by od.deliveryId
+        """)
+    List<RouteRow> findRoutePendingRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 지정한 배달 중 거리 미계산 건 (생성 직후 계산용)
+    @Query("""
+                select od.deliveryId as deliveryId,
+                       od.storeLatitude as storeLatitude, od.storeLongitude as storeLongitude,
+                       od.dropoffLatitude as dropoffLatitude, od.dropoffLongitude as dropoffLongitude
+                from OrderDelivery od
+                where od.deliveryId in :deliveryIds
+                and od.orderDeliveryDistance is null
+                and od.storeLatitude is not null and od.storeLongitude is not null
+                and od.dropoffLatitude is not null and od.dropoffLongitude is not null
+        """)
+    List<RouteRow> findRoutePendingRowsIn(@Param("deliveryIds") Collection<Long> deliveryIds);
+
+    interface RouteRow {
+        Long getDeliveryId();
+        BigDecimal getStoreLatitude();
+        BigDecimal getStoreLongitude();
+        BigDecimal getDropoffLatitude();
+        BigDecimal getDropoffLongitude();
+    }
+
+    // ETA 통계 적재용: 기간 내 배달완료 건 (delivery_id 순 keyset)
+    @Query("""
+                select od.deliveryId as deliveryId,
+                       s.storeId as storeId,
+                       od.orderDeliveryDistance as orderDeliveryDistance,
+                       od.orderDeliveryCompleteTime as orderDeliveryCompleteTime,
+                       od.orderDeliveryActTime as orderDeliveryActTime
+                from OrderDelivery od
+                join od.storeOrder so
+                join so.store s
+                where od.orderDeliveryStatus = :status
+                and od.orderDeliveryCompleteTime >= :since
+                and od.orderDeliveryActTime is not null
+                and od.deliveryId > :afterId
+                order by od.deliveryId
+        """)
+    List<CompletedRow> findCompletedRows(
+        @Param("status") DeliveryStatus status,
+        @Param("since") LocalDateTime since,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+        );
+
+    interface CompletedRow {
+        Long getDeliveryId();
+        Long getStoreId();
+        BigDecimal getOrderDeliveryDistance();
+        LocalDateTime getOrderDeliveryCompleteTime();
+        Integer getOrderDeliveryActTime();
+    }
+
+    // 라이더의 진행 중 배달 (묶음 경로 계획용, 매장/도착지 좌표가 있는 건만)
+    @Query("""
+                select od from OrderDelivery od
+                where od.deliverer.delivererId = :delivererId
+                and od.orderDeliveryStatus in :statuses
+                and od.storeLatitude is not null and od.storeLongitude is not null
+                and od.dropoffLatitude is not null and od.dropoffLongitude is not null
+                order by od.deliveryId
+        """)
+    List<OrderDelivery> findActiveWithCoordinates(
+        @Param("delivererId") Long delivererId,
+        @Param("statuses") Collection<DeliveryStatus> statuses
+        );
+
+    // 수요/공급 히트맵 재적재용: 지정 상태 배달의 매장 좌표
+    @Query("""
+                select od.deliveryId as deliveryId,
+                       s.storeId as storeId,
+                       od.storeLatitude as storeLatitude,
+                       od.storeLongitude as storeLongitude,
+                       od.orderDeliveryStatus as orderDeliveryStatus
+                from OrderDelivery od
+                join od.storeOrder so
+                join so.store s
+                where od.orderDeliveryStatus in :statuses
+                and od.storeLatitude is not null
+                and od.storeLongitude is not null
+        """)
+    List<HeatRow> findHeatRows(@Param("statuses") Collection<DeliveryStatus> statuses);
+
+    interface HeatRow {
+        Long getDeliveryId();
+        Long getStoreId();
+        BigDecimal getStoreLatitude();
+        BigDecimal getStoreLongitude();
+        DeliveryStatus getOrderDeliveryStatus();
+    }
+
+    /*******************************************************************************************************************/
 }
@@ -2,7 +2,10 @@ package com.deliveryapp.catchabite.repository;
 
 import com.deliveryapp.catchabite.entity.StoreImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +16,16 @@ public interface StoreImageRepository extends JpaRepository<StoreImage, Long> {
     Optional<StoreImage> findByStoreImageIdAndStore_StoreId(Long storeImageId, Long storeId);
 
     void deleteAllByStore_StoreId(Long storeId);
+
+    /**
+     * 매장 목록의 이미지 URL을 IN 쿼리 한 번으로 조회 (매장별 N+1 방지)
+     */
+    @Query("SELECT si.store.storeId AS storeId, si.storeImageUrl AS storeImageUrl " +
+           "FROM StoreImage si WHERE si.store.storeId IN :storeIds ORDER BY si.storeImageId")
+    List<StoreImageUrlRow> findImageUrlsByStoreIds(@Param("storeIds") Collection<Long> storeIds);
+
+    interface StoreImageUrlRow {
+        Long getStoreId();
+        String getStoreImageUrl();
+    }
 }
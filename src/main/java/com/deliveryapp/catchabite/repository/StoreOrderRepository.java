@@ -69,4 +69,16 @@ public interface StoreOrderRepository extends JpaRepository<StoreOrder, Long> {
            "GROUP BY o.store " +
            "ORDER BY COUNT(o) DESC")
     List<Store> findMostFrequentStores(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * since 이후 주문의 (매장, 주문 시각). 기동 시 인기 매장 카운터(StorePopularityCounters)의 최근 구간을 채울 때 사용
+     */
+    @Query("SELECT o.store.storeId AS storeId, o.orderDate AS orderDate FROM StoreOrder o " +
+           "WHERE o.orderDate >= :since")
+    List<OrderStampRow> findOrderStampsSince(@Param("since") LocalDateTime since);
+
+    interface OrderStampRow {
+        Long getStoreId();
+        LocalDateTime getOrderDate();
+    }
 }
@@ -5,10 +5,12 @@ import com.deliveryapp.catchabite.domain.enumtype.StoreOpenStatus;
 import com.deliveryapp.catchabite.entity.Store;
 
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,11 +41,39 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
      */
     List<Store> findByStoreCategory(StoreCategory category);
 
+    /**
+     * 사용자 - 홈 피드용 음식 분류별 가게 상위 N곳 (평점 순, idx_store_category_open_rating)
+     * findByStoreCategory와 달리 카탈로그 크기와 관계없이 pageable 크기만큼만 읽는다.
+     */
+    @Query("SELECT s FROM Store s " +
+           "WHERE s.storeCategory = :category " +
+           "AND s.storeOpenStatus = :status " +
+           "ORDER BY s.storeRating DESC, s.storeId")
+    List<Store> findTopByCategory(@Param("category") StoreCategory category,
+                                  @Param("status") StoreOpenStatus status,
+                                  Pageable pageable);
+
     /**
      * 사용자 -  영업 중인 가게 조회
      */
     List<Store> findByStoreOpenStatus(StoreOpenStatus status);
 
+    /**
+     * 사용자 - 랜덤 매장 피드 한 페이지 (storeRandomKey, storeId 순 seek)
+     * (afterKey, afterId) 다음부터 untilKey 미만까지, idx_store_open_random 인덱스 범위만 읽는다.
+     */
+    @Query("SELECT s FROM Store s " +
+           "WHERE s.storeOpenStatus = :status " +
+           "AND s.storeRandomKey < :untilKey " +
+           "AND (s.storeRandomKey > :afterKey " +
+           "     OR (s.storeRandomKey = :afterKey AND s.storeId > :afterId)) " +
+           "ORDER BY s.storeRandomKey, s.storeId")
+    List<Store> findRandomPage(@Param("status") StoreOpenStatus status,
+                               @Param("afterKey") double afterKey,
+                               @Param("afterId") long afterId,
+                               @Param("untilKey") double untilKey,
+                               Pageable pageable);
+
     /**
      * 가게와 메뉴 카테고리를 한 번에 조회 (Fetch Join)
      * 주의: '메뉴(Menus)'까지 여기서 한 번에 Fetch Join 하면 
@@ -53,4 +83,52 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
            "LEFT JOIN FETCH s.menuCategories mc " +
            "WHERE s.storeId = :storeId")
     Optional<Store> findStoreWithCategoriesById(@Param("storeId") Long storeId);
+
+    /**
+     * 검색 인덱스(StoreSearchIndex) 적재용 - 매장명/소개/분류만 조회
+     */
+    @Query("SELECT s.storeId AS storeId, s.storeName AS storeName, " +
+           "s.storeIntro AS storeIntro, s.storeCategory AS storeCategory " +
+           "FROM Store s")
+    List<StoreSearchRow> findSearchRows();
+
+    interface StoreSearchRow {
+        Long getStoreId();
+        String getStoreName();
+        String getStoreIntro();
+        StoreCategory getStoreCategory();
+    }
+
+    /**
+     * 자동완성(StoreAutocomplete) 적재용 - 매장명과 인기 가중치 컬럼만 조회
+     */
+    @Query("SELECT s.storeId AS storeId, s.storeName AS storeName, " +
+           "s.storeRating AS storeRating, s.storeTotalOrder AS storeTotalOrder " +
+           "FROM Store s")
+    List<AutocompleteStoreRow> findAutocompleteRows();
+
+    interface AutocompleteStoreRow {
+        Long getStoreId();
+        String getStoreName();
+        Double getStoreRating();
+        Integer getStoreTotalOrder();
+    }
+
+    /**
+     * 위치 색인(StoreGeoIndex), 수요 히트맵(DemandHeatmap) 적재용 - 주소/좌표/배달 반경/영업 상태만 조회
+     */
+    @Query("SELECT s.storeId AS storeId, s.storeAddress AS storeAddress, " +
+           "s.storeLatitude AS storeLatitude, s.storeLongitude AS storeLongitude, s.storeMaxDist AS storeMaxDist, " +
+           "s.storeOpenStatus AS storeOpenStatus " +
+           "FROM Store s")
+    List<StoreGeoRow> findGeoRows();
+
+    interface StoreGeoRow {
+        Long getStoreId();
+        String getStoreAddress();
+        BigDecimal getStoreLatitude();
+        BigDecimal getStoreLongitude();
+        Integer getStoreMaxDist();
+        StoreOpenStatus getStoreOpenStatus();
+    }
 }
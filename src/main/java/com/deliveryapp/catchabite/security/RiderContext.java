@@ -0,0 +1,41 @@
+package com.deliveryapp.catchabite.security;
+
+import com.deliveryapp.catchabite.entity.Deliverer;
+import com.deliveryapp.catchabite.repository.DelivererRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * 로그인 principal("RIDER:이메일")에서 배달원 PK를 찾는다. (OwnerContext의 라이더 버전)
+ * WebSocket(STOMP) 세션처럼 @AuthenticationPrincipal을 쓸 수 없는 곳에서 이용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RiderContext {
+
+    private final DelivererRepository delivererRepository;
+
+    public Long requireDelivererId(Principal principal) {
+        final String email = loginKey(principal, "unauthenticated rider");
+
+        final Deliverer deliverer = delivererRepository.findByDelivererEmail(email)
+                .orElseThrow(() -> new IllegalStateException("rider not found: " + email));
+
+        return deliverer.getDelivererId();
+    }
+
+    // "ACCOUNT_TYPE:LOGIN_KEY" 형태의 principal name에서 LOGIN_KEY만 꺼낸다.
+    static String loginKey(Principal principal, String errorMessage) {
+        if (principal == null || principal.getName() == null || principal.getName().isBlank()) {
+            throw new IllegalStateException(errorMessage);
+        }
+        String normalized = principal.getName().trim();
+        int colonIndex = normalized.indexOf(':');
+        if (colonIndex >= 0) {
+            normalized = normalized.substring(colonIndex + 1).trim();
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,98 @@
+package com.deliveryapp.catchabite.security;
+
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.service.OrderDeliveryService;
+import com.deliveryapp.catchabite.service.RiderLocationTracker;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP SUBSCRIBE 권한 확인
+ *
+ * - /topic/deliveries/{deliveryId}/location : 해당 배달의 주문 고객만, 라이더 배정 후 배달 진행 중일 때만
+ * - /topic/users/{appUserId}/deliveries, /topic/owners/{storeOwnerId}/deliveries, /topic/riders/{delivererId}/deliveries
+ *   : 로그인한 본인 PK와 같을 때만
+ * - 그 외 /topic/** : 로그인 사용자만
+ */
+@Component
+@RequiredArgsConstructor
+public class StompSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final Pattern DELIVERY_LOCATION_TOPIC =
+            Pattern.compile("^/topic/deliveries/(\\d+)/location$");
+    private static final Pattern DELIVERY_EVENT_TOPIC =
+            Pattern.compile("^/topic/(users|owners|riders)/(\\d+)/deliveries$");
+
+    private final UserContext userContext;
+    private final OwnerContext ownerContext;
+    private final RiderContext riderContext;
+    private final OrderDeliveryService orderDeliveryService;
+    private final RiderLocationTracker riderLocationTracker;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE) {
+            return message;
+        }
+
+        Principal principal = accessor.getUser();
+        if (principal == null) {
+            throw new MessageDeliveryException("로그인이 필요합니다.");
+        }
+
+        String destination = accessor.getDestination();
+        if (destination == null) return message;
+
+        try {
+            Matcher location = DELIVERY_LOCATION_TOPIC.matcher(destination);
+            if (location.matches()) {
+                if (!principal.getName().startsWith("USER:")) {
+                    throw new IllegalStateException("주문 고객만 배달원 위치를 구독할 수 있습니다.");
+                }
+                Long deliveryId = Long.valueOf(location.group(1));
+                Long appUserId = userContext.requireAppUserId(principal);
+                Long delivererId = orderDeliveryService.getTrackableDelivererIdForUser(deliveryId, appUserId);
+                riderLocationTracker.watch(deliveryId, delivererId);
+                return message;
+            }
+
+            Matcher events = DELIVERY_EVENT_TOPIC.matcher(destination);
+            if (events.matches()) {
+                Long topicOwnerId = Long.valueOf(events.group(2));
+                // principal은 "ACCOUNT_TYPE:LOGIN_KEY" 형태 (USER/OWNER/RIDER)
+                String accountType = switch (events.group(1)) {
+                    case "users" -> "USER:";
+                    case "owners" -> "OWNER:";
+                    default -> "RIDER:";
+                };
+                if (!principal.getName().startsWith(accountType)) {
+                    throw new IllegalStateException("본인 이벤트만 구독할 수 있습니다.");
+                }
+                Long myId = switch (accountType) {
+                    case "USER:" -> userContext.requireAppUserId(principal);
+                    case "OWNER:" -> ownerContext.requireStoreOwnerId(principal);
+                    default -> riderContext.requireDelivererId(principal);
+                };
+                if (!topicOwnerId.equals(myId)) {
+                    throw new IllegalStateException("본인 이벤트만 구독할 수 있습니다.");
+                }
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new MessageDeliveryException(e.getMessage());
+        }
+        return message;
+    }
+}
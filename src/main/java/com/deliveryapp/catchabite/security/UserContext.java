@@ -0,0 +1,28 @@
+package com.deliveryapp.catchabite.security;
+
+import com.deliveryapp.catchabite.entity.AppUser;
+import com.deliveryapp.catchabite.repository.AppUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * 로그인 principal("USER:이메일 또는 휴대폰")에서 고객 PK를 찾는다.
+ * WebSocket(STOMP) 구독 권한 확인 등에서 이용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserContext {
+
+    private final AppUserRepository appUserRepository;
+
+    public Long requireAppUserId(Principal principal) {
+        final String loginKey = RiderContext.loginKey(principal, "unauthenticated user");
+
+        final AppUser user = appUserRepository.findByAppUserEmailOrAppUserMobile(loginKey, loginKey)
+                .orElseThrow(() -> new IllegalStateException("user not found: " + loginKey));
+
+        return user.getAppUserId();
+    }
+}
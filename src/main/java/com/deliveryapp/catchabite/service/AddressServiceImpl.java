@@ -1,6 +1,7 @@
 package com.deliveryapp.catchabite.service;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -23,6 +24,7 @@ public class AddressServiceImpl implements AddressService {
     private final AppUserRepository appUserRepository;
     private final AddressRepository addressRepository;
     private final AddressConverter addressConverter;
+    private final GeocodingService geocodingService;
     
     //AppUser가 null인 경우, .orElse로 처리되며 
     @SuppressWarnings("null")
@@ -40,6 +42,7 @@ public class AddressServiceImpl implements AddressService {
             AppUser appUser = appUserRepository.findById(dto.getAppUserId())
                 .orElse(null);
             Address entity = addressConverter.toEntity(dto, appUser);
+            geocode(entity);
             Address saved = addressRepository.save(entity);
             return addressConverter.toDto(saved);
         }
@@ -108,11 +111,15 @@ public class AddressServiceImpl implements AddressService {
             throw new IllegalArgumentException("경로 ID와 DTO ID가 일치하지 않습니다.");
         }
 
+        String previousDetail = entity.getAddressDetail();
         entity.updateInfo(
             dto.getAddressDetail(), 
             dto.getAddressNickname(), 
             dto.getAddressEntranceMethod(), 
             dto.getAddressIsDefault());
+        if (!Objects.equals(entity.getAddressDetail(), previousDetail)) {
+            geocode(entity);
+        }
 
         // 변경된 DTO 확인
         log.info("=============================================");
@@ -150,6 +157,14 @@ public class AddressServiceImpl implements AddressService {
     //==========================================================
     // Helper Methods
     //==========================================================
+    // 상세 주소 -> 좌표 (가까운 매장 목록용, 변환하지 못하면 null)
+    private void geocode(Address entity) {
+        Geocoder.Point point = geocodingService.geocode(entity.getAddressDetail()).orElse(null);
+        entity.changeCoordinates(
+            point != null ? point.latitudeDecimal() : null,
+            point != null ? point.longitudeDecimal() : null);
+    }
+
     private void validateAddressId(Long addressId, String methodName) {
         if (addressId == null || addressId <= 0) {
             log.error("=============================================");
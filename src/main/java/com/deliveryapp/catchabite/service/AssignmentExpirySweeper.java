@@ -0,0 +1,76 @@
+package com.deliveryapp.catchabite.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository.AssignedRow;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 미수락 배차 만료 처리
+ *
+ * - 기동 시 DB의 ASSIGNED 건으로 AssignmentExpiryWheel을 다시 채운다. (배차 시각이 없는 기존 건은 지금부터 대기)
+ * - 틱마다 휠을 현재 시각까지 진행하고, 만료된 배달을 batch-size 단위의 조건부 UPDATE로 PENDING에 되돌린다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AssignmentExpirySweeper {
+
+    private final AssignmentExpiryWheel assignmentExpiryWheel;
+    private final OrderDeliveryRepository orderDeliveryRepository;
+    private final OrderDeliveryService orderDeliveryService;
+
+    @Value("${delivery.assignment.expiry-batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        assignmentExpiryWheel.clear();
+        long now = System.currentTimeMillis();
+        List<AssignedRow> rows = orderDeliveryRepository.findAssignedRows(DeliveryStatus.ASSIGNED);
+        for (AssignedRow row : rows) {
+            LocalDateTime assignedAt = row.getOrderAssignedTime();
+            long assignedAtMs = (assignedAt == null)
+                    ? now
+                    : assignedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            assignmentExpiryWheel.track(row.getDeliveryId(), assignedAtMs);
+        }
+        log.info("assignment expiry wheel rebuilt. outstanding={}", rows.size());
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.assignment.expiry-tick-ms:1000}")
+    public void sweep() {
+        List<Long> expired = assignmentExpiryWheel.advanceTo(System.currentTimeMillis());
+        if (expired.isEmpty()) return;
+
+        LocalDateTime assignedBefore = LocalDateTime.now().minus(Duration.ofMillis(assignmentExpiryWheel.getAcceptTimeoutMs()));
+        int reopened = 0;
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<Long> chunk = expired.subList(from, Math.min(from + batchSize, expired.size()));
+            try {
+                reopened += orderDeliveryService.expireAssignments(chunk, assignedBefore);
+            } catch (RuntimeException e) {
+                // 실패한 묶음은 다음 틱에 다시 시도한다.
+                log.warn("assignment expiry failed. size={}", chunk.size(), e);
+                long retryAt = System.currentTimeMillis() - assignmentExpiryWheel.getAcceptTimeoutMs();
+                chunk.forEach(id -> assignmentExpiryWheel.track(id, retryAt));
+            }
+        }
+        if (reopened > 0) {
+            log.info("expired unaccepted assignments. reopened={}, due={}", reopened, expired.size());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.TransactionUtils;
+
+/**
+ * 미수락 배차(ASSIGNED)의 만료 시각을 보관하는 계층형 타이머 휠 (hierarchical timing wheel)
+ *
+ * - 4단계 x 64칸. 1단계 칸 = 1틱, 2단계 칸 = 64틱, 3단계 칸 = 4,096틱, 4단계 칸 = 262,144틱
+ *   (틱 1초 기준 약 194일까지 표현, 그 이상은 마지막 칸에 두었다가 다시 내려보낸다)
+ * - 등록/취소는 칸의 이중 연결 리스트에 붙이고 떼는 O(1) 연산이다. 배달별 스레드/ScheduledFuture 없음.
+ * - 상위 단계 칸은 하위 단계가 한 바퀴 돌 때 한 번씩 하위로 내려보낸다(cascade).
+ * - 스스로 시계를 돌리지 않는다. AssignmentExpirySweeper가 주기적으로 advanceTo(now)를 호출한다.
+ *
+ * 모든 연산은 이 객체의 모니터로 직렬화한다.
+ */
+@Component
+public class AssignmentExpiryWheel {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN = 1L << (WHEEL_BITS * LEVELS);
+
+    private final long tickMs;
+
+    // 배차 후 수락 대기 시간
+    private final long acceptTimeoutMs;
+
+    // [단계][칸] 별 연결 리스트의 머리 (빈 칸은 null)
+    private final Node[][] heads = new Node[LEVELS][WHEEL_SIZE];
+    private final Map<Long, Node> byDeliveryId = new HashMap<>();
+
+    // 다음에 처리할 틱
+    private long currentTick;
+
+    private static final class Node {
+        final Long deliveryId;
+        final long deadlineTick;
+        int level;
+        int slot;
+        Node prev;
+        Node next;
+
+        Node(Long deliveryId, long deadlineTick) {
+            this.deliveryId = deliveryId;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+
+    public AssignmentExpiryWheel(
+            @Value("${delivery.assignment.expiry-tick-ms:1000}") long tickMs,
+            @Value("${delivery.assignment.accept-timeout-ms:60000}") long acceptTimeoutMs) {
+        if (tickMs <= 0) throw new IllegalArgumentException("tickMs must be > 0");
+        this.tickMs = tickMs;
+        this.acceptTimeoutMs = acceptTimeoutMs;
+        this.currentTick = System.currentTimeMillis() / tickMs;
+    }
+
+    public long getAcceptTimeoutMs() {
+        return acceptTimeoutMs;
+    }
+
+    /**
+     * assignedAtMs에 배차된 배달의 만료(배차 시각 + 수락 대기 시간)를 등록한다.
+     */
+    public void track(Long deliveryId, long assignedAtMs) {
+        schedule(deliveryId, assignedAtMs + acceptTimeoutMs);
+    }
+
+    /**
+     * 배달의 만료 시각을 등록한다. 이미 있으면 새 시각으로 바꾼다.
+     */
+    public synchronized void schedule(Long deliveryId, long deadlineMs) {
+        Node old = byDeliveryId.remove(deliveryId);
+        if (old != null) unlink(old);
+
+        // 이미 지난 시각은 다음 틱에 만료되도록 한다.
+        long deadlineTick = Math.max(currentTick, ceilDiv(deadlineMs, tickMs));
+        Node node = new Node(deliveryId, deadlineTick);
+        byDeliveryId.put(deliveryId, node);
+        place(node);
+    }
+
+    /**
+     * 등록된 만료를 취소한다. (수락/취소 등으로 ASSIGNED가 아니게 된 경우)
+     */
+    public synchronized void cancel(Long deliveryId) {
+        Node node = byDeliveryId.remove(deliveryId);
+        if (node != null) unlink(node);
+    }
+
+    public void trackAfterCommit(Long deliveryId, long assignedAtMs) {
+        TransactionUtils.runAfterCommit(() -> track(deliveryId, assignedAtMs));
+    }
+
+    public void cancelAfterCommit(Long deliveryId) {
+        TransactionUtils.runAfterCommit(() -> cancel(deliveryId));
+    }
+
+    /**
+     * nowMs까지 시계를 진행하고, 그 사이 만료된 배달 id를 반환한다.
+     */
+    public synchronized List<Long> advanceTo(long nowMs) {
+        long targetTick = nowMs / tickMs;
+        List<Long> expired = new ArrayList<>();
+
+        while (currentTick <= targetTick) {
+            int index = (int) (currentTick & WHEEL_MASK);
+
+            // 1단계가 한 바퀴 돌았으면 상위 단계의 해당 칸을 내려보낸다.
+            if (index == 0) {
+                for (int level = 1; level < LEVELS; level++) {
+                    int upperIndex = (int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+                    cascade(level, upperIndex);
+                    if (upperIndex != 0) break;
+                }
+            }
+
+            Node node = heads[0][index];
+            heads[0][index] = null;
+            while (node != null) {
+                Node next = node.next;
+                node.prev = node.next = null;
+                byDeliveryId.remove(node.deliveryId);
+                expired.add(node.deliveryId);
+                node = next;
+            }
+            currentTick++;
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return byDeliveryId.size();
+    }
+
+    public synchronized void clear() {
+        for (Node[] level : heads) Arrays.fill(level, null);
+        byDeliveryId.clear();
+    }
+
+    // 남은 틱 수에 맞는 단계를 고르고, 만료 틱의 해당 단계 비트로 칸을 정한다.
+    private void place(Node node) {
+        long delta = node.deadlineTick - currentTick;
+        if (delta >= MAX_SPAN) {
+            // 표현 범위를 넘는 건은 최상위 단계의 가장 먼 칸에 두고, 내려올 때 다시 배치한다.
+            link(node, LEVELS - 1, (int) (((currentTick + MAX_SPAN - 1) >>> (WHEEL_BITS * (LEVELS - 1))) & WHEEL_MASK));
+            return;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        link(node, level, (int) ((node.deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK));
+    }
+
+    private void cascade(int level, int index) {
+        Node node = heads[level][index];
+        heads[level][index] = null;
+        while (node != null) {
+            Node next = node.next;
+            node.prev = node.next = null;
+            place(node);
+            node = next;
+        }
+    }
+
+    private void link(Node node, int level, int slot) {
+        node.level = level;
+        node.slot = slot;
+        node.prev = null;
+        node.next = heads[level][slot];
+        if (node.next != null) node.next.prev = node;
+        heads[level][slot] = node;
+    }
+
+    private void unlink(Node node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else if (heads[node.level][node.slot] == node) {
+            heads[node.level][node.slot] = node.next;
+        }
+        if (node.next != null) node.next.prev = node.prev;
+        node.prev = node.next = null;
+    }
+
+    private static long ceilDiv(long a, long b) {
+        return -Math.floorDiv(-a, b);
+    }
+}
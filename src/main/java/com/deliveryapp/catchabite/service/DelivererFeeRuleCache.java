@@ -0,0 +1,160 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.TransactionUtils;
+import com.deliveryapp.catchabite.repository.DelivererFeeRuleRepository;
+import com.deliveryapp.catchabite.repository.DelivererFeeRuleRepository.RuleRow;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배달원별 활성 요금 rule(DelivererFeeRule) 메모리 캐시
+ *
+ * - 배달원마다 rule을 minM 오름차순 배열로 보관하고, 거리(distanceM)로 이진 탐색한다. (O(log n))
+ * - 매칭 기준은 DelivererFeeRuleRepository.findMatching과 같다:
+ *   minM <= d < maxM(또는 maxM null) 인 rule 중 minM이 가장 큰 것.
+ * - 정산처럼 배달원 여러 명을 한 번에 처리할 때는 preload로 한 번의 쿼리로 적재한다.
+ * - rule 추가/수정/비활성화 시 DelivererFeeRuleService가 커밋 이후 해당 배달원 캐시를 비운다.
+ * - DB에서 직접 바뀐 rule도 반영되도록 적재 후 ttl-ms가 지나면 다시 읽는다.
+ *   정산 실행은 시작 시 대상 배달원을 reload로 새로 읽으므로 캐시 나이와 무관하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DelivererFeeRuleCache {
+
+    private final DelivererFeeRuleRepository delivererFeeRuleRepository;
+
+    // delivererId -> minM 오름차순 rule 배열 (rule이 없는 배달원도 빈 배열로 캐시)
+    private final Map<Long, Loaded> rulesByDeliverer = new ConcurrentHashMap<>();
+
+    // 캐시 유효 시간(ms)
+    @Value("${deliverer.fee-rule.cache.ttl-ms:600000}")
+    private long ttlMs;
+
+    // evict 때마다 증가. 적재 도중 evict가 일어나면 읽어온 (오래된) 값을 버린다.
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 캐시된 요금 rule (엔티티와 분리된 불변 값)
+     * maxM이 null이면 상한 없음
+     */
+    public record FeeRule(Long ruleId, int minM, Integer maxM, long baseFee, long perKmFee) {
+
+        boolean covers(long distanceM) {
+            return distanceM >= minM && (maxM == null || distanceM < maxM);
+        }
+    }
+
+    private record Loaded(FeeRule[] rules, long loadedAtMs) {}
+
+    private static final FeeRule[] EMPTY = new FeeRule[0];
+
+    /**
+     * 배달원의 거리 구간에 맞는 rule을 찾는다.
+     */
+    public Optional<FeeRule> findMatching(Long delivererId, long distanceM) {
+        Loaded loaded = rulesByDeliverer.get(delivererId);
+        if (loaded == null || isExpired(loaded)) {
+            preload(List.of(delivererId));
+            loaded = rulesByDeliverer.get(delivererId);
+        }
+        return match((loaded == null) ? EMPTY : loaded.rules(), distanceM);
+    }
+
+    /**
+     * minM 오름차순 rule 배열에서 distanceM에 맞는 rule (findMatching의 매칭 규칙)
+     */
+    static Optional<FeeRule> match(FeeRule[] rules, long distanceM) {
+        // minM <= distanceM 인 마지막 위치
+        int lo = 0, hi = rules.length - 1, floor = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (rules[mid].minM() <= distanceM) {
+                floor = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+
+        // 구간이 겹치지 않으면(countOverlaps로 검증) 첫 후보에서 끝난다.
+        // 검증 이전에 들어간 겹치는 데이터가 있어도 findMatching과 같은 결과가 되도록 아래로 훑는다.
+        for (int i = floor; i >= 0; i--) {
+            if (rules[i].covers(distanceM)) return Optional.of(rules[i]);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 캐시에 없거나 유효 시간이 지난 배달원들의 활성 rule을 한 번의 쿼리로 적재한다.
+     */
+    public void preload(Collection<Long> delivererIds) {
+        List<Long> missing = new ArrayList<>();
+        for (Long id : delivererIds) {
+            if (id == null) continue;
+            Loaded loaded = rulesByDeliverer.get(id);
+            if (loaded == null || isExpired(loaded)) missing.add(id);
+        }
+        load(missing);
+    }
+
+    /**
+     * 캐시 여부와 관계없이 배달원들의 활성 rule을 DB에서 다시 읽는다. (정산 실행 시작 시)
+     */
+    public void reload(Collection<Long> delivererIds) {
+        load(delivererIds.stream().filter(id -> id != null).distinct().toList());
+    }
+
+    private void load(List<Long> delivererIds) {
+        if (delivererIds.isEmpty()) return;
+
+        long loadedGeneration = generation.get();
+        long loadedAtMs = System.currentTimeMillis();
+        Map<Long, List<FeeRule>> grouped = new HashMap<>();
+        for (Long id : delivererIds) grouped.put(id, new ArrayList<>());
+        for (RuleRow row : delivererFeeRuleRepository.findActiveRows(delivererIds)) {
+            grouped.get(row.getDelivererId()).add(new FeeRule(
+                    row.getRuleId(), row.getMinM(), row.getMaxM(), row.getBaseFee(), row.getPerKmFee()));
+        }
+
+        grouped.forEach((id, list) -> {
+            list.sort(Comparator.comparingInt(FeeRule::minM));
+            Loaded fresh = new Loaded(list.toArray(EMPTY), loadedAtMs);
+            // 적재 도중 evict가 있었으면 읽어온 값을 버린다. (다음 조회 때 다시 적재)
+            rulesByDeliverer.compute(id, (k, current) ->
+                    (generation.get() == loadedGeneration) ? fresh : current);
+        });
+    }
+
+    private boolean isExpired(Loaded loaded) {
+        return System.currentTimeMillis() - loaded.loadedAtMs() >= ttlMs;
+    }
+
+    public void evict(Long delivererId) {
+        if (delivererId == null) return;
+        generation.incrementAndGet();
+        rulesByDeliverer.remove(delivererId);
+    }
+
+    // 변경이 커밋된 뒤에 비워야 다음 적재가 새 값을 읽는다.
+    public void evictAfterCommit(Long delivererId) {
+        TransactionUtils.runAfterCommit(() -> evict(delivererId));
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        rulesByDeliverer.clear();
+    }
+}
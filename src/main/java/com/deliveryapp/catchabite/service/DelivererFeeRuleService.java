@@ -0,0 +1,27 @@
+package com.deliveryapp.catchabite.service;
+
+import com.deliveryapp.catchabite.service.DelivererFeeRuleCache.FeeRule;
+
+public interface DelivererFeeRuleService {
+
+	/**
+	 * 배달원 요금 구간을 추가합니다. (활성 구간과 겹치면 예외)
+	 * @return 생성된 ruleId
+	 */
+	Long createRule(Long delivererId, Integer minM, Integer maxM, Long baseFee, Long perKmFee);
+
+	/**
+	 * 배달원 요금 구간을 수정합니다. (자기 자신을 제외한 활성 구간과 겹치면 예외)
+	 */
+	void updateRule(Long ruleId, Integer minM, Integer maxM, Long baseFee, Long perKmFee);
+
+	/**
+	 * 배달원 요금 구간을 비활성화합니다.
+	 */
+	void deactivateRule(Long ruleId);
+
+	/**
+	 * 배달 거리(m)에 맞는 요금 구간을 캐시에서 찾습니다.
+	 */
+	FeeRule findMatching(Long delivererId, long distanceM);
+}
@@ -0,0 +1,102 @@
+package com.deliveryapp.catchabite.service;
+
+import com.deliveryapp.catchabite.entity.Deliverer;
+import com.deliveryapp.catchabite.entity.DelivererFeeRule;
+import com.deliveryapp.catchabite.repository.DelivererFeeRuleRepository;
+import com.deliveryapp.catchabite.repository.DelivererRepository;
+import com.deliveryapp.catchabite.service.DelivererFeeRuleCache.FeeRule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class DelivererFeeRuleServiceImpl implements DelivererFeeRuleService {
+
+	private final DelivererFeeRuleRepository delivererFeeRuleRepository;
+	private final DelivererRepository delivererRepository;
+	private final DelivererFeeRuleCache delivererFeeRuleCache;
+
+	@Transactional
+	@Override
+	public Long createRule(Long delivererId, Integer minM, Integer maxM, Long baseFee, Long perKmFee) {
+		validateRange(minM, maxM, baseFee, perKmFee);
+
+		Deliverer deliverer = delivererRepository.findById(delivererId)
+				.orElseThrow(() -> new IllegalArgumentException("배달원을 찾을 수 없습니다. delivererId=" + delivererId));
+
+		checkNoOverlap(delivererId, minM, maxM, null);
+
+		DelivererFeeRule rule = delivererFeeRuleRepository.save(DelivererFeeRule.builder()
+				.deliverer(deliverer)
+				.minM(minM)
+				.maxM(maxM)
+				.baseFee(baseFee)
+				.perKmFee(perKmFee)
+				.build());
+
+		delivererFeeRuleCache.evictAfterCommit(delivererId);
+		return rule.getRuleId();
+	}
+
+	@Transactional
+	@Override
+	public void updateRule(Long ruleId, Integer minM, Integer maxM, Long baseFee, Long perKmFee) {
+		validateRange(minM, maxM, baseFee, perKmFee);
+
+		DelivererFeeRule rule = findRuleOrThrow(ruleId);
+		Long delivererId = rule.getDeliverer().getDelivererId();
+
+		if ("Y".equals(rule.getActiveYn())) {
+			checkNoOverlap(delivererId, minM, maxM, ruleId);
+		}
+
+		rule.setMinM(minM);
+		rule.setMaxM(maxM);
+		rule.setBaseFee(baseFee);
+		rule.setPerKmFee(perKmFee);
+
+		delivererFeeRuleCache.evictAfterCommit(delivererId);
+	}
+
+	@Transactional
+	@Override
+	public void deactivateRule(Long ruleId) {
+		DelivererFeeRule rule = findRuleOrThrow(ruleId);
+		rule.setActiveYn("N");
+
+		delivererFeeRuleCache.evictAfterCommit(rule.getDeliverer().getDelivererId());
+	}
+
+	@Override
+	public FeeRule findMatching(Long delivererId, long distanceM) {
+		return delivererFeeRuleCache.findMatching(delivererId, distanceM)
+				.orElseThrow(() -> new IllegalStateException(
+						"거리에 맞는 배달 요금 구간이 없습니다. delivererId=" + delivererId + ", distanceM=" + distanceM));
+	}
+
+	private DelivererFeeRule findRuleOrThrow(Long ruleId) {
+		return delivererFeeRuleRepository.findById(ruleId)
+				.orElseThrow(() -> new IllegalArgumentException("요금 구간을 찾을 수 없습니다. ruleId=" + ruleId));
+	}
+
+	// 같은 배달원의 다른 활성 구간과 겹치면 안 된다. (캐시의 이진 탐색이 구간 비겹침을 전제로 함)
+	private void checkNoOverlap(Long delivererId, Integer minM, Integer maxM, Long excludeRuleId) {
+		long overlaps = delivererFeeRuleRepository.countOverlaps(delivererId, minM.longValue(), maxM, excludeRuleId);
+		if (overlaps > 0) {
+			throw new IllegalStateException("기존 요금 구간과 겹칩니다. minM=" + minM + ", maxM=" + maxM);
+		}
+	}
+
+	private void validateRange(Integer minM, Integer maxM, Long baseFee, Long perKmFee) {
+		if (minM == null || minM < 0) {
+			throw new IllegalArgumentException("minM은 0 이상이어야 합니다.");
+		}
+		if (maxM != null && maxM <= minM) {
+			throw new IllegalArgumentException("maxM은 minM보다 커야 합니다.");
+		}
+		if (baseFee == null || baseFee < 0 || perKmFee == null || perKmFee < 0) {
+			throw new IllegalArgumentException("요금은 0 이상이어야 합니다.");
+		}
+	}
+}
@@ -0,0 +1,308 @@
+package com.deliveryapp.catchabite.service;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+import com.deliveryapp.catchabite.dto.DelivererSettlementRunDTO;
+import com.deliveryapp.catchabite.entity.DelivererSettlement;
+import com.deliveryapp.catchabite.repository.DelivererRepository;
+import com.deliveryapp.catchabite.repository.DelivererSettlementRepository;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository;
+import com.deliveryapp.catchabite.service.DelivererFeeRuleCache.FeeRule;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 배달원 기간 일괄 정산
+ *
+ * - 기간 내 배달완료(DELIVERED) 건이 있는 배달원을 워커 풀에 나눠 병렬로 처리한다. (배달원 1명 = 트랜잭션 1개)
+ * - 배달 건은 전방향 커서(fetch size 제한)로 흘려 읽고, 정산 라인은 batch-size 단위로 JDBC 배치 insert 한다.
+ *   (읽기 커서는 별도 커넥션, 쓰기는 배달원 트랜잭션 커넥션)
+ *   메모리에는 배달원당 배치 1개만 올라가므로 기간/건수와 무관하게 힙 사용량이 일정하다.
+ * - 요금은 DelivererFeeRuleCache에서 찾는다. (실행 시작 시 대상 배달원 rule을 한 번에 다시 적재)
+ * - 이미 정산 라인이 있는 배달은 건너뛰므로(delivery_id 유일키) 같은 기간을 다시 실행해도 안전하다.
+ */
+@Log4j2
+@Service
+public class DelivererSettlementEngine {
+
+    private static final String SELECT_DELIVERED_SQL = """
+            select od.delivery_id, od.order_delivery_distance,
+                   od.store_latitude, od.store_longitude, od.dropoff_latitude, od.dropoff_longitude,
+                   od.order_delivery_complete_time
+            from order_delivery od
+            where od.deliverer_id = ?
+            and od.order_delivery_status = ?
+            and od.order_delivery_complete_time >= ?
+            and od.order_delivery_complete_time < ?
+            and not exists (select 1 from deliverer_settlement_item i where i.delivery_id = od.delivery_id)
+            order by od.delivery_id
+            """;
+
+    private static final String INSERT_ITEM_SQL = """
+            insert into deliverer_settlement_item
+                (settlement_id, delivery_id, distance_m, applied_base_fee, applied_per_km_fee, earning_amount, delivered_at)
+            values (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final OrderDeliveryRepository orderDeliveryRepository;
+    private final DelivererRepository delivererRepository;
+    private final DelivererSettlementRepository delivererSettlementRepository;
+    private final DelivererFeeRuleCache delivererFeeRuleCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 워커 1개가 커넥션 2개(읽기 커서 + 쓰기 트랜잭션)를 쓰므로 커넥션 풀 크기의 절반 이하로 둔다.
+    @Value("${deliverer.settlement.workers:4}")
+    private int workers;
+
+    @Value("${deliverer.settlement.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${deliverer.settlement.batch-size:1000}")
+    private int batchSize;
+
+    public DelivererSettlementEngine(
+            OrderDeliveryRepository orderDeliveryRepository,
+            DelivererRepository delivererRepository,
+            DelivererSettlementRepository delivererSettlementRepository,
+            DelivererFeeRuleCache delivererFeeRuleCache,
+            JdbcTemplate jdbcTemplate,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager) {
+        this.orderDeliveryRepository = orderDeliveryRepository;
+        this.delivererRepository = delivererRepository;
+        this.delivererSettlementRepository = delivererSettlementRepository;
+        this.delivererFeeRuleCache = delivererFeeRuleCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 배달원 1명 처리 결과
+    private record RiderResult(Long delivererId, boolean created, long itemCount, long totalAmount, long skippedNoRule) {}
+
+    /**
+     * 매월 1일 전월분을 정산한다. (기본 비활성: deliverer.settlement.cron 설정 시 동작)
+     */
+    @Scheduled(cron = "${deliverer.settlement.cron:-}")
+    public void settlePreviousMonth() {
+        LocalDate firstOfThisMonth = LocalDate.now().withDayOfMonth(1);
+        DelivererSettlementRunDTO result = settlePeriod(firstOfThisMonth.minusMonths(1), firstOfThisMonth.minusDays(1));
+        log.info("deliverer settlement done. riders={}, settlements={}, items={}, total={}, skippedNoRule={}, failed={}, elapsedMs={}",
+                result.getRiderCount(), result.getSettlementCount(), result.getItemCount(), result.getTotalAmount(),
+                result.getSkippedNoRuleCount(), result.getFailedDelivererIds(), result.getElapsedMs());
+    }
+
+    /**
+     * periodFrom ~ periodTo(포함) 사이에 배달완료된 건을 배달원별로 정산한다.
+     */
+    public DelivererSettlementRunDTO settlePeriod(LocalDate periodFrom, LocalDate periodTo) {
+        if (periodFrom == null || periodTo == null) {
+            throw new IllegalArgumentException("periodFrom/periodTo are required");
+        }
+        if (periodTo.isBefore(periodFrom)) {
+            throw new IllegalArgumentException("periodTo must be >= periodFrom");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("배달원 정산이 이미 실행 중입니다.");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            LocalDateTime fromAt = periodFrom.atStartOfDay();
+            LocalDateTime toAt = periodTo.plusDays(1).atStartOfDay();
+
+            List<Long> delivererIds = orderDeliveryRepository.findDelivererIdsCompletedBetween(
+                    DeliveryStatus.DELIVERED, fromAt, toAt);
+            // DB에서 직접 바뀐 rule이 있을 수 있으므로 대상 배달원은 캐시와 관계없이 새로 읽는다.
+            delivererFeeRuleCache.reload(delivererIds);
+
+            ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(workers, delivererIds.size())));
+            List<Future<RiderResult>> futures = new ArrayList<>(delivererIds.size());
+            try {
+                for (Long delivererId : delivererIds) {
+                    futures.add(pool.submit(() -> transactionTemplate.execute(
+                            status -> settleRider(delivererId, periodFrom, periodTo, fromAt, toAt))));
+                }
+
+                int settlementCount = 0;
+                long itemCount = 0, totalAmount = 0, skipped = 0;
+                List<Long> failed = new ArrayList<>();
+                for (int i = 0; i < futures.size(); i++) {
+                    try {
+                        RiderResult r = futures.get(i).get();
+                        if (r.created()) settlementCount++;
+                        itemCount += r.itemCount();
+                        totalAmount += r.totalAmount();
+                        skipped += r.skippedNoRule();
+                    } catch (ExecutionException e) {
+                        // 해당 배달원만 롤백, 나머지는 계속 (재실행 시 미정산분만 다시 처리됨)
+                        log.error("deliverer settlement failed. delivererId={}", delivererIds.get(i), e.getCause());
+                        failed.add(delivererIds.get(i));
+                    }
+                }
+
+                return DelivererSettlementRunDTO.builder()
+                        .periodFrom(periodFrom)
+                        .periodTo(periodTo)
+                        .riderCount(delivererIds.size())
+                        .settlementCount(settlementCount)
+                        .itemCount(itemCount)
+                        .totalAmount(totalAmount)
+                        .skippedNoRuleCount(skipped)
+                        .failedDelivererIds(Collections.unmodifiableList(failed))
+                        .elapsedMs(System.currentTimeMillis() - startedAt)
+                        .build();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("배달원 정산이 중단되었습니다.", e);
+            } finally {
+                pool.shutdownNow();
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 배달원 1명: 커서로 배달 건을 읽으며 batch-size마다 정산 라인을 insert, 마지막에 헤더 합계를 반영
+    private RiderResult settleRider(Long delivererId, LocalDate periodFrom, LocalDate periodTo,
+                                    LocalDateTime fromAt, LocalDateTime toAt) {
+        RiderAccumulator acc = new RiderAccumulator(delivererId, periodFrom, periodTo);
+
+        // 커서는 별도 읽기 전용 커넥션으로 연다.
+        // 같은 커넥션에서 스트리밍 중에 insert를 실행하면 드라이버가 남은 결과를 전부 메모리로 읽어버린다.
+        try (Connection con = dataSource.getConnection();
+             PreparedStatement ps = con.prepareStatement(
+                     SELECT_DELIVERED_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            con.setReadOnly(true);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, delivererId);
+            ps.setString(2, DeliveryStatus.DELIVERED.name());
+            ps.setTimestamp(3, Timestamp.valueOf(fromAt));
+            ps.setTimestamp(4, Timestamp.valueOf(toAt));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    acc.accept(rs);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("배달완료 건 조회 실패. delivererId=" + delivererId, e);
+        }
+        acc.flushBatch();
+
+        if (acc.settlement == null) {
+            return new RiderResult(delivererId, false, 0, 0, acc.skippedNoRule);
+        }
+        acc.settlement.setTotalAmount(acc.totalAmount);
+        return new RiderResult(delivererId, true, acc.itemCount, acc.totalAmount, acc.skippedNoRule);
+    }
+
+    /**
+     * 배달원 1명의 커서 처리 상태 (워커 스레드 1개에서만 사용)
+     */
+    private final class RiderAccumulator {
+
+        private final Long delivererId;
+        private final LocalDate periodFrom;
+        private final LocalDate periodTo;
+        private final List<Object[]> batch = new ArrayList<>(batchSize);
+
+        private DelivererSettlement settlement;
+        private long itemCount;
+        private long totalAmount;
+        private long skippedNoRule;
+
+        RiderAccumulator(Long delivererId, LocalDate periodFrom, LocalDate periodTo) {
+            this.delivererId = delivererId;
+            this.periodFrom = periodFrom;
+            this.periodTo = periodTo;
+        }
+
+        void accept(ResultSet rs) throws SQLException {
+            long deliveryId = rs.getLong(1);
+            long distanceM = distanceMeters(rs);
+
+            FeeRule rule = delivererFeeRuleCache.findMatching(delivererId, distanceM).orElse(null);
+            if (rule == null) {
+                skippedNoRule++;
+                return;
+            }
+            long earning = rule.baseFee() + rule.perKmFee() * distanceM / 1000;
+
+            if (settlement == null) {
+                // 첫 정산 라인이 생길 때 헤더를 만든다. (라인 insert의 FK 대상이므로 바로 flush)
+                settlement = delivererSettlementRepository.saveAndFlush(DelivererSettlement.builder()
+                        .deliverer(delivererRepository.getReferenceById(delivererId))
+                        .periodFrom(periodFrom)
+                        .periodTo(periodTo)
+                        .build());
+            }
+
+            batch.add(new Object[] {
+                    settlement.getSettlementId(),
+                    deliveryId,
+                    distanceM,
+                    rule.baseFee(),
+                    rule.perKmFee(),
+                    earning,
+                    rs.getTimestamp(7)
+            });
+            itemCount++;
+            totalAmount += earning;
+
+            if (batch.size() >= batchSize) flushBatch();
+        }
+
+        void flushBatch() {
+            if (batch.isEmpty()) return;
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, batch);
+            batch.clear();
+        }
+
+        // order_delivery_distance(km, 소수 2자리)를 m로 환산. 값이 없으면 매장~도착지 직선거리로 대신한다.
+        private long distanceMeters(ResultSet rs) throws SQLException {
+            BigDecimal km = rs.getBigDecimal(2);
+            if (km != null) {
+                return km.movePointRight(3).longValue();
+            }
+            BigDecimal storeLat = rs.getBigDecimal(3);
+            BigDecimal storeLon = rs.getBigDecimal(4);
+            BigDecimal dropLat = rs.getBigDecimal(5);
+            BigDecimal dropLon = rs.getBigDecimal(6);
+            if (storeLat == null || storeLon == null || dropLat == null || dropLon == null) {
+                return 0L;
+            }
+            return Math.round(GeoUtils.haversineMeters(
+                    storeLat.doubleValue(), storeLon.doubleValue(), dropLat.doubleValue(), dropLon.doubleValue()));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.deliveryapp.catchabite.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+import com.deliveryapp.catchabite.dto.DispatchCycleStatsDTO;
+import com.deliveryapp.catchabite.dto.OnlineRiderDTO;
+import com.deliveryapp.catchabite.entity.OrderDelivery;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 자동 배차 스케줄러
+ *
+ * 배차 주기(delivery.dispatch.interval-ms)마다
+ * 1) 대기(PENDING) 배달과 배차 가능한 라이더(OnlineRiderRegistry의 온라인 라이더 중 진행 중 배달이 max-active-per-rider 미만)를 모으고
+ * 2) 설정된 알고리즘(delivery.dispatch.algorithm = greedy | hungarian)으로 픽업 거리 합이 작은 매칭을 구한 뒤
+ * 3) OrderDeliveryService.assignBatch로 한 트랜잭션에 반영한다.
+ *
+ * 기존 수동 배정(점주 지정)과 함께 쓰기 때문에 기본값은 비활성(delivery.dispatch.enabled=false)이다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class DeliveryDispatchScheduler {
+
+    private final OrderDeliveryRepository orderDeliveryRepository;
+    private final OrderDeliveryService orderDeliveryService;
+    private final OnlineRiderRegistry onlineRiderRegistry;
+    private final List<DispatchAlgorithm> algorithms;
+
+    @Value("${delivery.dispatch.enabled:false}")
+    private boolean enabled;
+
+    @Value("${delivery.dispatch.algorithm:greedy}")
+    private String algorithmName;
+
+    // 한 사이클에서 다루는 최대 대기 배달 수 (배치 윈도우)
+    @Value("${delivery.dispatch.max-batch-size:200}")
+    private int maxBatchSize;
+
+    // 진행 중 배달이 이 수 미만인 라이더만 배차 대상
+    @Value("${delivery.dispatch.max-active-per-rider:1}")
+    private int maxActivePerRider;
+
+    // 라이더 ~ 매장 최대 픽업 거리(m)
+    @Value("${delivery.dispatch.max-pickup-m:3000}")
+    private double maxPickupM;
+
+    private final AtomicReference<DispatchCycleStatsDTO> lastCycle = new AtomicReference<>();
+
+    @Scheduled(
+            initialDelayString = "${delivery.dispatch.interval-ms:5000}",
+            fixedDelayString = "${delivery.dispatch.interval-ms:5000}")
+    public void scheduledCycle() {
+        if (!enabled) return;
+        try {
+            runCycle();
+        } catch (RuntimeException e) {
+            log.error("Dispatch cycle failed", e);
+        }
+    }
+
+    /**
+     * 배차 사이클 1회 실행 후 지표를 반환한다.
+     */
+    public DispatchCycleStatsDTO runCycle() {
+        long started = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now();
+        DispatchAlgorithm algorithm = resolveAlgorithm();
+
+        List<DispatchAlgorithm.Job> jobs = loadPendingJobs();
+        List<DispatchAlgorithm.Rider> riders = jobs.isEmpty() ? List.of() : loadAvailableRiders();
+
+        long matchStarted = System.nanoTime();
+        List<DispatchAlgorithm.Assignment> assignments = (jobs.isEmpty() || riders.isEmpty())
+                ? List.of()
+                : algorithm.match(jobs, riders, maxPickupM);
+        long matchMs = (System.nanoTime() - matchStarted) / 1_000_000;
+
+        int committed = assignments.isEmpty() ? 0 : orderDeliveryService.assignBatch(assignments);
+
+        double total = 0;
+        double max = 0;
+        for (DispatchAlgorithm.Assignment a : assignments) {
+            total += a.pickupDistanceM();
+            max = Math.max(max, a.pickupDistanceM());
+        }
+
+        DispatchCycleStatsDTO stats = DispatchCycleStatsDTO.builder()
+                .algorithm(algorithm.name())
+                .startedAt(startedAt)
+                .elapsedMs((System.nanoTime() - started) / 1_000_000)
+                .matchMs(matchMs)
+                .pendingCount(jobs.size())
+                .availableRiderCount(riders.size())
+                .matchedCount(assignments.size())
+                .committedCount(committed)
+                .totalPickupDistanceM(Math.round(total))
+                .avgPickupDistanceM(assignments.isEmpty() ? 0 : Math.round(total / assignments.size()))
+                .maxPickupDistanceM(Math.round(max))
+                .build();
+        lastCycle.set(stats);
+
+        if (!jobs.isEmpty()) {
+            log.info("Dispatch cycle: algorithm={}, elapsedMs={}, matchMs={}, pending={}, riders={}, matched={}, committed={}, avgPickupM={}",
+                    stats.getAlgorithm(), stats.getElapsedMs(), stats.getMatchMs(), stats.getPendingCount(),
+                    stats.getAvailableRiderCount(), stats.getMatchedCount(), stats.getCommittedCount(),
+                    stats.getAvgPickupDistanceM());
+        }
+        return stats;
+    }
+
+    // 최근 사이클 지표. 관리자 계정이 아직 없어 API로는 노출하지 않는다. (사이클마다 로그로 남음)
+    public DispatchCycleStatsDTO getLastCycle() {
+        return lastCycle.get();
+    }
+
+    private DispatchAlgorithm resolveAlgorithm() {
+        return algorithms.stream()
+                .filter(a -> a.name().equalsIgnoreCase(algorithmName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 배차 알고리즘입니다. algorithm=" + algorithmName));
+    }
+
+    private List<DispatchAlgorithm.Job> loadPendingJobs() {
+        List<OrderDelivery> pending = orderDeliveryRepository.findDispatchCandidates(
+                DeliveryStatus.PENDING, PageRequest.of(0, maxBatchSize));
+
+        List<DispatchAlgorithm.Job> jobs = new ArrayList<>(pending.size());
+        for (OrderDelivery od : pending) {
+            jobs.add(new DispatchAlgorithm.Job(
+                    od.getDeliveryId(),
+                    od.getStoreLatitude().doubleValue(),
+                    od.getStoreLongitude().doubleValue()));
+        }
+        return jobs;
+    }
+
+    // 온라인 라이더 중 진행 중 배달이 적은 라이더 + 마지막 heartbeat 위치 (DB 조회 없음)
+    private List<DispatchAlgorithm.Rider> loadAvailableRiders() {
+        List<OnlineRiderDTO> online = onlineRiderRegistry.availableRiders(maxActivePerRider);
+        List<DispatchAlgorithm.Rider> riders = new ArrayList<>(online.size());
+        for (OnlineRiderDTO r : online) {
+            riders.add(new DispatchAlgorithm.Rider(r.getDelivererId(), r.getLatitude(), r.getLongitude()));
+        }
+        return riders;
+    }
+}
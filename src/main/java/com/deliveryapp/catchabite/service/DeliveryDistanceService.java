@@ -0,0 +1,145 @@
+package com.deliveryapp.catchabite.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.deliveryapp.catchabite.common.util.TransactionUtils;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository.RouteRow;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 배달 거리/예상 소요시간 사전 계산
+ *
+ * - 매장 ~ 도착지 거리(order_delivery_distance, km 소수 2자리)와 예상 소요시간(order_delivery_est_time, 분)을
+ *   배달 생성 시점에 한 번 계산해 저장한다. 정산(DelivererSettlementEngine)은 저장된 거리를 그대로 쓴다.
+ * - 좌표는 기본형 배열로 모아 RoutingProvider에 batch-size 단위로 넘기고, 결과는 JDBC 배치 UPDATE로 반영한다.
+ * - 생성 경로에서 precomputeAfterCommit을 호출하지 못한 건(기존 데이터 포함)은 주기 작업이 delivery_id 순으로 채운다.
+ * - 이미 값이 있는 건은 덮어쓰지 않는다. (where order_delivery_distance is null)
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class DeliveryDistanceService {
+
+    private static final String UPDATE_ROUTE_SQL = """
+            update order_delivery
+            set order_delivery_distance = ?, order_delivery_est_time = ?, version = version + 1
+            where delivery_id = ?
+            and order_delivery_distance is null
+            """;
+
+    private final OrderDeliveryRepository orderDeliveryRepository;
+    private final List<RoutingProvider> routingProviders;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${delivery.routing.provider:haversine}")
+    private String providerName;
+
+    @Value("${delivery.distance.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 지정한 배달들의 거리/예상시간을 계산해 저장한다. 반영된 건수를 반환한다.
+     */
+    public int precompute(Collection<Long> deliveryIds) {
+        if (deliveryIds == null || deliveryIds.isEmpty()) return 0;
+        List<Long> ids = new ArrayList<>(deliveryIds);
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            updated += apply(orderDeliveryRepository.findRoutePendingRowsIn(chunk));
+        }
+        return updated;
+    }
+
+    // 배달 생성 트랜잭션이 커밋된 뒤 계산한다. (커밋 전에는 다른 커넥션에서 행이 보이지 않음)
+    public void precomputeAfterCommit(Collection<Long> deliveryIds) {
+        List<Long> ids = List.copyOf(deliveryIds);
+        TransactionUtils.runAfterCommit(() -> {
+            try {
+                precompute(ids);
+            } catch (RuntimeException e) {
+                // 실패한 건은 backfill 주기에 다시 계산된다.
+                log.warn("delivery route precompute failed. ids={}", ids, e);
+            }
+        });
+    }
+
+    /**
+     * 거리가 비어 있는 배달을 delivery_id 순으로 모두 채운다.
+     */
+    @Scheduled(
+            initialDelayString = "${delivery.distance.backfill-interval-ms:10000}",
+            fixedDelayString = "${delivery.distance.backfill-interval-ms:10000}")
+    public void backfill() {
+        long afterId = 0L;
+        int updated = 0;
+        try {
+            while (true) {
+                List<RouteRow> rows = orderDeliveryRepository.findRoutePendingRows(afterId, PageRequest.of(0, batchSize));
+                if (rows.isEmpty()) break;
+                updated += apply(rows);
+                afterId = rows.get(rows.size() - 1).getDeliveryId();
+                if (rows.size() < batchSize) break;
+            }
+        } catch (RuntimeException e) {
+            log.error("delivery route backfill failed. afterId={}", afterId, e);
+        }
+        if (updated > 0) {
+            log.info("delivery route backfilled. updated={}", updated);
+        }
+    }
+
+    private int apply(List<RouteRow> rows) {
+        int n = rows.size();
+        if (n == 0) return 0;
+
+        double[] fromLat = new double[n];
+        double[] fromLon = new double[n];
+        double[] toLat = new double[n];
+        double[] toLon = new double[n];
+        for (int i = 0; i < n; i++) {
+            RouteRow row = rows.get(i);
+            fromLat[i] = row.getStoreLatitude().doubleValue();
+            fromLon[i] = row.getStoreLongitude().doubleValue();
+            toLat[i] = row.getDropoffLatitude().doubleValue();
+            toLon[i] = row.getDropoffLongitude().doubleValue();
+        }
+
+        double[] meters = new double[n];
+        double[] seconds = new double[n];
+        provider().route(fromLat, fromLon, toLat, toLon, meters, seconds, n);
+
+        List<Object[]> batch = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            if (Double.isNaN(meters[i]) || Double.isNaN(seconds[i])) continue;
+            BigDecimal km = BigDecimal.valueOf(meters[i] / 1000.0).setScale(2, RoundingMode.HALF_UP);
+            int minutes = (int) Math.max(1L, (long) Math.ceil(seconds[i] / 60.0));
+            batch.add(new Object[] {km, minutes, rows.get(i).getDeliveryId()});
+        }
+        if (batch.isEmpty()) return 0;
+
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(UPDATE_ROUTE_SQL, batch)) {
+            // 드라이버가 건수를 돌려주지 않는 경우(SUCCESS_NO_INFO = -2)도 반영된 것으로 본다.
+            if (count != 0) updated++;
+        }
+        return updated;
+    }
+
+    private RoutingProvider provider() {
+        return RoutingProvider.select(routingProviders, providerName);
+    }
+}
@@ -0,0 +1,251 @@
+package com.deliveryapp.catchabite.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.TransactionUtils;
+import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository.CompletedRow;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 실제 배달 소요시간(orderDeliveryActTime) 기반 예상 배달시간(ETA) 추정기
+ *
+ * - 배달완료 때마다 (매장), (매장 x 거리 구간), (매장 x 시간대), (거리 구간 x 시간대), 전체 통계를 갱신한다.
+ * - 통계는 분 단위 히스토그램(60분까지 1분, 120분까지 5분 간격)으로 평균과 p50/p90을 구하고,
+ *   갱신 시점에 계산한 결과(Estimate)를 보관하므로 조회는 맵 조회 한 번이다. (SQL 없음)
+ * - 표본이 max-weight를 넘으면 히스토그램을 절반으로 줄여 최근 배달의 비중을 유지한다.
+ * - 기동 시 최근 warmup-days 일의 배달완료 건으로 다시 채운다.
+ */
+@Log4j2
+@Component
+public class DeliveryEtaEstimator {
+
+    // 거리 구간 경계(m): [0,1km) [1,2km) [2,3km) [3,5km) [5,8km) [8km,~)
+    private static final int[] DISTANCE_BOUNDS_M = {1_000, 2_000, 3_000, 5_000, 8_000};
+    private static final int DISTANCE_BUCKETS = DISTANCE_BOUNDS_M.length + 1;
+    private static final int HOURS = 24;
+
+    // 히스토그램 칸: 0~59분(1분), 60~119분(5분), 120분 이상(1칸)
+    private static final int FINE_LIMIT = 60;
+    private static final int COARSE_STEP = 5;
+    private static final int COARSE_LIMIT = 120;
+    private static final int BINS = FINE_LIMIT + (COARSE_LIMIT - FINE_LIMIT) / COARSE_STEP + 1;
+
+    private final OrderDeliveryRepository orderDeliveryRepository;
+
+    // 이 표본 수 미만인 통계는 건너뛰고 더 넓은 범위의 통계를 쓴다.
+    private final int minSamples;
+    private final int maxWeight;
+    private final int warmupDays;
+    private final int warmupBatchSize;
+
+    private final Map<Long, Stats> byStore = new ConcurrentHashMap<>();
+    private final Map<Long, Stats> byStoreDistance = new ConcurrentHashMap<>();
+    private final Map<Long, Stats> byStoreHour = new ConcurrentHashMap<>();
+    private final Stats[] byDistanceHour = new Stats[DISTANCE_BUCKETS * HOURS];
+    private final Stats overall;
+
+    /**
+     * 조회 결과 (분)
+     */
+    public record Estimate(long count, double meanMinutes, int p50Minutes, int p90Minutes) {}
+
+    public DeliveryEtaEstimator(
+            OrderDeliveryRepository orderDeliveryRepository,
+            @Value("${delivery.eta.min-samples:20}") int minSamples,
+            @Value("${delivery.eta.max-weight:2000}") int maxWeight,
+            @Value("${delivery.eta.warmup-days:28}") int warmupDays,
+            @Value("${delivery.eta.warmup-batch-size:5000}") int warmupBatchSize) {
+        this.orderDeliveryRepository = orderDeliveryRepository;
+        this.minSamples = Math.max(1, minSamples);
+        this.maxWeight = Math.max(this.minSamples * 2, maxWeight);
+        this.warmupDays = warmupDays;
+        this.warmupBatchSize = warmupBatchSize;
+        for (int i = 0; i < byDistanceHour.length; i++) byDistanceHour[i] = new Stats(this.maxWeight);
+        this.overall = new Stats(this.maxWeight);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        clear();
+        LocalDateTime since = LocalDateTime.now().minusDays(warmupDays);
+        long afterId = 0L;
+        long loaded = 0;
+        while (true) {
+            List<CompletedRow> rows = orderDeliveryRepository.findCompletedRows(
+                    DeliveryStatus.DELIVERED, since, afterId, PageRequest.of(0, warmupBatchSize));
+            for (CompletedRow row : rows) {
+                record(row.getStoreId(), row.getOrderDeliveryDistance(),
+                        row.getOrderDeliveryCompleteTime(), row.getOrderDeliveryActTime());
+            }
+            loaded += rows.size();
+            if (rows.size() < warmupBatchSize) break;
+            afterId = rows.get(rows.size() - 1).getDeliveryId();
+        }
+        log.info("delivery eta estimator warmed up. deliveries={}, stores={}", loaded, byStore.size());
+    }
+
+    /**
+     * 배달완료 1건을 반영한다.
+     *
+     * @param distanceKm  매장 ~ 도착지 거리(km, 없으면 null)
+     * @param completedAt 완료 시각 (시간대 구분용)
+     * @param actMinutes  실제 소요시간(분)
+     */
+    public void record(Long storeId, BigDecimal distanceKm, LocalDateTime completedAt, Integer actMinutes) {
+        if (storeId == null || actMinutes == null || actMinutes < 0 || completedAt == null) return;
+        int minutes = actMinutes;
+        int hour = completedAt.getHour();
+
+        overall.add(minutes);
+        byStore.computeIfAbsent(storeId, k -> new Stats(maxWeight)).add(minutes);
+        byStoreHour.computeIfAbsent(storeId * HOURS + hour, k -> new Stats(maxWeight)).add(minutes);
+
+        int bucket = distanceBucket(distanceKm);
+        if (bucket >= 0) {
+            byStoreDistance.computeIfAbsent(storeId * DISTANCE_BUCKETS + bucket, k -> new Stats(maxWeight)).add(minutes);
+            byDistanceHour[bucket * HOURS + hour].add(minutes);
+        }
+    }
+
+    // 완료 트랜잭션이 롤백되면 반영하지 않는다.
+    public void recordAfterCommit(Long storeId, BigDecimal distanceKm, LocalDateTime completedAt, Integer actMinutes) {
+        TransactionUtils.runAfterCommit(() -> record(storeId, distanceKm, completedAt, actMinutes));
+    }
+
+    /**
+     * 매장/거리/시간대에 맞는 예상 소요시간을 찾는다. 표본이 부족하면 더 넓은 통계로 내려간다.
+     * (매장x거리 -> 매장x시간대 -> 매장 -> 거리x시간대 -> 전체) 어디에도 표본이 부족하면 null
+     *
+     * @param distanceKm 모르면 null
+     */
+    public Estimate estimate(Long storeId, BigDecimal distanceKm, int hour) {
+        int bucket = distanceBucket(distanceKm);
+        if (storeId != null) {
+            if (bucket >= 0) {
+                Estimate e = usable(byStoreDistance.get(storeId * DISTANCE_BUCKETS + bucket));
+                if (e != null) return e;
+            }
+            Estimate e = usable(byStoreHour.get(storeId * HOURS + hour));
+            if (e != null) return e;
+            e = usable(byStore.get(storeId));
+            if (e != null) return e;
+        }
+        if (bucket >= 0) {
+            Estimate e = usable(byDistanceHour[bucket * HOURS + hour]);
+            if (e != null) return e;
+        }
+        return usable(overall);
+    }
+
+    /**
+     * 매장 화면 표시용 "p50-p90분" 문자열. 표본이 부족하면 fallback을 그대로 돌려준다.
+     */
+    public String formatRange(Long storeId, String fallback) {
+        Estimate e = estimate(storeId, null, LocalDateTime.now().getHour());
+        if (e == null) return fallback;
+        if (e.p90Minutes() <= e.p50Minutes()) return e.p50Minutes() + "분";
+        return e.p50Minutes() + "-" + e.p90Minutes() + "분";
+    }
+
+    public void clear() {
+        byStore.clear();
+        byStoreDistance.clear();
+        byStoreHour.clear();
+        for (Stats s : byDistanceHour) s.reset();
+        overall.reset();
+    }
+
+    private Estimate usable(Stats stats) {
+        if (stats == null) return null;
+        Estimate e = stats.snapshot;
+        return (e != null && e.count() >= minSamples) ? e : null;
+    }
+
+    private static int distanceBucket(BigDecimal distanceKm) {
+        if (distanceKm == null) return -1;
+        long meters = distanceKm.movePointRight(3).longValue();
+        if (meters < 0) return -1;
+        for (int i = 0; i < DISTANCE_BOUNDS_M.length; i++) {
+            if (meters < DISTANCE_BOUNDS_M[i]) return i;
+        }
+        return DISTANCE_BOUNDS_M.length;
+    }
+
+    private static int binOf(int minutes) {
+        if (minutes < FINE_LIMIT) return minutes;
+        if (minutes < COARSE_LIMIT) return FINE_LIMIT + (minutes - FINE_LIMIT) / COARSE_STEP;
+        return BINS - 1;
+    }
+
+    // 칸의 대표값(분): 1분 칸은 그 값, 5분 칸은 칸의 위쪽 끝, 마지막 칸은 120분
+    private static int upperMinutesOf(int bin) {
+        if (bin < FINE_LIMIT) return bin;
+        if (bin < BINS - 1) return FINE_LIMIT + (bin - FINE_LIMIT + 1) * COARSE_STEP - 1;
+        return COARSE_LIMIT;
+    }
+
+    /**
+     * 분 단위 히스토그램 + 합계. add 때마다 Estimate를 다시 계산해 volatile로 공개한다. (칸 수 고정 -> O(1))
+     */
+    private static final class Stats {
+        private final int maxWeight;
+        private final long[] bins = new long[BINS];
+        private long count;
+        private long sum;
+        private volatile Estimate snapshot;
+
+        Stats(int maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+
+        synchronized void add(int minutes) {
+            if (count >= maxWeight) halve();
+            bins[binOf(minutes)]++;
+            count++;
+            sum += minutes;
+            snapshot = new Estimate(count, (double) sum / count, quantile(0.5), quantile(0.9));
+        }
+
+        synchronized void reset() {
+            Arrays.fill(bins, 0L);
+            count = 0;
+            sum = 0;
+            snapshot = null;
+        }
+
+        // 오래된 표본의 가중치를 절반으로 줄인다. (칸별 반올림, 평균 비율 유지)
+        private void halve() {
+            long newCount = 0;
+            for (int i = 0; i < BINS; i++) {
+                bins[i] = (bins[i] + 1) >> 1;
+                newCount += bins[i];
+            }
+            sum = (count == 0) ? 0 : Math.round((double) sum * newCount / count);
+            count = newCount;
+        }
+
+        private int quantile(double q) {
+            long rank = (long) Math.ceil(q * count);
+            long seen = 0;
+            for (int i = 0; i < BINS; i++) {
+                seen += bins[i];
+                if (seen >= rank) return upperMinutesOf(i);
+            }
+            return COARSE_LIMIT;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.deliveryapp.catchabite.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.TransactionUtils;
+import com.deliveryapp.catchabite.dto.DeliveryEventPageDTO;
+import com.deliveryapp.catchabite.dto.DeliveryStatusEventDTO;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository.EventTarget;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 배달 상태 변경 이벤트 발행기
+ *
+ * - OrderDeliveryService의 모든 상태 전이 후 호출된다. 수신 대상(고객/사장/배달원)은 트랜잭션 안에서 조회하고,
+ *   커밋 이후에 전역 번호(seq)를 붙여 STOMP 토픽으로 보낸다.
+ *   /topic/users/{appUserId}/deliveries, /topic/owners/{storeOwnerId}/deliveries, /topic/riders/{delivererId}/deliveries
+ * - 같은 시점에 수요/공급 히트맵(DemandHeatmap)의 셀 카운터도 갱신한다.
+ * - 최근 이벤트는 고정 크기 링에 보관해 재접속한 클라이언트가 "since 이후 이벤트"만 받아갈 수 있게 한다.
+ *   since가 보관 범위를 벗어나면 resetRequired=true로 응답해 전체 목록을 다시 받게 한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class DeliveryEventPublisher {
+
+    public enum Audience { USER, OWNER, RIDER }
+
+    private final OrderDeliveryRepository orderDeliveryRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final DemandHeatmap demandHeatmap;
+
+    @Value("${delivery.events.retain-size:10000}")
+    private int retainSize;
+
+    // seq % retainSize 위치에 보관 (seq는 1부터 시작)
+    private Stored[] ring;
+    private long lastSeq;
+
+    private record Stored(DeliveryStatusEventDTO event, Long appUserId, Long storeOwnerId, Long delivererId) {
+
+        boolean visibleTo(Audience audience, Long id) {
+            return switch (audience) {
+                case USER -> Objects.equals(appUserId, id);
+                case OWNER -> Objects.equals(storeOwnerId, id);
+                case RIDER -> Objects.equals(delivererId, id);
+            };
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        ring = new Stored[Math.max(1, retainSize)];
+    }
+
+    /**
+     * 현재 트랜잭션에서 바뀐 배달 상태를 커밋 이후에 발행한다.
+     * (수신 대상은 변경 직후의 DB 상태로 지금 조회한다)
+     */
+    public void publishAfterCommit(Long deliveryId) {
+        EventTarget target = orderDeliveryRepository.findEventTarget(deliveryId).orElse(null);
+        if (target == null) return;
+        TransactionUtils.runAfterCommit(() -> publish(target));
+    }
+
+    private void publish(EventTarget target) {
+        demandHeatmap.onDeliveryState(
+                target.getDeliveryId(),
+                target.getStoreId(),
+                target.getStoreLatitude() == null ? null : target.getStoreLatitude().doubleValue(),
+                target.getStoreLongitude() == null ? null : target.getStoreLongitude().doubleValue(),
+                target.getOrderDeliveryStatus());
+
+        Stored stored = append(target);
+        DeliveryStatusEventDTO event = stored.event();
+        try {
+            messagingTemplate.convertAndSend("/topic/users/" + target.getAppUserId() + "/deliveries", event);
+            messagingTemplate.convertAndSend("/topic/owners/" + target.getStoreOwnerId() + "/deliveries", event);
+            if (target.getDelivererId() != null) {
+                messagingTemplate.convertAndSend("/topic/riders/" + target.getDelivererId() + "/deliveries", event);
+            }
+        } catch (RuntimeException e) {
+            // 전송 실패는 since 조회로 복구 가능하므로 상태 전이를 실패시키지 않는다.
+            log.warn("delivery event push failed. seq={}, deliveryId={}", event.getSeq(), event.getDeliveryId(), e);
+        }
+    }
+
+    private synchronized Stored append(EventTarget target) {
+        long seq = ++lastSeq;
+        DeliveryStatusEventDTO event = new DeliveryStatusEventDTO(
+                seq,
+                target.getDeliveryId(),
+                target.getOrderId(),
+                target.getOrderDeliveryStatus(),
+                target.getDelivererId(),
+                LocalDateTime.now());
+        Stored stored = new Stored(event, target.getAppUserId(), target.getStoreOwnerId(), target.getDelivererId());
+        ring[(int) (seq % ring.length)] = stored;
+        return stored;
+    }
+
+    /**
+     * since 이후 해당 수신자에게 보낸 이벤트를 seq 순으로 반환한다.
+     */
+    public synchronized DeliveryEventPageDTO eventsSince(Audience audience, Long id, long since) {
+        if (id == null) throw new IllegalArgumentException("수신자 정보가 없습니다.");
+        if (since < 0) throw new IllegalArgumentException("since는 0 이상이어야 합니다.");
+
+        // 서버 재시작 등으로 클라이언트 번호가 더 크면 처음부터 다시 받게 한다.
+        if (since > lastSeq) {
+            return new DeliveryEventPageDTO(List.of(), lastSeq, true);
+        }
+
+        long oldestRetained = Math.max(1, lastSeq - ring.length + 1);
+        boolean resetRequired = since + 1 < oldestRetained;
+
+        List<DeliveryStatusEventDTO> events = new ArrayList<>();
+        for (long seq = Math.max(since + 1, oldestRetained); seq <= lastSeq; seq++) {
+            Stored stored = ring[(int) (seq % ring.length)];
+            if (stored != null && stored.visibleTo(audience, id)) {
+                events.add(stored.event());
+            }
+        }
+        return new DeliveryEventPageDTO(events, lastSeq, resetRequired);
+    }
+}
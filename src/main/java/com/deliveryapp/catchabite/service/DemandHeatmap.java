@@ -0,0 +1,261 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+import com.deliveryapp.catchabite.dto.HeatCellDTO;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository.HeatRow;
+import com.deliveryapp.catchabite.repository.StoreRepository;
+import com.deliveryapp.catchabite.repository.StoreRepository.StoreGeoRow;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 수요(대기/배차요청 배달) / 공급(온라인 라이더) 격자 히트맵
+ *
+ * - 격자는 PendingDeliveryIndex와 같은 위도/경도 0.01도 셀, 배달은 매장(픽업) 좌표로 셀을 정한다.
+ * - 배달 상태 전이(DeliveryEventPublisher)와 라이더 셀 이동(OnlineRiderRegistry)마다 해당 셀 카운터만 증감한다. (O(1))
+ * - 셀마다 최근 window-minutes 분 동안 새로 들어온 대기 배달 수를 분 단위 링으로 보관한다.
+ * - 할증 배율은 주변 3x3 셀의 (대기 + 배차요청) / 온라인 라이더 비율로 정하고,
+ *   주문 생성(UserStoreOrderServiceImpl)에서 매장 배달팁에 곱한다. (delivery.surge.enabled)
+ */
+@Log4j2
+@Component
+public class DemandHeatmap {
+
+    // 라이더가 어느 셀에도 없음
+    public static final long NO_CELL = Long.MIN_VALUE;
+
+    private static final double CELL_DEG = 0.01;
+    private static final List<DeliveryStatus> DEMAND_STATUSES = List.of(DeliveryStatus.PENDING, DeliveryStatus.ASSIGNED);
+
+    private final OrderDeliveryRepository orderDeliveryRepository;
+    private final StoreRepository storeRepository;
+    private final int windowMinutes;
+    private final boolean surgeEnabled;
+    private final double surgeThreshold;
+    private final double surgeStep;
+    private final double surgeMax;
+
+    private final Map<Long, Cell> cells = new ConcurrentHashMap<>();
+
+    // 수요로 집계 중인 배달: deliveryId -> (셀, 상태)
+    private final Map<Long, Tracked> tracked = new ConcurrentHashMap<>();
+
+    // 매장 -> 셀 (기동 시 store 좌표로 채우고, 이후 배달 상태 변경 때 배달에 기록된 매장 좌표로 갱신)
+    private final Map<Long, Long> storeCells = new ConcurrentHashMap<>();
+
+    private record Tracked(long cellKey, DeliveryStatus status) {}
+
+    public DemandHeatmap(
+            OrderDeliveryRepository orderDeliveryRepository,
+            StoreRepository storeRepository,
+            @Value("${delivery.heatmap.window-minutes:15}") int windowMinutes,
+            @Value("${delivery.surge.enabled:false}") boolean surgeEnabled,
+            @Value("${delivery.surge.threshold:1.0}") double surgeThreshold,
+            @Value("${delivery.surge.step:0.25}") double surgeStep,
+            @Value("${delivery.surge.max:2.0}") double surgeMax) {
+        this.orderDeliveryRepository = orderDeliveryRepository;
+        this.storeRepository = storeRepository;
+        this.windowMinutes = Math.max(1, windowMinutes);
+        this.surgeEnabled = surgeEnabled;
+        this.surgeThreshold = surgeThreshold;
+        this.surgeStep = surgeStep;
+        this.surgeMax = Math.max(1.0, surgeMax);
+    }
+
+    /**
+     * 셀 카운터. 상태 카운터는 Atomic, 최근 수요 링은 셀 단위 모니터(셀마다 다른 락)로 갱신한다.
+     */
+    private static final class Cell {
+        final AtomicInteger pending = new AtomicInteger();
+        final AtomicInteger assigned = new AtomicInteger();
+        final AtomicInteger riders = new AtomicInteger();
+        final long[] minuteOf;
+        final int[] arrivals;
+
+        Cell(int windowMinutes) {
+            this.minuteOf = new long[windowMinutes];
+            this.arrivals = new int[windowMinutes];
+        }
+
+        synchronized void arrive(long minute) {
+            int slot = (int) (minute % arrivals.length);
+            if (minuteOf[slot] != minute) {
+                minuteOf[slot] = minute;
+                arrivals[slot] = 0;
+            }
+            arrivals[slot]++;
+        }
+
+        synchronized int recentArrivals(long minute) {
+            int total = 0;
+            for (int i = 0; i < arrivals.length; i++) {
+                if (minute - minuteOf[i] < arrivals.length) total += arrivals[i];
+            }
+            return total;
+        }
+
+        AtomicInteger counter(DeliveryStatus status) {
+            return (status == DeliveryStatus.PENDING) ? pending : assigned;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        cells.values().forEach(c -> {
+            c.pending.set(0);
+            c.assigned.set(0);
+        });
+        tracked.clear();
+        // 매장 좌표는 store 테이블에서 (매장 1행씩, StoreGeoIndex가 지오코딩해 채운 값). 좌표 없는 매장은 배달 이벤트 때 학습
+        for (StoreGeoRow row : storeRepository.findGeoRows()) {
+            if (row.getStoreLatitude() == null || row.getStoreLongitude() == null) continue;
+            storeCells.put(row.getStoreId(),
+                    cellKeyOf(row.getStoreLatitude().doubleValue(), row.getStoreLongitude().doubleValue()));
+        }
+        for (HeatRow row : orderDeliveryRepository.findHeatRows(DEMAND_STATUSES)) {
+            long key = cellKeyOf(row.getStoreLatitude().doubleValue(), row.getStoreLongitude().doubleValue());
+            tracked.put(row.getDeliveryId(), new Tracked(key, row.getOrderDeliveryStatus()));
+            cell(key).counter(row.getOrderDeliveryStatus()).incrementAndGet();
+        }
+        log.info("demand heatmap rebuilt. deliveries={}, stores={}", tracked.size(), storeCells.size());
+    }
+
+    /**
+     * 배달 상태 변경을 반영한다. PENDING/ASSIGNED면 해당 셀에 집계하고, 그 밖의 상태면 집계에서 뺀다.
+     * 좌표가 없는 배달은 무시한다.
+     */
+    public void onDeliveryState(Long deliveryId, Long storeId, Double storeLat, Double storeLon, DeliveryStatus status) {
+        if (deliveryId == null || storeLat == null || storeLon == null) return;
+        long key = cellKeyOf(storeLat, storeLon);
+        if (storeId != null) storeCells.put(storeId, key);
+
+        boolean demand = DEMAND_STATUSES.contains(status);
+        Tracked next = demand ? new Tracked(key, status) : null;
+        Tracked previous = (next == null) ? tracked.remove(deliveryId) : tracked.put(deliveryId, next);
+
+        if (previous != null) {
+            cell(previous.cellKey()).counter(previous.status()).decrementAndGet();
+        }
+        if (next != null) {
+            Cell cell = cell(key);
+            cell.counter(status).incrementAndGet();
+            // 새로 대기열에 들어온 배달 (배차 만료/재오픈으로 돌아온 건 포함)
+            if (status == DeliveryStatus.PENDING && (previous == null || previous.status() != DeliveryStatus.PENDING)) {
+                cell.arrive(currentMinute());
+            }
+        }
+    }
+
+    /**
+     * 온라인 라이더의 셀 이동. 새로 온라인이면 from = NO_CELL, 오프라인이면 to = NO_CELL
+     */
+    public void moveRider(long fromCell, long toCell) {
+        if (fromCell == toCell) return;
+        if (fromCell != NO_CELL) cell(fromCell).riders.decrementAndGet();
+        if (toCell != NO_CELL) cell(toCell).riders.incrementAndGet();
+    }
+
+    public long cellKeyOf(double lat, double lon) {
+        return cellKey(cellIndex(lat), cellIndex(lon));
+    }
+
+    /**
+     * (lat, lon)에서 radiusM 안의 비어 있지 않은 셀 목록
+     */
+    public List<HeatCellDTO> snapshot(double lat, double lon, int radiusM) {
+        int latSpan = (int) Math.ceil(radiusM / (CELL_DEG * GeoUtils.METERS_PER_DEGREE_LAT));
+        int lonSpan = (int) Math.ceil(radiusM / (CELL_DEG * GeoUtils.metersPerDegreeLon(lat)));
+        long centerLat = cellIndex(lat);
+        long centerLon = cellIndex(lon);
+        long minute = currentMinute();
+
+        List<HeatCellDTO> result = new ArrayList<>();
+        for (long i = centerLat - latSpan; i <= centerLat + latSpan; i++) {
+            for (long j = centerLon - lonSpan; j <= centerLon + lonSpan; j++) {
+                Cell cell = cells.get(cellKey(i, j));
+                if (cell == null) continue;
+                int pending = cell.pending.get();
+                int assigned = cell.assigned.get();
+                int riders = cell.riders.get();
+                int recent = cell.recentArrivals(minute);
+                if (pending == 0 && assigned == 0 && riders == 0 && recent == 0) continue;
+                result.add(new HeatCellDTO(
+                        (i + 0.5) * CELL_DEG, (j + 0.5) * CELL_DEG,
+                        pending, assigned, riders, recent,
+                        multiplier(i, j)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 매장 셀의 할증 배율 (모르는 매장/할증 비활성은 1.0)
+     */
+    public double surgeMultiplier(Long storeId) {
+        if (!surgeEnabled || storeId == null) return 1.0;
+        Long key = storeCells.get(storeId);
+        if (key == null) return 1.0;
+        return multiplier(key >> 32, (int) (long) key);
+    }
+
+    /**
+     * 매장 배달팁에 할증을 적용한다. (100원 단위 반올림, 기본 배달팁 미만으로 내려가지 않음)
+     */
+    public long applySurge(Long storeId, long baseFee) {
+        double multiplier = surgeMultiplier(storeId);
+        if (multiplier <= 1.0 || baseFee <= 0) return baseFee;
+        long surged = Math.round(baseFee * multiplier / 100.0) * 100;
+        return Math.max(baseFee, surged);
+    }
+
+    // 주변 3x3 셀 합계로 (수요 / 공급) 비율을 구해 배율로 바꾼다. 0.1 단위
+    private double multiplier(long latIndex, long lonIndex) {
+        int demand = 0;
+        int supply = 0;
+        for (long i = latIndex - 1; i <= latIndex + 1; i++) {
+            for (long j = lonIndex - 1; j <= lonIndex + 1; j++) {
+                Cell cell = cells.get(cellKey(i, j));
+                if (cell == null) continue;
+                demand += cell.pending.get() + cell.assigned.get();
+                supply += cell.riders.get();
+            }
+        }
+        double ratio = (double) demand / Math.max(1, supply);
+        double raw = 1.0 + surgeStep * Math.max(0.0, ratio - surgeThreshold);
+        return Math.min(surgeMax, Math.round(raw * 10) / 10.0);
+    }
+
+    private Cell cell(long key) {
+        Cell cell = cells.get(key);
+        if (cell == null) {
+            cell = cells.computeIfAbsent(key, k -> new Cell(windowMinutes));
+        }
+        return cell;
+    }
+
+    private static long currentMinute() {
+        return System.currentTimeMillis() / 60_000L;
+    }
+
+    private static long cellIndex(double degree) {
+        return (long) Math.floor(degree / CELL_DEG);
+    }
+
+    // 상위 32비트 = 위도 칸, 하위 32비트 = 경도 칸 (음수 경도 칸은 (int) 캐스팅으로 복원)
+    private static long cellKey(long latIndex, long lonIndex) {
+        return (latIndex << 32) ^ (lonIndex & 0xffffffffL);
+    }
+}
@@ -0,0 +1,29 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.List;
+
+/**
+ * 배차 알고리즘 (DeliveryDispatchScheduler에서 이용)
+ *
+ * 대기(PENDING) 배달과 배차 가능한 라이더 목록을 받아, 픽업 거리 합이 작아지도록 1:1 매칭한다.
+ * 구현체는 name()으로 구분되며 delivery.dispatch.algorithm 설정으로 선택한다.
+ */
+public interface DispatchAlgorithm {
+
+    // 대기 배달 (매장 = 픽업 좌표)
+    record Job(Long deliveryId, double latitude, double longitude) {}
+
+    // 배차 가능한 라이더 (현재 위치)
+    record Rider(Long delivererId, double latitude, double longitude) {}
+
+    // 매칭 결과
+    record Assignment(Long deliveryId, Long delivererId, double pickupDistanceM) {}
+
+    String name();
+
+    /**
+     * maxPickupM을 초과하는 조합은 매칭하지 않는다.
+     * 한 배달/라이더는 최대 1번만 결과에 등장해야 한다.
+     */
+    List<Assignment> match(List<Job> jobs, List<Rider> riders, double maxPickupM);
+}
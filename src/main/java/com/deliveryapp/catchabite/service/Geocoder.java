@@ -0,0 +1,47 @@
+package com.deliveryapp.catchabite.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주소 문자열 -> 좌표 변환기 (GeocodingService에서 이용)
+ *
+ * 구현체는 name()으로 구분되며 store.geo.geocoder 설정으로 선택한다.
+ * (기본: 오프라인 지역 중심점 근사, 외부 지오코딩 API는 같은 인터페이스로 추가)
+ */
+public interface Geocoder {
+
+    String name();
+
+    /**
+     * 주소의 좌표. 위치를 알 수 없는 주소면 empty
+     */
+    Optional<Point> geocode(String address);
+
+    /**
+     * 위도/경도 (도)
+     */
+    record Point(double latitude, double longitude) {
+
+        // 엔티티 좌표 컬럼(precision 10, scale 7)용
+        public BigDecimal latitudeDecimal() {
+            return BigDecimal.valueOf(latitude).setScale(7, RoundingMode.HALF_UP);
+        }
+
+        public BigDecimal longitudeDecimal() {
+            return BigDecimal.valueOf(longitude).setScale(7, RoundingMode.HALF_UP);
+        }
+    }
+
+    /**
+     * 등록된 구현체 중 이름이 같은 것을 고른다.
+     */
+    static Geocoder select(List<Geocoder> geocoders, String name) {
+        return geocoders.stream()
+                .filter(g -> g.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 지오코더입니다. geocoder=" + name));
+    }
+}
@@ -0,0 +1,52 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.deliveryapp.catchabite.entity.Address;
+import com.deliveryapp.catchabite.repository.AddressRepository;
+
+/**
+ * 매장/배송지 주소의 좌표 변환 (store.geo.geocoder로 고른 Geocoder에 위임)
+ *
+ * 매장은 등록/주소 변경 시, 배송지는 등록/수정 시 좌표를 구해 엔티티에 저장한다.
+ * 변환 실패(empty)는 예외가 아니며, 좌표가 없는 매장/배송지는 거리 기반 목록에서만 빠진다.
+ */
+@Service
+public class GeocodingService {
+
+    private final Geocoder geocoder;
+    private final AddressRepository addressRepository;
+
+    public GeocodingService(
+            List<Geocoder> geocoders,
+            AddressRepository addressRepository,
+            @Value("${store.geo.geocoder:offline}") String geocoderName) {
+        this.geocoder = Geocoder.select(geocoders, geocoderName);
+        this.addressRepository = addressRepository;
+    }
+
+    public Optional<Geocoder.Point> geocode(String address) {
+        return geocoder.geocode(address);
+    }
+
+    /**
+     * 로그인 사용자 본인 배송지의 좌표 (저장된 좌표가 없으면 지금 변환)
+     */
+    public Geocoder.Point locateAddress(Long addressId, String userLoginId) {
+        if (userLoginId == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다.");
+        }
+        Address address = addressRepository.findByAddressIdAndAppUser_AppUserEmail(addressId, userLoginId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 배송지입니다. addressId=" + addressId));
+        if (address.getAddressLatitude() != null && address.getAddressLongitude() != null) {
+            return new Geocoder.Point(
+                    address.getAddressLatitude().doubleValue(), address.getAddressLongitude().doubleValue());
+        }
+        return geocode(address.getAddressDetail())
+                .orElseThrow(() -> new IllegalArgumentException("배송지 위치를 확인할 수 없습니다. addressId=" + addressId));
+    }
+}
@@ -0,0 +1,49 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+
+/**
+ * 탐욕(greedy) 배차: 모든 (배달, 라이더) 조합을 픽업 거리순으로 정렬한 뒤
+ * 아직 매칭되지 않은 쌍부터 차례로 확정한다. O(nm log nm)
+ */
+@Component
+public class GreedyDispatchAlgorithm implements DispatchAlgorithm {
+
+    @Override
+    public String name() {
+        return "greedy";
+    }
+
+    @Override
+    public List<Assignment> match(List<Job> jobs, List<Rider> riders, double maxPickupM) {
+        List<Assignment> pairs = new ArrayList<>();
+        for (Job job : jobs) {
+            for (Rider rider : riders) {
+                double d = GeoUtils.haversineMeters(
+                        rider.latitude(), rider.longitude(), job.latitude(), job.longitude());
+                if (d <= maxPickupM) {
+                    pairs.add(new Assignment(job.deliveryId(), rider.delivererId(), d));
+                }
+            }
+        }
+        pairs.sort((a, b) -> Double.compare(a.pickupDistanceM(), b.pickupDistanceM()));
+
+        Set<Long> usedDeliveries = new HashSet<>();
+        Set<Long> usedRiders = new HashSet<>();
+        List<Assignment> result = new ArrayList<>();
+        for (Assignment pair : pairs) {
+            if (usedDeliveries.contains(pair.deliveryId()) || usedRiders.contains(pair.delivererId())) continue;
+            usedDeliveries.add(pair.deliveryId());
+            usedRiders.add(pair.delivererId());
+            result.add(pair);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package com.deliveryapp.catchabite.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+
+/**
+ * 오프라인 경로 계산 (외부 API 호출 없음)
+ *
+ * - 거리 = 대원 거리(haversine) x 도로 보정 계수(delivery.routing.road-factor, 1.0이면 보정 없음)
+ * - 소요시간 = 거리 / 평균 주행 속도(delivery.routing.avg-speed-kmh)
+ */
+@Component
+public class HaversineRoutingProvider implements RoutingProvider {
+
+    // 직선거리 대비 실제 도로 거리 비율
+    @Value("${delivery.routing.road-factor:1.3}")
+    private double roadFactor;
+
+    // 이륜차 도심 평균 속도(km/h)
+    @Value("${delivery.routing.avg-speed-kmh:20}")
+    private double avgSpeedKmh;
+
+    @Override
+    public String name() {
+        return "haversine";
+    }
+
+    @Override
+    public void route(double[] fromLat, double[] fromLon, double[] toLat, double[] toLon,
+                      double[] outMeters, double[] outSeconds, int n) {
+        GeoUtils.haversineMeters(fromLat, fromLon, toLat, toLon, outMeters, n);
+
+        double factor = Math.max(1.0, roadFactor);
+        double secondsPerMeter = 3.6 / Math.max(1.0, avgSpeedKmh);
+        for (int i = 0; i < n; i++) {
+            double meters = outMeters[i] * factor;
+            outMeters[i] = meters;
+            outSeconds[i] = meters * secondsPerMeter;
+        }
+    }
+}
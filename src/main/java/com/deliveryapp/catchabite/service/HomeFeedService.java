@@ -0,0 +1,16 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.List;
+
+import com.deliveryapp.catchabite.dto.HomeFeedItemDTO;
+
+public interface HomeFeedService {
+
+    /**
+     * 홈 화면 매장 피드를 조회합니다.
+     * 무작위/지금 인기/(선택) 카테고리 목록에, 로그인 시 즐겨찾기/자주 주문한 가게,
+     * 배송지(addressId)가 있으면 가까운 가게를 더해 점수 순으로 한 목록(매장 중복 없음)을 만듭니다.
+     * 배송지가 있으면 배달 가능한 가게만 남습니다.
+     */
+    List<HomeFeedItemDTO> getHomeFeed(String userLoginId, Long addressId, String category, int limit);
+}
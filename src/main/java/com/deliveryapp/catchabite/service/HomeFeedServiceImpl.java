@@ -0,0 +1,243 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.deliveryapp.catchabite.domain.enumtype.StoreCategory;
+import com.deliveryapp.catchabite.domain.enumtype.StoreOpenStatus;
+import com.deliveryapp.catchabite.dto.HomeFeedItemDTO;
+import com.deliveryapp.catchabite.dto.HomeFeedItemDTO.Source;
+import com.deliveryapp.catchabite.dto.UserFavoriteStoreResponseDTO;
+import com.deliveryapp.catchabite.dto.UserStoreSummaryDTO;
+import com.deliveryapp.catchabite.repository.AppUserRepository;
+import com.deliveryapp.catchabite.repository.StoreRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 홈 피드 (GET /api/v1/appuser/home)
+ *
+ * - 출처(무작위/인기/카테고리/즐겨찾기/자주 주문/가까운 가게)를 전용 풀에서 동시에 읽는다.
+ *   응답 시간은 출처들의 합이 아니라 가장 느린 출처(최대 source-timeout-ms)로 정해진다.
+ * - 실패하거나 제한 시간을 넘긴 출처는 빈 목록으로 보고 나머지로 피드를 만든다.
+ *   제한 시간을 넘긴 작업은 취소(interrupt)해 늦게라도 DB 연결을 더 붙잡지 않게 한다.
+ * - 풀 설정
+ *   home.feed.workers (기본 4): 출처 작업 동시 실행 수. 출처마다 DB 연결을 1개씩 쓰므로
+ *     커넥션 풀(Hikari 기본 10)보다 충분히 작게 두어 요청 스레드 몫의 연결을 남긴다.
+ *   home.feed.queue-capacity (기본 64): 대기 작업 상한. 가득 차면 그 출처는 바로 빈 목록으로 처리한다.
+ *     (대기열에서 제한 시간을 다 쓰는 것보다 빨리 빈 출처로 응답하는 편이 낫다)
+ *   home.feed.source-timeout-ms (기본 800): 출처별 제한 시간 (대기 시간 포함)
+ * - 점수 = 평점 0.3 + 최근 주문 수 0.3 + 거리 0.2 + 자주 주문한 순위 0.2 (+ 즐겨찾기 0.1)
+ *   최근 주문 수는 후보 중 최댓값 기준 로그 정규화, 거리는 배송지가 있을 때만 반영한다.
+ */
+@Log4j2
+@Service
+public class HomeFeedServiceImpl implements HomeFeedService {
+
+    // 홈 피드 최대 건수
+    private static final int HOME_MAX_SIZE = 50;
+
+    private static final double RATING_WEIGHT = 0.3;
+    private static final double POPULARITY_WEIGHT = 0.3;
+    private static final double DISTANCE_WEIGHT = 0.2;
+    private static final double FREQUENCY_WEIGHT = 0.2;
+    private static final double FAVORITE_BONUS = 0.1;
+    // 이 거리(m) 이상이면 거리 점수 0
+    private static final double DISTANCE_SCALE_M = 5000;
+
+    private final UserStoreService userStoreService;
+    private final UserStoreOrderService userStoreOrderService;
+    private final FavoriteStoreService favoriteStoreService;
+    private final AppUserRepository appUserRepository;
+    private final StoreRepository storeRepository;
+    private final StoreSummaryLoader storeSummaryLoader;
+    private final StorePopularityCounters storePopularityCounters;
+    private final StoreGeoIndex storeGeoIndex;
+    private final GeocodingService geocodingService;
+    private final long sourceTimeoutMs;
+    private final ThreadPoolExecutor sourceExecutor;
+
+    public HomeFeedServiceImpl(
+            UserStoreService userStoreService,
+            UserStoreOrderService userStoreOrderService,
+            FavoriteStoreService favoriteStoreService,
+            AppUserRepository appUserRepository,
+            StoreRepository storeRepository,
+            StoreSummaryLoader storeSummaryLoader,
+            StorePopularityCounters storePopularityCounters,
+            StoreGeoIndex storeGeoIndex,
+            GeocodingService geocodingService,
+            @Value("${home.feed.workers:4}") int workers,
+            @Value("${home.feed.queue-capacity:64}") int queueCapacity,
+            @Value("${home.feed.source-timeout-ms:800}") long sourceTimeoutMs) {
+        this.userStoreService = userStoreService;
+        this.userStoreOrderService = userStoreOrderService;
+        this.favoriteStoreService = favoriteStoreService;
+        this.appUserRepository = appUserRepository;
+        this.storeRepository = storeRepository;
+        this.storeSummaryLoader = storeSummaryLoader;
+        this.storePopularityCounters = storePopularityCounters;
+        this.storeGeoIndex = storeGeoIndex;
+        this.geocodingService = geocodingService;
+        this.sourceTimeoutMs = Math.max(1, sourceTimeoutMs);
+
+        AtomicInteger seq = new AtomicInteger();
+        int poolSize = Math.max(1, workers);
+        // 대기열이 차면 RejectedExecutionException -> fetch에서 빈 출처로 처리
+        this.sourceExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                    Thread t = new Thread(r, "home-feed-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sourceExecutor.shutdownNow();
+    }
+
+    @Override
+    public List<HomeFeedItemDTO> getHomeFeed(String userLoginId, Long addressId, String category, int limit) {
+        int size = Math.min(Math.max(limit, 1), HOME_MAX_SIZE);
+
+        // 배송지가 있으면 배달 가능한 매장(거리 포함)을 먼저 구한다. (위치 색인만 읽음)
+        // 가까운 가게 출처는 영업 중인 매장 size곳만 색인에서 거른다. (매장은 size건만 읽음)
+        Map<Long, StoreGeoIndex.Hit> deliverable = null;
+        List<Long> nearbyIds = null;
+        if (addressId != null) {
+            Geocoder.Point point = geocodingService.locateAddress(addressId, userLoginId);
+            deliverable = storeGeoIndex.covering(point.latitude(), point.longitude(), Integer.MAX_VALUE).stream()
+                    .collect(Collectors.toMap(StoreGeoIndex.Hit::storeId, h -> h, (a, b) -> a, LinkedHashMap::new));
+            nearbyIds = storeGeoIndex.coveringOpen(point.latitude(), point.longitude(), size).stream()
+                    .map(StoreGeoIndex.Hit::storeId)
+                    .toList();
+        }
+
+        Map<Source, CompletableFuture<List<UserStoreSummaryDTO>>> futures = new LinkedHashMap<>();
+        futures.put(Source.RANDOM, fetch(Source.RANDOM,
+                () -> userStoreService.getRandomStores(null, size).getContent()));
+        futures.put(Source.POPULAR, fetch(Source.POPULAR,
+                () -> userStoreService.getPopularStores(size)));
+        if (category != null && !category.isBlank()) {
+            // 잘못된 카테고리는 출처 누락이 아니라 요청 오류로
+            StoreCategory storeCategory = StoreCategory.from(category);
+            // 카테고리 전체가 아니라 영업 중 상위 size곳만 (다른 출처와 같은 상한)
+            futures.put(Source.CATEGORY, fetch(Source.CATEGORY, () -> storeSummaryLoader.load(
+                    storeRepository.findTopByCategory(storeCategory, StoreOpenStatus.OPEN, PageRequest.of(0, size)))));
+        }
+        if (userLoginId != null) {
+            futures.put(Source.FAVORITE, fetch(Source.FAVORITE, () -> storeSummaryLoader.loadByIds(
+                    favoriteStoreService.getMyFavoriteStores(userLoginId).stream()
+                            .map(UserFavoriteStoreResponseDTO::getStoreId)
+                            .toList())));
+            futures.put(Source.FREQUENT, fetch(Source.FREQUENT, () -> appUserRepository.findByAppUserEmail(userLoginId)
+                    .map(user -> userStoreOrderService.getFrequentStores(user.getAppUserId()))
+                    .orElse(List.of())));
+        }
+        if (nearbyIds != null) {
+            List<Long> ids = nearbyIds;
+            futures.put(Source.NEARBY, fetch(Source.NEARBY, () -> storeSummaryLoader.loadByIds(ids)));
+        }
+
+        // 모든 출처는 제한 시간 안에 (빈 목록으로라도) 끝난다.
+        CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+
+        // 매장별로 합치기 (먼저 나온 요약을 쓰고 출처만 더함)
+        Map<Long, UserStoreSummaryDTO> stores = new LinkedHashMap<>();
+        Map<Long, Set<Source>> sources = new LinkedHashMap<>();
+        Map<Long, Double> frequency = new LinkedHashMap<>();
+        for (Map.Entry<Source, CompletableFuture<List<UserStoreSummaryDTO>>> e : futures.entrySet()) {
+            List<UserStoreSummaryDTO> list = e.getValue().join();
+            for (int i = 0; i < list.size(); i++) {
+                UserStoreSummaryDTO dto = list.get(i);
+                if (dto.getStoreOpenStatus() != StoreOpenStatus.OPEN) continue;
+                if (deliverable != null && !deliverable.containsKey(dto.getStoreId())) continue;
+
+                stores.putIfAbsent(dto.getStoreId(), dto);
+                sources.computeIfAbsent(dto.getStoreId(), k -> EnumSet.noneOf(Source.class)).add(e.getKey());
+                if (e.getKey() == Source.FREQUENT) {
+                    // 자주 주문한 순위: 1위 1.0 ~ 마지막 1/n
+                    frequency.put(dto.getStoreId(), 1.0 - (double) i / list.size());
+                }
+            }
+        }
+        if (stores.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> recentOrders = stores.keySet().stream()
+                .collect(Collectors.toMap(Function.identity(), storePopularityCounters::recentOrders));
+        double maxPopularity = Math.log1p(recentOrders.values().stream().mapToInt(Integer::intValue).max().orElse(0));
+
+        List<HomeFeedItemDTO> items = new ArrayList<>(stores.size());
+        for (UserStoreSummaryDTO dto : stores.values()) {
+            Long storeId = dto.getStoreId();
+            Set<Source> from = sources.get(storeId);
+
+            double rating = (dto.getStoreRating() == null) ? 0 : Math.min(dto.getStoreRating(), 5.0) / 5.0;
+            double popularity = (maxPopularity <= 0) ? 0 : Math.log1p(recentOrders.get(storeId)) / maxPopularity;
+            double score = RATING_WEIGHT * rating
+                    + POPULARITY_WEIGHT * popularity
+                    + FREQUENCY_WEIGHT * frequency.getOrDefault(storeId, 0.0)
+                    + (from.contains(Source.FAVORITE) ? FAVORITE_BONUS : 0);
+
+            if (deliverable != null) {
+                double distanceM = deliverable.get(storeId).distanceM();
+                score += DISTANCE_WEIGHT * (1.0 - Math.min(distanceM, DISTANCE_SCALE_M) / DISTANCE_SCALE_M);
+                dto = dto.toBuilder().distanceMeters((int) Math.round(distanceM)).build();
+            }
+            items.add(new HomeFeedItemDTO(dto, score, List.copyOf(from)));
+        }
+
+        items.sort(Comparator.comparingDouble(HomeFeedItemDTO::getScore).reversed()
+                .thenComparing(item -> item.getStore().getStoreId()));
+        return (items.size() > size) ? List.copyOf(items.subList(0, size)) : items;
+    }
+
+    // 출처 1개를 풀에서 읽는다. 대기열 초과/실패/시간 초과면 빈 목록, 시간 초과한 작업은 취소
+    private CompletableFuture<List<UserStoreSummaryDTO>> fetch(Source source, Supplier<List<UserStoreSummaryDTO>> supplier) {
+        CompletableFuture<List<UserStoreSummaryDTO>> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = sourceExecutor.submit(() -> {
+                try {
+                    result.complete(supplier.get());
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("home feed source skipped, queue full. source={}", source);
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return result
+                .orTimeout(sourceTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    // 아직 대기 중이면 실행되지 않고, 실행 중이면 interrupt
+                    task.cancel(true);
+                    log.warn("home feed source skipped. source={}, cause={}", source, e.toString());
+                    return List.of();
+                });
+    }
+}
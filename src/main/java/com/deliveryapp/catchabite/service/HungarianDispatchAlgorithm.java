@@ -0,0 +1,115 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+
+/**
+ * 헝가리안(Hungarian) 배차: 픽업 거리 합이 최소가 되는 최적 매칭을 구한다. O(n^2 m)
+ *
+ * - 행(row)은 배달/라이더 중 적은 쪽, 열(column)은 많은 쪽으로 둔다.
+ * - maxPickupM을 넘는 조합은 매우 큰 비용으로 두고, 결과에서 제외한다.
+ */
+@Component
+public class HungarianDispatchAlgorithm implements DispatchAlgorithm {
+
+    private static final double FORBIDDEN = 1e9;
+
+    @Override
+    public String name() {
+        return "hungarian";
+    }
+
+    @Override
+    public List<Assignment> match(List<Job> jobs, List<Rider> riders, double maxPickupM) {
+        if (jobs.isEmpty() || riders.isEmpty()) return List.of();
+
+        boolean jobsAsRows = jobs.size() <= riders.size();
+        int n = jobsAsRows ? jobs.size() : riders.size();
+        int m = jobsAsRows ? riders.size() : jobs.size();
+
+        double[][] cost = new double[n][m];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                Job job = jobs.get(jobsAsRows ? i : j);
+                Rider rider = riders.get(jobsAsRows ? j : i);
+                double d = GeoUtils.haversineMeters(
+                        rider.latitude(), rider.longitude(), job.latitude(), job.longitude());
+                cost[i][j] = (d <= maxPickupM) ? d : FORBIDDEN;
+            }
+        }
+
+        int[] rowOfColumn = solve(cost, n, m);
+
+        List<Assignment> result = new ArrayList<>();
+        for (int j = 1; j <= m; j++) {
+            int i = rowOfColumn[j];
+            if (i == 0) continue;
+            double d = cost[i - 1][j - 1];
+            if (d >= FORBIDDEN) continue;
+
+            Job job = jobs.get(jobsAsRows ? i - 1 : j - 1);
+            Rider rider = riders.get(jobsAsRows ? j - 1 : i - 1);
+            result.add(new Assignment(job.deliveryId(), rider.delivererId(), d));
+        }
+        return result;
+    }
+
+    // 포텐셜(u, v)을 이용한 헝가리안 알고리즘 (1-indexed, n <= m)
+    // 반환값 p[j] = 열 j에 배정된 행 번호 (0이면 미배정)
+    private static int[] solve(double[][] cost, int n, int m) {
+        double[] u = new double[n + 1];
+        double[] v = new double[m + 1];
+        int[] p = new int[m + 1];
+        int[] way = new int[m + 1];
+        double[] minv = new double[m + 1];
+        boolean[] used = new boolean[m + 1];
+
+        for (int i = 1; i <= n; i++) {
+            p[0] = i;
+            int j0 = 0;
+            Arrays.fill(minv, Double.MAX_VALUE);
+            Arrays.fill(used, false);
+
+            do {
+                used[j0] = true;
+                int i0 = p[j0];
+                int j1 = 0;
+                double delta = Double.MAX_VALUE;
+
+                for (int j = 1; j <= m; j++) {
+                    if (used[j]) continue;
+                    double cur = cost[i0 - 1][j - 1] - u[i0] - v[j];
+                    if (cur < minv[j]) {
+                        minv[j] = cur;
+                        way[j] = j0;
+                    }
+                    if (minv[j] < delta) {
+                        delta = minv[j];
+                        j1 = j;
+                    }
+                }
+                for (int j = 0; j <= m; j++) {
+                    if (used[j]) {
+                        u[p[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minv[j] -= delta;
+                    }
+                }
+                j0 = j1;
+            } while (p[j0] != 0);
+
+            do {
+                int j1 = way[j0];
+                p[j0] = p[j1];
+                j0 = j1;
+            } while (j0 != 0);
+        }
+        return p;
+    }
+}
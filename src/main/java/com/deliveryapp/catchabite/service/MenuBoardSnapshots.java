@@ -0,0 +1,178 @@
+package com.deliveryapp.catchabite.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.response.ApiResponse;
+import com.deliveryapp.catchabite.common.util.TransactionUtils;
+import com.deliveryapp.catchabite.dto.MenuCategoryWithMenusDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 매장 메뉴판(GET /api/v1/appuser/stores/{storeId}/menus) 직렬화 스냅샷
+ *
+ * - 매장별 메뉴판 JSON과 그 해시(ETag)를 보관한다. 조회 때는 ApiResponse 봉투만 직렬화하고 메뉴판 JSON은 그대로 끼운다.
+ * - 메뉴/메뉴 카테고리/메뉴 이미지/옵션 그룹/옵션/판매 상태가 바뀌면 커밋 이후 전용 스레드에서 다시 만든다.
+ *   다시 만드는 동안에는 이전 스냅샷을 그대로 내보낸다.
+ * - 매장별 세대(generation) 번호를 두어, 변경 전에 읽기 시작한 스냅샷이 더 새 스냅샷을 덮어쓰지 않게 한다.
+ * - 스냅샷이 없는 매장은 첫 요청 스레드에서 만든다. max-entries를 넘으면 임의의 항목을 버린다.
+ */
+@Log4j2
+@Component
+public class MenuBoardSnapshots {
+
+    private final UserMenuCategoryService userMenuCategoryService;
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    // 재생성 대기 중인 매장 (같은 매장의 연속 변경은 한 번으로 합친다)
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "menu-board-refresh");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * 메뉴판 1건. json = 메뉴판 목록(data 부분)만, etag = json의 SHA-256 앞 16바이트 (따옴표 포함)
+     */
+    public record Snapshot(long generation, String json, String etag) {
+
+        /**
+         * If-None-Match 헤더 값이 이 스냅샷과 같은지 (약한 비교, "*" 허용)
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+            for (String tag : ifNoneMatch.split(",")) {
+                String t = tag.trim();
+                if (t.startsWith("W/")) t = t.substring(2);
+                if (t.equals("*") || t.equals(etag)) return true;
+            }
+            return false;
+        }
+    }
+
+    public MenuBoardSnapshots(
+            UserMenuCategoryService userMenuCategoryService,
+            ObjectMapper objectMapper,
+            @Value("${store.menu-board.max-entries:5000}") int maxEntries) {
+        this.userMenuCategoryService = userMenuCategoryService;
+        this.objectMapper = objectMapper;
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * 매장 메뉴판 스냅샷. 없으면 지금 만든다. (존재하지 않는 매장이면 IllegalArgumentException)
+     */
+    public Snapshot get(Long storeId) {
+        Snapshot snapshot = snapshots.get(storeId);
+        return (snapshot != null) ? snapshot : build(storeId);
+    }
+
+    /**
+     * 메뉴판이 바뀌는 변경 경로에서 호출한다. 커밋 이후 비동기로 다시 만든다.
+     */
+    public void refreshAfterCommit(Long storeId) {
+        TransactionUtils.runAfterCommit(() -> refresh(storeId));
+    }
+
+    public void refresh(Long storeId) {
+        if (storeId == null) return;
+        generations.computeIfAbsent(storeId, k -> new AtomicLong()).incrementAndGet();
+        schedule(storeId);
+    }
+
+    /**
+     * ApiResponse.ok(메뉴판)으로 감싼 응답 본문. 다른 API와 같은 ObjectMapper로 직렬화하고,
+     * data 부분은 스냅샷 JSON을 그대로 끼워 넣는다. (timestamp만 요청마다 다름)
+     */
+    public byte[] body(Snapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.ok(new RawValue(snapshot.json())));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메뉴판 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void schedule(Long storeId) {
+        if (!snapshots.containsKey(storeId)) return; // 아직 요청된 적 없는 매장은 첫 요청 때 만든다.
+        if (!pending.add(storeId)) return;
+        refreshExecutor.execute(() -> {
+            // 만드는 도중 들어온 변경은 다시 대기열에 오르도록 먼저 뺀다.
+            pending.remove(storeId);
+            try {
+                build(storeId);
+            } catch (RuntimeException e) {
+                // 매장 삭제 등으로 만들 수 없으면 버리고 다음 요청 때 다시 시도
+                snapshots.remove(storeId);
+                log.warn("menu board refresh failed. storeId={}", storeId, e);
+            }
+        });
+    }
+
+    private Snapshot build(Long storeId) {
+        long generation = generation(storeId);
+        List<MenuCategoryWithMenusDTO> board = userMenuCategoryService.getMenuBoardForUser(storeId);
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(board);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메뉴판 직렬화에 실패했습니다. storeId=" + storeId, e);
+        }
+        Snapshot built = new Snapshot(generation, json, etagOf(json));
+
+        if (snapshots.size() >= maxEntries && !snapshots.containsKey(storeId)) {
+            Iterator<Long> it = snapshots.keySet().iterator();
+            if (it.hasNext()) snapshots.remove(it.next());
+        }
+        // 더 새 세대의 스냅샷이 이미 있으면 그것을 유지
+        Snapshot stored = snapshots.merge(storeId, built,
+                (current, next) -> (next.generation() >= current.generation()) ? next : current);
+
+        // 읽는 도중 변경이 커밋됐는데 그때는 스냅샷이 없어 재생성을 건너뛰었을 수 있으므로 다시 확인
+        if (generation(storeId) != stored.generation()) schedule(storeId);
+        return stored;
+    }
+
+    private long generation(Long storeId) {
+        AtomicLong generation = generations.get(storeId);
+        return (generation == null) ? 0L : generation.get();
+    }
+
+    private static String etagOf(String json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
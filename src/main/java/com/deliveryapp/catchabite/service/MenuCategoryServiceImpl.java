@@ -18,6 +18,8 @@ public class MenuCategoryServiceImpl implements MenuCategoryService {
 
 	private final StoreRepository storeRepository;
 	private final MenuCategoryRepository menuCategoryRepository;
+	private final StoreDetailCache storeDetailCache;
+	private final MenuBoardSnapshots menuBoardSnapshots;
 
 
 	@Override
@@ -49,6 +51,8 @@ public class MenuCategoryServiceImpl implements MenuCategoryService {
 				.build();
 
 		MenuCategory saved = menuCategoryRepository.save(category);
+		storeDetailCache.bumpAfterCommit(storeId);
+		menuBoardSnapshots.refreshAfterCommit(storeId);
 
 		return MenuCategoryDTO.builder()
 				.menuCategoryId(saved.getMenuCategoryId())
@@ -68,6 +72,8 @@ public class MenuCategoryServiceImpl implements MenuCategoryService {
 				.orElseThrow(() -> new IllegalArgumentException("카테고리가 존재하지 않습니다."));
 
 		category.changeName(dto.getMenuCategoryName());
+		storeDetailCache.bumpAfterCommit(storeId);
+		menuBoardSnapshots.refreshAfterCommit(storeId);
 
 		return MenuCategoryDTO.builder()
 				.menuCategoryId(category.getMenuCategoryId())
@@ -87,5 +93,7 @@ public class MenuCategoryServiceImpl implements MenuCategoryService {
 				.orElseThrow(() -> new IllegalArgumentException("카테고리가 존재하지 않습니다."));
 
 		menuCategoryRepository.delete(category);
+		storeDetailCache.bumpAfterCommit(storeId);
+		menuBoardSnapshots.refreshAfterCommit(storeId);
 	}
 }
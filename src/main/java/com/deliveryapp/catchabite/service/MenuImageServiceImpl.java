@@ -29,6 +29,8 @@ public class MenuImageServiceImpl implements MenuImageService {
     private final StoreRepository storeRepository;
     private final MenuRepository menuRepository;
     private final MenuImageRepository menuImageRepository;
+    private final StoreDetailCache storeDetailCache;
+    private final MenuBoardSnapshots menuBoardSnapshots;
 
     /**
      * application.properties 기준(현재 main.zip): com.deliveryapp.catchabite=C:\\upload
@@ -69,6 +71,8 @@ public class MenuImageServiceImpl implements MenuImageService {
 
         Store store = storeRepository.findByStoreIdAndStoreOwner_StoreOwnerId(storeId, storeOwnerId)
                 .orElseThrow(() -> new IllegalArgumentException("내 매장이 아닙니다. storeId=" + storeId));
+        storeDetailCache.bumpAfterCommit(storeId);
+        menuBoardSnapshots.refreshAfterCommit(storeId);
 
         Menu menu = menuRepository.findByMenuIdAndStore_StoreId(menuId, store.getStoreId())
                 .orElseThrow(() -> new IllegalArgumentException("메뉴가 존재하지 않습니다. menuId=" + menuId));
@@ -146,6 +150,8 @@ public class MenuImageServiceImpl implements MenuImageService {
 
         Store store = storeRepository.findByStoreIdAndStoreOwner_StoreOwnerId(storeId, storeOwnerId)
                 .orElseThrow(() -> new IllegalArgumentException("내 매장이 아닙니다. storeId=" + storeId));
+        storeDetailCache.bumpAfterCommit(storeId);
+        menuBoardSnapshots.refreshAfterCommit(storeId);
 
         Menu menu = menuRepository.findByMenuIdAndStore_StoreId(menuId, store.getStoreId())
                 .orElseThrow(() -> new IllegalArgumentException("메뉴가 존재하지 않습니다. menuId=" + menuId));
@@ -181,6 +187,8 @@ public class MenuImageServiceImpl implements MenuImageService {
 
         Store store = storeRepository.findByStoreIdAndStoreOwner_StoreOwnerId(storeId, storeOwnerId)
                 .orElseThrow(() -> new IllegalArgumentException("내 매장이 아닙니다. storeId=" + storeId));
+        storeDetailCache.bumpAfterCommit(storeId);
+        menuBoardSnapshots.refreshAfterCommit(storeId);
 
         Menu menu = menuRepository.findByMenuIdAndStore_StoreId(menuId, store.getStoreId())
                 .orElseThrow(() -> new IllegalArgumentException("메뉴가 존재하지 않습니다. menuId=" + menuId));
@@ -198,6 +206,8 @@ public class MenuImageServiceImpl implements MenuImageService {
 
         Store store = storeRepository.findByStoreIdAndStoreOwner_StoreOwnerId(storeId, storeOwnerId)
                 .orElseThrow(() -> new IllegalArgumentException("내 매장이 아닙니다. storeId=" + storeId));
+        storeDetailCache.bumpAfterCommit(storeId);
+        menuBoardSnapshots.refreshAfterCommit(storeId);
 
         Menu menu = menuRepository.findByMenuIdAndStore_StoreId(menuId, store.getStoreId())
                 .orElseThrow(() -> new IllegalArgumentException("메뉴가 존재하지 않습니다. menuId=" + menuId));
@@ -20,6 +20,8 @@ public class MenuOptionGroupServiceImpl implements MenuOptionGroupService {
 	private final StoreRepository storeRepository;
 	private final MenuRepository menuRepository;
 	private final MenuOptionGroupRepository menuOptionGroupRepository;
+	private final StoreDetailCache storeDetailCache;
+	private final MenuBoardSnapshots menuBoardSnapshots;
 
 	@Override
 	@Transactional(readOnly = true)
@@ -62,6 +64,8 @@ public class MenuOptionGroupServiceImpl implements MenuOptionGroupService {
 				.build();
 
 		menuOptionGroupRepository.save(group);
+		storeDetailCache.bumpAfterCommit(storeId);
+		menuBoardSnapshots.refreshAfterCommit(storeId);
 	}
 
 	@Override
@@ -82,6 +86,8 @@ public class MenuOptionGroupServiceImpl implements MenuOptionGroupService {
 				dto.getMenuOptionGroupName(),
 				dto.getRequired()
 		);
+		storeDetailCache.bumpAfterCommit(storeId);
+		menuBoardSnapshots.refreshAfterCommit(storeId);
 	}
 
 	@Override
@@ -99,5 +105,7 @@ public class MenuOptionGroupServiceImpl implements MenuOptionGroupService {
 				.orElseThrow(() -> new IllegalArgumentException("option group not found"));
 
 		menuOptionGroupRepository.delete(group);
+		storeDetailCache.bumpAfterCommit(storeId);
+		menuBoardSnapshots.refreshAfterCommit(storeId);
 	}
 }
@@ -23,6 +23,8 @@ public class MenuOptionServiceImpl implements MenuOptionService {
 	private final MenuRepository menuRepository;
 	private final MenuOptionGroupRepository menuOptionGroupRepository;
 	private final MenuOptionRepository menuOptionRepository;
+	private final StoreDetailCache storeDetailCache;
+	private final MenuBoardSnapshots menuBoardSnapshots;
 
 	@Override
 	public void createOption(Long storeOwnerId, Long menuId, Long menuOptionGroupId, MenuOptionDTO dto) {
@@ -46,6 +48,8 @@ public class MenuOptionServiceImpl implements MenuOptionService {
 				.build();
 
 		menuOptionRepository.save(option);
+		storeDetailCache.bumpAfterCommit(storeId);
+		menuBoardSnapshots.refreshAfterCommit(storeId);
 	}
 
 	@Override
@@ -95,6 +99,8 @@ public class MenuOptionServiceImpl implements MenuOptionService {
 				.orElseThrow(() -> new IllegalArgumentException("option not found"));
 
 		option.changeInfo(dto.getMenuOptionName(), dto.getMenuOptionPrice());
+		storeDetailCache.bumpAfterCommit(storeId);
+		menuBoardSnapshots.refreshAfterCommit(storeId);
 	}
 
 	@Override
@@ -117,5 +123,7 @@ public class MenuOptionServiceImpl implements MenuOptionService {
 				.orElseThrow(() -> new IllegalArgumentException("option not found"));
 
 		menuOptionRepository.delete(option);
+		storeDetailCache.bumpAfterCommit(storeId);
+		menuBoardSnapshots.refreshAfterCommit(storeId);
 	}
 }
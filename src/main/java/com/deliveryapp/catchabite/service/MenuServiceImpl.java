@@ -21,6 +21,9 @@ public class MenuServiceImpl implements MenuService {
 	private final StoreRepository storeRepository;
 	private final MenuRepository menuRepository;
 	private final MenuCategoryRepository menuCategoryRepository;
+	private final StoreSearchIndex storeSearchIndex;
+	private final StoreDetailCache storeDetailCache;
+	private final MenuBoardSnapshots menuBoardSnapshots;
 
 	@Override
 	@Transactional(readOnly = true)
@@ -68,6 +71,9 @@ public class MenuServiceImpl implements MenuService {
 				.build();
 
 		Menu saved = menuRepository.save(menu);
+		storeSearchIndex.indexMenuAfterCommit(storeId, saved.getMenuId(), saved.getMenuName());
+		storeDetailCache.bumpAfterCommit(storeId);
+		menuBoardSnapshots.refreshAfterCommit(storeId);
 
 		return MenuDTO.builder()
 				.menuId(saved.getMenuId())
@@ -95,6 +101,9 @@ public class MenuServiceImpl implements MenuService {
 				.orElseThrow(() -> new IllegalArgumentException("카테고리가 존재하지 않습니다."));
 
 		menu.changeInfo(category, dto.getMenuName(), dto.getMenuPrice(), dto.getMenuDescription());
+		storeSearchIndex.indexMenuAfterCommit(storeId, menuId, menu.getMenuName());
+		storeDetailCache.bumpAfterCommit(storeId);
+		menuBoardSnapshots.refreshAfterCommit(storeId);
 
 		return MenuDTO.builder()
 				.menuId(menu.getMenuId())
@@ -118,6 +127,8 @@ public class MenuServiceImpl implements MenuService {
 				.orElseThrow(() -> new IllegalArgumentException("메뉴가 존재하지 않습니다. menuId=" + menuId));
 
 		menu.changeAvailability(isAvailable);
+		storeDetailCache.bumpAfterCommit(storeId);
+		menuBoardSnapshots.refreshAfterCommit(storeId);
 	}
 
 	@Override
@@ -130,5 +141,8 @@ public class MenuServiceImpl implements MenuService {
 				.orElseThrow(() -> new IllegalArgumentException("메뉴가 존재하지 않습니다. menuId=" + menuId));
 
 		menuRepository.delete(menu);
+		storeSearchIndex.removeMenuAfterCommit(storeId, menuId);
+		storeDetailCache.bumpAfterCommit(storeId);
+		menuBoardSnapshots.refreshAfterCommit(storeId);
 	}
 }
@@ -0,0 +1,123 @@
+package com.deliveryapp.catchabite.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+
+/**
+ * 오프라인 지오코더 (외부 API 호출 없음, 외부 지오코딩 API를 붙이기 전까지 쓰는 근사값)
+ *
+ * - 주소에서 시/도와 (서울은) 자치구를 찾아 그 중심 좌표를 쓴다. 못 찾으면 empty
+ * - 같은 구 안의 주소가 한 점에 모이지 않도록, 주소 문자열 해시로 중심에서 최대 jitter-m 만큼 옮긴다.
+ *   같은 주소는 항상 같은 좌표가 나온다.
+ */
+@Component
+public class OfflineGeocoder implements Geocoder {
+
+    private static final Point SEOUL = new Point(37.5665, 126.9780);
+
+    // 시/도 중심 (주소 표기 -> 좌표)
+    private static final Map<String, Point> CITIES = new LinkedHashMap<>();
+    // 서울 자치구 중심
+    private static final Map<String, Point> SEOUL_DISTRICTS = new LinkedHashMap<>();
+
+    static {
+        city(SEOUL, "서울");
+        city(new Point(35.1796, 129.0756), "부산");
+        city(new Point(35.8714, 128.6014), "대구");
+        city(new Point(37.4563, 126.7052), "인천");
+        city(new Point(35.1595, 126.8526), "광주광역시");
+        city(new Point(36.3504, 127.3845), "대전");
+        city(new Point(35.5384, 129.3114), "울산");
+        city(new Point(36.4800, 127.2890), "세종");
+        city(new Point(37.2636, 127.0286), "수원");
+        city(new Point(37.4201, 127.1262), "성남");
+        city(new Point(37.6584, 126.8320), "고양");
+        city(new Point(37.2411, 127.1776), "용인");
+
+        SEOUL_DISTRICTS.put("강남구", new Point(37.5172, 127.0473));
+        SEOUL_DISTRICTS.put("강동구", new Point(37.5301, 127.1238));
+        SEOUL_DISTRICTS.put("강북구", new Point(37.6396, 127.0257));
+        SEOUL_DISTRICTS.put("강서구", new Point(37.5509, 126.8495));
+        SEOUL_DISTRICTS.put("관악구", new Point(37.4784, 126.9516));
+        SEOUL_DISTRICTS.put("광진구", new Point(37.5385, 127.0823));
+        SEOUL_DISTRICTS.put("구로구", new Point(37.4954, 126.8874));
+        SEOUL_DISTRICTS.put("금천구", new Point(37.4569, 126.8955));
+        SEOUL_DISTRICTS.put("노원구", new Point(37.6542, 127.0568));
+        SEOUL_DISTRICTS.put("도봉구", new Point(37.6688, 127.0471));
+        SEOUL_DISTRICTS.put("동대문구", new Point(37.5744, 127.0396));
+        SEOUL_DISTRICTS.put("동작구", new Point(37.5124, 126.9393));
+        SEOUL_DISTRICTS.put("마포구", new Point(37.5663, 126.9019));
+        SEOUL_DISTRICTS.put("서대문구", new Point(37.5791, 126.9368));
+        SEOUL_DISTRICTS.put("서초구", new Point(37.4837, 127.0324));
+        SEOUL_DISTRICTS.put("성동구", new Point(37.5633, 127.0371));
+        SEOUL_DISTRICTS.put("성북구", new Point(37.5894, 127.0167));
+        SEOUL_DISTRICTS.put("송파구", new Point(37.5145, 127.1059));
+        SEOUL_DISTRICTS.put("양천구", new Point(37.5169, 126.8664));
+        SEOUL_DISTRICTS.put("영등포구", new Point(37.5264, 126.8962));
+        SEOUL_DISTRICTS.put("용산구", new Point(37.5324, 126.9905));
+        SEOUL_DISTRICTS.put("은평구", new Point(37.6027, 126.9291));
+        SEOUL_DISTRICTS.put("종로구", new Point(37.5735, 126.9790));
+        SEOUL_DISTRICTS.put("중랑구", new Point(37.6063, 127.0925));
+        SEOUL_DISTRICTS.put("중구", new Point(37.5641, 126.9979));
+    }
+
+    private static void city(Point center, String... aliases) {
+        for (String alias : aliases) CITIES.put(alias, center);
+    }
+
+    // 지역 중심에서 옮기는 최대 거리(m)
+    @Value("${store.geo.offline-jitter-m:800}")
+    private double jitterM;
+
+    @Override
+    public String name() {
+        return "offline";
+    }
+
+    @Override
+    public Optional<Point> geocode(String address) {
+        if (address == null || address.isBlank()) return Optional.empty();
+        String text = address.trim();
+
+        Point center = null;
+        for (Map.Entry<String, Point> e : CITIES.entrySet()) {
+            if (text.startsWith(e.getKey()) || text.contains(" " + e.getKey())) {
+                center = e.getValue();
+                break;
+            }
+        }
+        if (center == null) return Optional.empty();
+
+        if (center == SEOUL) {
+            // "중구"가 "동대문구" 안에서 잡히지 않도록 단어 단위로 찾는다.
+            for (String word : text.split("\\s+")) {
+                Point district = SEOUL_DISTRICTS.get(word);
+                if (district != null) {
+                    center = district;
+                    break;
+                }
+            }
+        }
+        return Optional.of(jitter(center, text));
+    }
+
+    private Point jitter(Point center, String text) {
+        CRC32 crc = new CRC32();
+        crc.update(text.replaceAll("\\s+", "").getBytes(StandardCharsets.UTF_8));
+        long hash = crc.getValue();
+        // 해시 하위/상위 16비트를 각각 [-1, 1) 범위로
+        double dx = ((hash & 0xffff) / 32768.0) - 1.0;
+        double dy = (((hash >>> 16) & 0xffff) / 32768.0) - 1.0;
+        double lat = center.latitude() + dy * jitterM / GeoUtils.METERS_PER_DEGREE_LAT;
+        double lon = center.longitude() + dx * jitterM / GeoUtils.metersPerDegreeLon(center.latitude());
+        return new Point(lat, lon);
+    }
+}
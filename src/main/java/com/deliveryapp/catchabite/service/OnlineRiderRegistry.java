@@ -0,0 +1,258 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.TransactionUtils;
+import com.deliveryapp.catchabite.domain.enumtype.DelivererVehicleType;
+import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+import com.deliveryapp.catchabite.domain.enumtype.YesNo;
+import com.deliveryapp.catchabite.dto.OnlineRiderDTO;
+import com.deliveryapp.catchabite.entity.Deliverer;
+import com.deliveryapp.catchabite.repository.DelivererRepository;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository.ActiveCount;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 온라인 라이더 레지스트리 (메모리)
+ *
+ * - 라이더 단말의 heartbeat(REST /api/v1/rider/heartbeat 또는 STOMP 위치 핑)로 등록/갱신된다.
+ *   첫 heartbeat에서만 DB를 읽고(배달 가능 여부, 운송수단, 진행 중 배달 수), 이후 갱신은 필드 쓰기뿐이다.
+ * - 조회/갱신은 ConcurrentHashMap.get + volatile/Atomic 필드로만 처리하므로 heartbeat끼리 락을 잡지 않는다.
+ * - heartbeat-timeout-ms 동안 신호가 없는 라이더는 sweep 주기에 내린다.
+ * - 진행 중 배달 수는 배차/완료 시 커밋 이후 즉시 반영하고, 그 밖의 전이(취소/만료 등)는
+ *   reconcile 주기에 DB 집계 1회로 맞춘다.
+ * - 자동 배차(DeliveryDispatchScheduler)와 수동 배정(OrderDeliveryService.assignDeliverer)은
+ *   deliverer 테이블 대신 이 레지스트리로 배달 가능 라이더를 판단한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class OnlineRiderRegistry {
+
+    // 진행 중 배달로 보는 상태
+    public static final List<DeliveryStatus> ACTIVE_STATUSES = List.of(
+            DeliveryStatus.ASSIGNED, DeliveryStatus.ACCEPTED,
+            DeliveryStatus.PICKED_UP, DeliveryStatus.IN_DELIVERY);
+
+    private final DelivererRepository delivererRepository;
+    private final OrderDeliveryRepository orderDeliveryRepository;
+    private final DemandHeatmap demandHeatmap;
+
+    @Value("${delivery.rider.heartbeat-timeout-ms:30000}")
+    private long heartbeatTimeoutMs;
+
+    private final Map<Long, RiderState> riders = new ConcurrentHashMap<>();
+
+    // 마지막 위치 (좌표/시각을 한 번에 교체해 찢어진 읽기를 막는다)
+    private record Position(double latitude, double longitude, long at) {}
+
+    private static final class RiderState {
+        final Long delivererId;
+        final DelivererVehicleType vehicleType;
+        final AtomicInteger activeDeliveries;
+        volatile Position position;
+        volatile long lastSeenAt;
+
+        // 히트맵에 집계된 셀 (DemandHeatmap.NO_CELL = 아직 없음)
+        volatile long cellKey = DemandHeatmap.NO_CELL;
+
+        // 진행 중 배달 수를 직접 바꾼 시각. reconcile이 그 이전에 읽은 집계로 덮어쓰지 않게 한다.
+        volatile long localChangeAt;
+
+        RiderState(Long delivererId, DelivererVehicleType vehicleType, int activeDeliveries) {
+            this.delivererId = delivererId;
+            this.vehicleType = vehicleType;
+            this.activeDeliveries = new AtomicInteger(activeDeliveries);
+        }
+
+        OnlineRiderDTO snapshot() {
+            Position p = position;
+            return new OnlineRiderDTO(delivererId, vehicleType, p.latitude(), p.longitude(),
+                    activeDeliveries.get(), lastSeenAt);
+        }
+    }
+
+    /**
+     * heartbeat 1건을 반영한다. 처음 보는 라이더는 DB에서 배달 가능 여부를 확인해 등록한다.
+     */
+    public OnlineRiderDTO heartbeat(Long delivererId, double latitude, double longitude) {
+        if (delivererId == null) throw new IllegalArgumentException("delivererId is required");
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("위도/경도 범위가 올바르지 않습니다.");
+        }
+        long now = System.currentTimeMillis();
+
+        RiderState state = riders.get(delivererId);
+        if (state == null) {
+            state = register(delivererId, latitude, longitude, now);
+        }
+        state.position = new Position(latitude, longitude, now);
+        state.lastSeenAt = now;
+        placeOnHeatmap(state, latitude, longitude);
+        return state.snapshot();
+    }
+
+    /**
+     * 이미 온라인인 라이더의 위치/수신 시각만 갱신한다. (STOMP 위치 핑, 등록은 하지 않음)
+     */
+    public void touch(Long delivererId, double latitude, double longitude) {
+        RiderState state = (delivererId == null) ? null : riders.get(delivererId);
+        if (state == null) return;
+        long now = System.currentTimeMillis();
+        state.position = new Position(latitude, longitude, now);
+        state.lastSeenAt = now;
+        placeOnHeatmap(state, latitude, longitude);
+    }
+
+    /**
+     * 라이더가 스스로 운행을 종료한다.
+     */
+    public void goOffline(Long delivererId) {
+        RiderState state = (delivererId == null) ? null : riders.remove(delivererId);
+        if (state != null) moveCell(state, DemandHeatmap.NO_CELL);
+    }
+
+    public boolean isOnline(Long delivererId) {
+        return delivererId != null && riders.containsKey(delivererId);
+    }
+
+    /**
+     * 온라인이고 진행 중 배달이 maxActive 미만인 라이더인지
+     */
+    public boolean isAvailable(Long delivererId, int maxActive) {
+        RiderState state = (delivererId == null) ? null : riders.get(delivererId);
+        return state != null && state.activeDeliveries.get() < maxActive;
+    }
+
+    public OnlineRiderDTO get(Long delivererId) {
+        RiderState state = (delivererId == null) ? null : riders.get(delivererId);
+        return (state == null) ? null : state.snapshot();
+    }
+
+    /**
+     * 진행 중 배달이 maxActive 미만인 온라인 라이더 목록 (자동 배차용)
+     */
+    public List<OnlineRiderDTO> availableRiders(int maxActive) {
+        List<OnlineRiderDTO> result = new ArrayList<>();
+        for (RiderState state : riders.values()) {
+            if (state.activeDeliveries.get() < maxActive) result.add(state.snapshot());
+        }
+        return result;
+    }
+
+    public int size() {
+        return riders.size();
+    }
+
+    public void incrementActive(Long delivererId) {
+        RiderState state = (delivererId == null) ? null : riders.get(delivererId);
+        if (state == null) return;
+        state.localChangeAt = System.currentTimeMillis();
+        state.activeDeliveries.incrementAndGet();
+    }
+
+    public void decrementActive(Long delivererId) {
+        RiderState state = (delivererId == null) ? null : riders.get(delivererId);
+        if (state == null) return;
+        state.localChangeAt = System.currentTimeMillis();
+        state.activeDeliveries.updateAndGet(n -> Math.max(0, n - 1));
+    }
+
+    public void incrementActiveAfterCommit(Long delivererId) {
+        TransactionUtils.runAfterCommit(() -> incrementActive(delivererId));
+    }
+
+    public void decrementActiveAfterCommit(Long delivererId) {
+        TransactionUtils.runAfterCommit(() -> decrementActive(delivererId));
+    }
+
+    /**
+     * heartbeat가 끊긴 라이더를 내린다.
+     */
+    @Scheduled(fixedDelayString = "${delivery.rider.sweep-interval-ms:5000}")
+    public void expireSilent() {
+        long before = System.currentTimeMillis() - heartbeatTimeoutMs;
+        int removed = 0;
+        for (RiderState state : riders.values()) {
+            // 판단과 제거 사이에 도착한 heartbeat는 버려질 수 있지만, 다음 heartbeat에서 다시 등록된다.
+            if (state.lastSeenAt < before && riders.remove(state.delivererId, state)) {
+                moveCell(state, DemandHeatmap.NO_CELL);
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("silent riders expired. removed={}, online={}", removed, riders.size());
+        }
+    }
+
+    /**
+     * 진행 중 배달 수를 DB 집계로 맞춘다. (취소/만료/재오픈 등 직접 반영하지 않는 전이 보정)
+     */
+    @Scheduled(
+            initialDelayString = "${delivery.rider.reconcile-interval-ms:30000}",
+            fixedDelayString = "${delivery.rider.reconcile-interval-ms:30000}")
+    public void reconcile() {
+        if (riders.isEmpty()) return;
+        long startedAt = System.currentTimeMillis();
+
+        Map<Long, Integer> counts = new HashMap<>();
+        for (ActiveCount row : orderDeliveryRepository.countActiveByDeliverer(ACTIVE_STATUSES)) {
+            counts.put(row.getDelivererId(), row.getActiveCount().intValue());
+        }
+        for (RiderState state : riders.values()) {
+            if (state.localChangeAt >= startedAt) continue;
+            state.activeDeliveries.set(counts.getOrDefault(state.delivererId, 0));
+        }
+    }
+
+    public void clear() {
+        riders.values().forEach(state -> moveCell(state, DemandHeatmap.NO_CELL));
+        riders.clear();
+    }
+
+    private void placeOnHeatmap(RiderState state, double latitude, double longitude) {
+        moveCell(state, demandHeatmap.cellKeyOf(latitude, longitude));
+        // 그 사이 만료/오프라인 처리된 객체였다면 다시 빼서 중복 집계를 막는다.
+        if (riders.get(state.delivererId) != state) moveCell(state, DemandHeatmap.NO_CELL);
+    }
+
+    // 라이더 셀이 바뀌었을 때만 히트맵 카운터를 옮긴다. (같은 라이더의 셀 이동은 라이더 객체로 직렬화)
+    private void moveCell(RiderState state, long toCell) {
+        if (state.cellKey == toCell) return;
+        synchronized (state) {
+            long fromCell = state.cellKey;
+            if (fromCell == toCell) return;
+            state.cellKey = toCell;
+            demandHeatmap.moveRider(fromCell, toCell);
+        }
+    }
+
+    // 첫 heartbeat: DB 조회는 맵 밖에서 하고 putIfAbsent로 등록한다. (동시 첫 heartbeat는 먼저 넣은 쪽 사용)
+    private RiderState register(Long delivererId, double latitude, double longitude, long now) {
+        Deliverer deliverer = delivererRepository.findById(delivererId)
+                .orElseThrow(() -> new IllegalArgumentException("배달원을 찾을 수 없습니다. delivererId=" + delivererId));
+        if (deliverer.getDelivererStatus() != YesNo.Y) {
+            throw new IllegalStateException("배달 가능 상태가 아닌 배달원입니다. delivererId=" + delivererId);
+        }
+        long active = orderDeliveryRepository.countByDeliverer_DelivererIdAndOrderDeliveryStatusIn(
+                delivererId, ACTIVE_STATUSES);
+
+        RiderState created = new RiderState(delivererId, deliverer.getDelivererVehicleType(), (int) active);
+        created.position = new Position(latitude, longitude, now);
+        created.lastSeenAt = now;
+        RiderState existing = riders.putIfAbsent(delivererId, created);
+        return (existing != null) ? existing : created;
+    }
+}
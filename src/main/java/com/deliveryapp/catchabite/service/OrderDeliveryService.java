@@ -1,15 +1,23 @@
 package com.deliveryapp.catchabite.service;
 
+import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+import com.deliveryapp.catchabite.dto.CursorPageDTO;
+import com.deliveryapp.catchabite.dto.DeliveryCursor;
 import com.deliveryapp.catchabite.dto.OrderDeliveryDTO;
+import com.deliveryapp.catchabite.dto.OrderDeliveryRow;
 import com.deliveryapp.catchabite.entity.Deliverer;
 import com.deliveryapp.catchabite.entity.OrderDelivery;
 import com.deliveryapp.catchabite.repository.DelivererRepository;
@@ -23,6 +31,24 @@ public class OrderDeliveryService {
 
     private final OrderDeliveryRepository orderDeliveryRepository;
     private final DelivererRepository delivererRepository;
+    private final PendingDeliveryIndex pendingDeliveryIndex;
+    private final RiderLocationTracker riderLocationTracker;
+    private final DeliveryEventPublisher deliveryEventPublisher;
+    private final AssignmentExpiryWheel assignmentExpiryWheel;
+    private final DeliveryEtaEstimator deliveryEtaEstimator;
+    private final OnlineRiderRegistry onlineRiderRegistry;
+
+    // 진행 중 배달이 이 수 미만인 라이더에게만 배정한다. (자동 배차와 같은 설정)
+    @Value("${delivery.dispatch.max-active-per-rider:1}")
+    private int maxActivePerRider;
+
+    // 목록 조회 기본/최대 페이지 크기
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // 고객이 라이더 위치를 볼 수 있는 상태 (수락 ~ 배달중)
+    private static final List<DeliveryStatus> TRACKABLE_STATUSES = List.of(
+            DeliveryStatus.ACCEPTED, DeliveryStatus.PICKED_UP, DeliveryStatus.IN_DELIVERY);
 
     @Transactional
     public void assignDeliverer(Long deliveryId, Long delivererId) {
@@ -44,279 +70,375 @@ public class OrderDeliveryService {
             throw new IllegalStateException("이미 배달원이 배정되어있습니다. deliveryId=" + deliveryId);
         }
 
-        // 3) 배달원 조회
-        Deliverer deliverer = delivererRepository.findById(delivererId)
-                .orElseThrow(() -> new IllegalArgumentException("배달원을 찾을 수 없습니다. delivererId=" + delivererId));
+        // 3) 배달원 상태 검증: 온라인(heartbeat 중)이고 진행 중 배달 여유가 있어야 한다.
+        //    레지스트리는 배달 가능(Y)한 배달원만 등록하므로 deliverer 테이블은 다시 읽지 않는다.
+        if (!onlineRiderRegistry.isOnline(delivererId)) {
+            throw new IllegalStateException("운행 중(온라인)인 배달원이 아닙니다. delivererId=" + delivererId);
+        }
+        if (!onlineRiderRegistry.isAvailable(delivererId, maxActivePerRider)) {
+            throw new IllegalStateException("진행 중인 배달이 있어 배정할 수 없습니다. delivererId=" + delivererId);
+        }
 
-        // 4) 배달원 상태 검증(예: 운행 가능 여부)
-        // deliverer_status가 YesNo.Y/N 같은 구조라면:
-        // if (deliverer.getStatus() != YesNo.Y) throw new IllegalStateException("Deliverer not available.");
+        // 4) 배달원 참조 (프록시, SELECT 없음)
+        Deliverer deliverer = delivererRepository.getReferenceById(delivererId);
 
         // 5) 배정 + 상태 변경
+        LocalDateTime now = LocalDateTime.now();
         orderDelivery.setDeliverer(deliverer);
         orderDelivery.setOrderDeliveryStatus(DeliveryStatus.ASSIGNED);
+        orderDelivery.setOrderAssignedTime(now);
+
+        // 수락 대기 시간이 지나면 AssignmentExpirySweeper가 대기(PENDING)로 되돌린다.
+        assignmentExpiryWheel.trackAfterCommit(deliveryId, toEpochMillis(now));
 
-        // (선택) 배정 시간 필드가 따로 있다면 여기서 set
-        // orderDelivery.setAssignedAt(LocalDateTime.now());
+        // 더 이상 대기 건이 아니므로 주변 배달 인덱스에서 제거
+        pendingDeliveryIndex.removeAfterCommit(deliveryId);
+        onlineRiderRegistry.incrementActiveAfterCommit(delivererId);
+        deliveryEventPublisher.publishAfterCommit(deliveryId);
 
         // 6) save는 필수는 아님(dirty checking) but 명시해도 OK
         // orderDeliveryRepository.save(orderDelivery);
     }
 
+    /**
+     * 자동 배차 결과를 한 트랜잭션으로 반영한다. (DeliveryDispatchScheduler)
+     * 대기 상태이고 배달원이 비어있는 건만 조건부로 배정하므로, 그 사이 수동 배정된 건은 건너뛴다.
+     * @return 실제 배정된 건수
+     */
     @Transactional
-    public void accept(Long deliveryId, Long delivererId) {
-
-        // 배달 건 조회 (동시성 대비 : for update)
-        OrderDelivery od = orderDeliveryRepository.findByIdForUpdate(deliveryId)
-                .orElseThrow(() -> new IllegalArgumentException("배달 요청이 없습니다. id=" + deliveryId));
-
-        // 배정 여부 확인
-        if (od.getDeliverer() == null) throw new IllegalStateException("배정된 배달원이 없습니다.");
+    public int assignBatch(List<DispatchAlgorithm.Assignment> assignments) {
+        int assigned = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (DispatchAlgorithm.Assignment a : assignments) {
+            int updated = orderDeliveryRepository.assignIfPending(
+                    a.deliveryId(),
+                    delivererRepository.getReferenceById(a.delivererId()),
+                    DeliveryStatus.PENDING,
+                    DeliveryStatus.ASSIGNED,
+                    now);
+            if (updated == 1) {
+                pendingDeliveryIndex.removeAfterCommit(a.deliveryId());
+                assignmentExpiryWheel.trackAfterCommit(a.deliveryId(), toEpochMillis(now));
+                onlineRiderRegistry.incrementActiveAfterCommit(a.delivererId());
+                deliveryEventPublisher.publishAfterCommit(a.deliveryId());
+                assigned++;
+            }
+        }
+        return assigned;
+    }
 
-        // 배정된 배달원만 수락 가능
-        Long assignedDelivererId = od.getDeliverer().getDelivererId();
-        if (!assignedDelivererId.equals(delivererId)) throw new IllegalStateException("배정된 배달원이 아닙니다.");
+    /*
+     * 배달원 액션(수락/픽업/배달시작/배달완료)과 취소/재오픈은 조건부 UPDATE 한 문장으로 상태를 전이한다.
+     * "update ... where id = :id and status = :from and deliverer_id = :rider" 형태라 SELECT ... FOR UPDATE 없이
+     * 경합 시 정확히 1건만 성공하고, 실패(0건)한 경우에만 배달을 다시 읽어 기존과 같은 사유로 예외를 던진다.
+     */
+    @Transactional
+    public void accept(Long deliveryId, Long delivererId) {
 
-        // 상태 검증 (수락 가능한 상태인지)
-        // ASSIGNED - '배차요청(수락 대기)'된 주문이 아닐 경우 이전으로 되돌림.
-        if (od.getOrderDeliveryStatus() != DeliveryStatus.ASSIGNED) {
-            // ACCEPTED(수락하기)는 주문이 ASSIGNED(배차요청)된 상태에서만 가능
-            throw new IllegalStateException("배차요청된 주문만 수락할 수 있습니다. current=" + od.getOrderDeliveryStatus());
+        // ASSIGNED(배차요청) -> ACCEPTED(수락) + 수락 시간 기록
+        int updated = orderDeliveryRepository.acceptIfAssigned(
+                deliveryId, delivererId, DeliveryStatus.ASSIGNED, DeliveryStatus.ACCEPTED, LocalDateTime.now());
+        if (updated == 1) {
+            assignmentExpiryWheel.cancelAfterCommit(deliveryId);
+            deliveryEventPublisher.publishAfterCommit(deliveryId);
+            return;
         }
 
-        // 수락 시간 기록
-        od.setOrderAcceptTime(LocalDateTime.now());
-        // 배차 수락 상태로 변경됨
-        od.setOrderDeliveryStatus(DeliveryStatus.ACCEPTED);
+        OrderDelivery od = findDeliveryOrThrow(deliveryId);
+        checkAssignedTo(od, delivererId);
+        // ACCEPTED(수락하기)는 주문이 ASSIGNED(배차요청)된 상태에서만 가능
+        throw new IllegalStateException("배차요청된 주문만 수락할 수 있습니다. current=" + od.getOrderDeliveryStatus());
     }
 
     @Transactional
     public void pickupComplete(Long deliveryId, Long delivererId) {
 
-        // 1. 배달 조회 (동시성 대비 락)
-        OrderDelivery od = orderDeliveryRepository.findByIdForUpdate(deliveryId)
-                .orElseThrow(() -> new IllegalArgumentException("배달 요청이 없습니다. id=" + deliveryId));
-
-        // 2. 배정 여부 확인
-        if (od.getDeliverer() == null) {
-            throw new IllegalStateException("배달원이 배정되지 않았습니다.");
-        }
-
-        // 3. 배정된 배달원인지 확인
-        if (!od.getDeliverer().getDelivererId().equals(delivererId)) {
-            throw new IllegalStateException("배정된 배달원이 아닙니다.");
+        // ACCEPTED(수락) -> PICKED_UP(픽업완료) + 픽업 시간 기록 (픽업 시간이 비어있을 때만)
+        int updated = orderDeliveryRepository.pickupIfAccepted(
+                deliveryId, delivererId, DeliveryStatus.ACCEPTED, DeliveryStatus.PICKED_UP, LocalDateTime.now());
+        if (updated == 1) {
+            deliveryEventPublisher.publishAfterCommit(deliveryId);
+            return;
         }
 
-        // 4. 상태 검증 (수락된 건만 픽업 가능)
+        OrderDelivery od = findDeliveryOrThrow(deliveryId);
+        checkAssignedTo(od, delivererId);
         if (od.getOrderDeliveryStatus() != DeliveryStatus.ACCEPTED) {
             throw new IllegalStateException(
                     "배차 수락한 건에 대해서만 매장에서의 픽업이 가능합니다. current=" + od.getOrderDeliveryStatus());
         }
-
-        // 5. 중복 픽업 방지
-        if (od.getOrderDeliveryPickupTime() != null) {
-            throw new IllegalStateException("이미 픽업된 배달입니다.");
-        }
-
-        // 6. 픽업 시간 기록
-        od.setOrderDeliveryPickupTime(LocalDateTime.now());
-
-        // 7. 상태 변경
-        od.setOrderDeliveryStatus(DeliveryStatus.PICKED_UP);
-
-        // save() 호출 없어도 트랜잭션 종료 시 자동 반영(dirty checking)
+        // 중복 픽업 방지
+        throw new IllegalStateException("이미 픽업된 배달입니다.");
     }
 
     @Transactional
     public void startDelivery(Long deliveryId, Long delivererId) {
 
-        // 1) 배달 조회 (동시성 대비: for update 권장)
-        OrderDelivery od = orderDeliveryRepository.findByIdForUpdate(deliveryId)
-                .orElseThrow(() -> new IllegalArgumentException("배달 요청이 없습니다. id=" + deliveryId));
-
-        // 2) 배정 여부 확인
-        if (od.getDeliverer() == null) {
-            throw new IllegalStateException("배달원이 배정되지 않았습니다.");
-        }
-
-        // 3) 배정된 배달원인지 확인
-        if (!od.getDeliverer().getDelivererId().equals(delivererId)) { // PK getter에 맞게 수정
-            throw new IllegalStateException("배정된 배달원이 아닙니다.");
+        // PICKED_UP(픽업완료) -> IN_DELIVERY(배달중) + 시작 시간 기록 (시작 시간이 비어있을 때만)
+        int updated = orderDeliveryRepository.startIfPickedUp(
+                deliveryId, delivererId, DeliveryStatus.PICKED_UP, DeliveryStatus.IN_DELIVERY, LocalDateTime.now());
+        if (updated == 1) {
+            deliveryEventPublisher.publishAfterCommit(deliveryId);
+            return;
         }
 
-        // 4) 상태 검증: 픽업 완료된 건만 배달 시작 가능
+        OrderDelivery od = findDeliveryOrThrow(deliveryId);
+        checkAssignedTo(od, delivererId);
         if (od.getOrderDeliveryStatus() != DeliveryStatus.PICKED_UP) {
             throw new IllegalStateException(
                     "픽업한 건에 대해서만 배달 가능합니다. current=" + od.getOrderDeliveryStatus());
         }
-
-        // 5) 중복 시작 방지
-        if (od.getOrderDeliveryStartTime() != null) {
-            throw new IllegalStateException("이미 시작된 배달입니다.");
-        }
-
-        // 6) 시작 시간 기록 + 상태 변경
-        od.setOrderDeliveryStartTime(LocalDateTime.now());
-        od.setOrderDeliveryStatus(DeliveryStatus.IN_DELIVERY);
-
-        // save() 없어도 트랜잭션 커밋 시 자동 반영(dirty checking)
+        // 중복 시작 방지
+        throw new IllegalStateException("이미 시작된 배달입니다.");
     }
 
     @Transactional
     public void completeDelivery(Long deliveryId, Long delivererId) {
 
-        // 1) 배달 조회 (동시성 대비: for update)
-        OrderDelivery od = orderDeliveryRepository.findByIdForUpdate(deliveryId)
-                .orElseThrow(() -> new IllegalArgumentException("배달 요청이 없습니다. id=" + deliveryId));
-
-        // 2) 배정 여부 확인
-        if (od.getDeliverer() == null) {
-            throw new IllegalStateException("배달원이 배정되지 않았습니다.");
-        }
+        // 1) 배달 조회 (락 없이 읽고, 실제 전이는 아래 조건부 UPDATE로 보장)
+        OrderDelivery od = findDeliveryOrThrow(deliveryId);
 
-        // 3) 배정된 배달원인지 확인
-        if (!od.getDeliverer().getDelivererId().equals(delivererId)) { // getter 이름 맞춰주세요
-            throw new IllegalStateException("배정된 배달원이 아닙니다.");
-        }
+        // 2) 배정/배달원 확인
+        checkAssignedTo(od, delivererId);
 
-        // 4) 상태 검증: 배달중(IN_DELIVERY)일 때만 완료 가능
+        // 3) 상태 검증: 배달중(IN_DELIVERY)일 때만 완료 가능
         if (od.getOrderDeliveryStatus() != DeliveryStatus.IN_DELIVERY) {
             throw new IllegalStateException(
                     "배달완료는 배달중 상태에서만 가능합니다. current=" + od.getOrderDeliveryStatus());
         }
 
-        // 5) 중복 완료 방지
+        // 4) 중복 완료 방지
         if (od.getOrderDeliveryCompleteTime() != null) {
             throw new IllegalStateException("이미 배달완료된 주문입니다.");
         }
 
-        // 6) 완료 시간 기록
-        LocalDateTime now = LocalDateTime.now();
-        od.setOrderDeliveryCompleteTime(now);
-
-        // 7) 실제 소요 시간(분) 계산
         LocalDateTime start = od.getOrderDeliveryStartTime();
         if (start == null) {
             // startDelivery를 거치지 않고 complete가 호출된 비정상 케이스
             throw new IllegalStateException("배달 시작시간이 없습니다. 실제 소요 시간을 측정할 수 없습니다.");
         }
 
+        // ETA 통계용 (아래 UPDATE가 영속성 컨텍스트를 비우기 전에 읽어 둔다)
+        Long storeId = od.getStoreOrder().getStore().getStoreId();
+        BigDecimal distanceKm = od.getOrderDeliveryDistance();
+
+        // 5) 실제 소요 시간(분) 계산
+        LocalDateTime now = LocalDateTime.now();
         long minutes = Duration.between(start, now).toMinutes();
         if (minutes < 0) minutes = 0; // 서버 시간 오차 방어 (선택)
 
-        od.setOrderDeliveryActTime((int) minutes);
-
-        // 8) 상태 변경
-        od.setOrderDeliveryStatus(DeliveryStatus.DELIVERED);
+        // 6) IN_DELIVERY -> DELIVERED + 완료 시간/소요 시간 기록
+        int updated = orderDeliveryRepository.completeIfInDelivery(
+                deliveryId, delivererId, DeliveryStatus.IN_DELIVERY, DeliveryStatus.DELIVERED, now, (int) minutes);
+        if (updated != 1) {
+            // 읽은 뒤 다른 요청이 먼저 완료 처리한 경우
+            throw new IllegalStateException("이미 배달완료된 주문입니다.");
+        }
 
-        // save() 없어도 dirty checking으로 반영
+        // 배달이 끝났으므로 고객에게 라이더 위치를 더 보내지 않는다.
+        riderLocationTracker.unwatchAfterCommit(deliveryId);
+        deliveryEtaEstimator.recordAfterCommit(storeId, distanceKm, now, (int) minutes);
+        onlineRiderRegistry.decrementActiveAfterCommit(delivererId);
+        deliveryEventPublisher.publishAfterCommit(deliveryId);
     }
 
     @Transactional
     public void reopenDelivery(Long deliveryId) {
 
-    OrderDelivery od = orderDeliveryRepository.findByIdForUpdate(deliveryId)
-        .orElseThrow(() -> new IllegalArgumentException("배달 요청이 없습니다."));
+        // CANCELLED(취소, 미완료) -> PENDING + 배달 컨텍스트(배달원/시간) 초기화
+        int updated = orderDeliveryRepository.reopenIfCancelled(
+                deliveryId, DeliveryStatus.CANCELLED, DeliveryStatus.PENDING);
+
+        OrderDelivery od = orderDeliveryRepository.findById(deliveryId)
+                .orElseThrow(() -> new IllegalArgumentException("배달 요청이 없습니다."));
+
+        if (updated != 1) {
+            // 1. 상태 검증
+            if (od.getOrderDeliveryStatus() != DeliveryStatus.CANCELLED) {
+                throw new IllegalStateException("오직 취소된 요청만 다시 배정할 수 있습니다.");
+            }
+            // 2. 완료된 건은 복구 불가
+            throw new IllegalStateException("배달완료된 건은 배달원 요청 불가합니다.");
+        }
 
-    // 1. 상태 검증
-    if (od.getOrderDeliveryStatus() != DeliveryStatus.CANCELLED) {
-        throw new IllegalStateException("오직 취소된 요청만 다시 배정할 수 있습니다.");
+        // 다시 대기 건이 되었으므로 주변 배달 인덱스에 추가
+        pendingDeliveryIndex.addAfterCommit(od);
+        deliveryEventPublisher.publishAfterCommit(deliveryId);
     }
 
-    // 2. 완료된 건은 복구 불가
-    if (od.getOrderDeliveryCompleteTime() != null) {
-        throw new IllegalStateException("배달완료된 건은 배달원 요청 불가합니다.");
+    /**
+     * 수락 대기 시간이 지난 배차(ASSIGNED)를 대기(PENDING)로 되돌린다. (AssignmentExpirySweeper)
+     * 만료 판정 이후 수락/취소된 건은 조건부 UPDATE에서 걸러진다.
+     * @return 실제로 되돌린 건수
+     */
+    @Transactional
+    public int expireAssignments(List<Long> deliveryIds, LocalDateTime assignedBefore) {
+        int updated = orderDeliveryRepository.expireAssignments(
+                deliveryIds, DeliveryStatus.ASSIGNED, DeliveryStatus.PENDING, assignedBefore);
+        if (updated == 0) return 0;
+
+        // 다시 대기 건이 된 배달을 주변 배달 인덱스에 넣고 상태 변경을 알린다.
+        for (OrderDelivery od : orderDeliveryRepository.findAllById(deliveryIds)) {
+            if (od.getOrderDeliveryStatus() == DeliveryStatus.PENDING && od.getDeliverer() == null) {
+                pendingDeliveryIndex.addAfterCommit(od);
+                deliveryEventPublisher.publishAfterCommit(od.getDeliveryId());
+            }
+        }
+        return updated;
     }
 
-    // 3. 배달 컨텍스트 초기화
-    od.setDeliverer(null);
-    od.setOrderAcceptTime(null);
-    od.setOrderDeliveryPickupTime(null);
-    od.setOrderDeliveryStartTime(null);
-    od.setOrderDeliveryCompleteTime(null);
-    od.setOrderDeliveryActTime(null);
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 
-    // 4. 상태 복구
-    od.setOrderDeliveryStatus(DeliveryStatus.PENDING);
+    private OrderDelivery findDeliveryOrThrow(Long deliveryId) {
+        return orderDeliveryRepository.findById(deliveryId)
+                .orElseThrow(() -> new IllegalArgumentException("배달 요청이 없습니다. id=" + deliveryId));
+    }
 
-    // 5. (선택) 재오픈 시간 기록 필드가 있다면 set
-    // od.setReopenedAt(LocalDateTime.now());
+    // 배정 여부 + 배정된 배달원 본인인지 확인
+    private void checkAssignedTo(OrderDelivery od, Long delivererId) {
+        if (od.getDeliverer() == null) {
+            throw new IllegalStateException("배달원이 배정되지 않았습니다.");
+        }
+        if (!od.getDeliverer().getDelivererId().equals(delivererId)) {
+            throw new IllegalStateException("배정된 배달원이 아닙니다.");
+        }
     }
 
     /** 01/19 ~ 01/20 ******************************************************************************************************/
+    /* 조회용 getter는 OrderDeliveryRow 생성자 프로젝션으로 바로 읽는다. (엔티티/스냅샷을 만들지 않음) */
     /* UserDeliveryController - 배달 단건 조회 (주문 고객) */
     @Transactional(readOnly = true)
     public OrderDeliveryDTO getDeliveryForUser(Long deliveryId, Long userId) {
-        OrderDelivery od = orderDeliveryRepository.findDeliveryForUser(deliveryId, userId)
+        return orderDeliveryRepository.findDeliveryDtoForUser(deliveryId, userId)
+                            .map(OrderDeliveryRow::toDTO)
                             .orElseThrow(() -> new IllegalArgumentException("404 error not your delivery_user."));
-        return OrderDeliveryDTO.from(od);
     }
     
-    /* UserDeliveryController - 주문들의 배달 목록 (주문 고객) */
+    /* UserDeliveryController, StompSubscriptionInterceptor - 위치를 볼 수 있는 내 배달의 배달원 PK */
+    @Transactional(readOnly = true)
+    public Long getTrackableDelivererIdForUser(Long deliveryId, Long userId) {
+        OrderDelivery od = orderDeliveryRepository.findDeliveryForUser(deliveryId, userId)
+                            .orElseThrow(() -> new IllegalArgumentException("404 error not your delivery_user."));
+        if (od.getDeliverer() == null || !TRACKABLE_STATUSES.contains(od.getOrderDeliveryStatus())) {
+            throw new IllegalStateException("배달원 위치를 조회할 수 없는 상태입니다. current=" + od.getOrderDeliveryStatus());
+        }
+        return od.getDeliverer().getDelivererId();
+    }
+
+    /* UserDeliveryController - 주문들의 배달 목록 (주문 고객), 첫 페이지 */
     @Transactional(readOnly = true)
     public List<OrderDeliveryDTO> getDeliveriesByUser(Long userId) {
-        List<OrderDelivery> list = orderDeliveryRepository.findDeliveriesForUser(userId);
+        return getDeliveriesByUser(userId, null, DEFAULT_PAGE_SIZE).getContent();
+    }
+
+    /* UserDeliveryController - 주문들의 배달 목록 (주문 고객), keyset 페이지 */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderDeliveryDTO> getDeliveriesByUser(Long userId, String cursor, int size) {
         if (userId == null) throw new AccessDeniedException("404 error not your delivery_user.");
-        return list.stream()
-                .map(OrderDeliveryDTO::from)
-                .toList();
+        DeliveryCursor c = DeliveryCursor.decode(cursor);
+        return toPage(orderDeliveryRepository.findDeliveriesForUser(
+                userId, c.createdDate(), c.deliveryId(), pageOf(size)), size);
     }
 
     /* StoreDeliveryController - 내 매장 배달 단건 조회 (매장 주인) */
     @Transactional(readOnly = true)
     public OrderDeliveryDTO getDeliveryForStore(Long deliveryId, Long storeOwnerId) {
-        OrderDelivery od = orderDeliveryRepository.findForStore(deliveryId, storeOwnerId)
+        return orderDeliveryRepository.findDeliveryDtoForStore(deliveryId, storeOwnerId)
+                        .map(OrderDeliveryRow::toDTO)
                         .orElseThrow(() -> new IllegalArgumentException("404 not your delivery_owner."));
-        return OrderDeliveryDTO.from(od);
     }
 
-    /* StoreDeliveryController - 내 매장 전체 배달 목록 (매장 주인) */
+    /* StoreDeliveryController - 내 매장 전체 배달 목록 (매장 주인), 첫 페이지 */
     @Transactional(readOnly = true)
     public List<OrderDeliveryDTO> getDeliveriesByStore(Long storeOwnerId) {
-        List<OrderDelivery> list = orderDeliveryRepository.findDeliveriesByStore(storeOwnerId);
+        return getDeliveriesByStore(storeOwnerId, null, DEFAULT_PAGE_SIZE).getContent();
+    }
+
+    /* StoreDeliveryController - 내 매장 전체 배달 목록 (매장 주인), keyset 페이지 */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderDeliveryDTO> getDeliveriesByStore(Long storeOwnerId, String cursor, int size) {
         if (storeOwnerId == null) throw new AccessDeniedException("404 not your delivery_owner.");
-        return list.stream()
-                .map(OrderDeliveryDTO::from)
-                .toList();
+        DeliveryCursor c = DeliveryCursor.decode(cursor);
+        return toPage(orderDeliveryRepository.findDeliveriesByStore(
+                storeOwnerId, c.createdDate(), c.deliveryId(), pageOf(size)), size);
     }
 
-    /* StoreDeliveryController - 상태별 조회 (매장 주인) */
+    /* StoreDeliveryController - 상태별 조회 (매장 주인), 첫 페이지 */
     @Transactional(readOnly = true)
     public List<OrderDeliveryDTO> getDeliveriesByStoreAndStatus(Long storeOwnerId, DeliveryStatus orderDeliveryStatus) {
-        List<OrderDelivery> list = orderDeliveryRepository.findDeliveriesInStatus(storeOwnerId, orderDeliveryStatus);
+        return getDeliveriesByStoreAndStatus(storeOwnerId, orderDeliveryStatus, null, DEFAULT_PAGE_SIZE).getContent();
+    }
+
+    /* StoreDeliveryController - 상태별 조회 (매장 주인), keyset 페이지 */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderDeliveryDTO> getDeliveriesByStoreAndStatus(
+            Long storeOwnerId, DeliveryStatus orderDeliveryStatus, String cursor, int size) {
         if (storeOwnerId == null) throw new AccessDeniedException("404 cannot check status_owner.");
-        return list.stream()
-                .map(OrderDeliveryDTO::from)
-                .toList();
+        DeliveryCursor c = DeliveryCursor.decode(cursor);
+        return toPage(orderDeliveryRepository.findDeliveriesInStatus(
+                storeOwnerId, orderDeliveryStatus, c.createdDate(), c.deliveryId(), pageOf(size)), size);
     }
 
     /* DelivererDeliveryController - 내 배달 단건 조회 (배달원) */
     @Transactional(readOnly = true)
     public OrderDeliveryDTO getDeliveryForDeliverer(Long deliveryId, Long delivererId) {
-        OrderDelivery od = orderDeliveryRepository.findDeliveryForDeliverer(deliveryId, delivererId)
+        return orderDeliveryRepository.findDeliveryDtoForDeliverer(deliveryId, delivererId)
+                        .map(OrderDeliveryRow::toDTO)
                         .orElseThrow(() -> new IllegalArgumentException("404 error not your delivery_rider."));
-        return OrderDeliveryDTO.from(od);
     }
 
-    /* DelivererDeliveryController - 내 배달 목록 조회 (배달원) */
+    /* DelivererDeliveryController - 내 배달 목록 조회 (배달원), 첫 페이지 */
     @Transactional(readOnly = true)
     public List<OrderDeliveryDTO> getDeliveriesByDeliverer(Long delivererId) {
-        List<OrderDelivery> list = orderDeliveryRepository
-                            .findByDeliverer_DelivererId(delivererId);
+        return getDeliveriesByDeliverer(delivererId, null, DEFAULT_PAGE_SIZE).getContent();
+    }
+
+    /* DelivererDeliveryController - 내 배달 목록 조회 (배달원), keyset 페이지 */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderDeliveryDTO> getDeliveriesByDeliverer(Long delivererId, String cursor, int size) {
         if (delivererId == null) throw new AccessDeniedException("404 error not your delivery_rider.");
-        return list.stream()
-                .map(OrderDeliveryDTO::from)
-                .toList();
+        DeliveryCursor c = DeliveryCursor.decode(cursor);
+        return toPage(orderDeliveryRepository.findByDeliverer_DelivererId(
+                delivererId, c.createdDate(), c.deliveryId(), pageOf(size)), size);
     }
 
-    /* DelivererDeliveryController - 상태별 내 배달 조회 (배달원) */
+    /* DelivererDeliveryController - 상태별 내 배달 조회 (배달원), 첫 페이지 */
     @Transactional(readOnly = true)
     public List<OrderDeliveryDTO> getDeliveriesByDelivererInStatus(Long delivererId, DeliveryStatus orderDeliveryStatus) {
-        List<OrderDelivery> list = orderDeliveryRepository.findDeliveriesByDelivererInStatus(delivererId, orderDeliveryStatus);
+        return getDeliveriesByDelivererInStatus(delivererId, orderDeliveryStatus, null, DEFAULT_PAGE_SIZE).getContent();
+    }
+
+    /* DelivererDeliveryController - 상태별 내 배달 조회 (배달원), keyset 페이지 */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderDeliveryDTO> getDeliveriesByDelivererInStatus(
+            Long delivererId, DeliveryStatus orderDeliveryStatus, String cursor, int size) {
         if (delivererId == null) throw new AccessDeniedException("404 cannot check status_rider.");
-        return list.stream()
-                .map(OrderDeliveryDTO::from)
+        DeliveryCursor c = DeliveryCursor.decode(cursor);
+        return toPage(orderDeliveryRepository.findDeliveriesByDelivererInStatus(
+                delivererId, orderDeliveryStatus, c.createdDate(), c.deliveryId(), pageOf(size)), size);
+    }
+
+    // 다음 페이지 존재 여부를 알기 위해 size + 1건을 조회한다.
+    private static Pageable pageOf(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    private static CursorPageDTO<OrderDeliveryDTO> toPage(List<OrderDeliveryRow> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<OrderDeliveryDTO> page = (hasNext ? rows.subList(0, size) : rows).stream()
+                .map(OrderDeliveryRow::toDTO)
                 .toList();
+        String nextCursor = null;
+        if (hasNext) {
+            OrderDeliveryDTO last = page.get(page.size() - 1);
+            nextCursor = new DeliveryCursor(last.getOrderDeliveryCreatedDate(), last.getDeliveryId()).encode();
+        }
+        return new CursorPageDTO<>(List.copyOf(page), nextCursor, hasNext);
     }
     /****************************************************************************************************************/
 
@@ -0,0 +1,179 @@
+package com.deliveryapp.catchabite.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+import com.deliveryapp.catchabite.common.util.TransactionUtils;
+import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+import com.deliveryapp.catchabite.dto.NearbyDeliveryDTO;
+import com.deliveryapp.catchabite.entity.OrderDelivery;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대기(PENDING) 배달의 매장 좌표를 균일 격자(uniform grid)로 보관하는 메모리 인덱스
+ *
+ * - 셀 크기: 위도/경도 0.01도 (서울 기준 약 1.1km x 0.9km)
+ * - 라이더의 "내 주변 배달" 조회 시 반경에 걸치는 셀만 훑기 때문에 테이블 풀스캔이 없다.
+ * - OrderDeliveryService의 배정/취소/재오픈 시 커밋 이후에 갱신되고, 기동 시 DB에서 재적재한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PendingDeliveryIndex {
+
+    private static final double CELL_DEG = 0.01;
+
+    private final OrderDeliveryRepository orderDeliveryRepository;
+
+    // cellKey -> (deliveryId -> entry)
+    private final Map<Long, Map<Long, Entry>> cells = new ConcurrentHashMap<>();
+    // deliveryId -> entry (삭제 시 셀 위치를 찾기 위함)
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(
+            Long deliveryId,
+            long cellKey,
+            double lat,
+            double lon,
+            BigDecimal storeLatitude,
+            BigDecimal storeLongitude,
+            BigDecimal dropoffLatitude,
+            BigDecimal dropoffLongitude
+    ) {}
+
+    private record Candidate(Entry entry, double distanceM) {}
+
+    // 기동 시 DB의 PENDING 배달로 인덱스를 채운다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        cells.clear();
+        entries.clear();
+        orderDeliveryRepository.findWithStoreCoordinatesByStatus(DeliveryStatus.PENDING)
+                .forEach(this::add);
+    }
+
+    /**
+     * 배달을 인덱스에 추가한다. 매장 좌표가 없는 배달은 무시한다.
+     */
+    public void add(OrderDelivery od) {
+        if (od == null || od.getDeliveryId() == null) return;
+        if (od.getStoreLatitude() == null || od.getStoreLongitude() == null) return;
+
+        double lat = od.getStoreLatitude().doubleValue();
+        double lon = od.getStoreLongitude().doubleValue();
+        Entry entry = new Entry(
+                od.getDeliveryId(),
+                cellKey(cellIndex(lat), cellIndex(lon)),
+                lat, lon,
+                od.getStoreLatitude(), od.getStoreLongitude(),
+                od.getDropoffLatitude(), od.getDropoffLongitude());
+
+        Entry previous = entries.put(entry.deliveryId(), entry);
+        if (previous != null && previous.cellKey() != entry.cellKey()) {
+            removeFromCell(previous);
+        }
+        // 빈 셀 정리(removeFromCell)와 경합하지 않도록 셀 단위로 원자적으로 갱신
+        cells.compute(entry.cellKey(), (k, cell) -> {
+            Map<Long, Entry> target = (cell == null) ? new ConcurrentHashMap<>() : cell;
+            target.put(entry.deliveryId(), entry);
+            return target;
+        });
+    }
+
+    /**
+     * 배달을 인덱스에서 제거한다. (배정/취소 등으로 PENDING이 아니게 된 경우)
+     */
+    public void remove(Long deliveryId) {
+        if (deliveryId == null) return;
+        Entry entry = entries.remove(deliveryId);
+        if (entry != null) removeFromCell(entry);
+    }
+
+    // 트랜잭션 롤백 시 인덱스가 DB와 어긋나지 않도록 커밋 이후에 반영한다.
+    public void addAfterCommit(OrderDelivery od) {
+        TransactionUtils.runAfterCommit(() -> add(od));
+    }
+
+    public void removeAfterCommit(Long deliveryId) {
+        TransactionUtils.runAfterCommit(() -> remove(deliveryId));
+    }
+
+    /**
+     * (lat, lon)에서 radiusM 이내의 대기 배달을 가까운 순으로 최대 limit건 반환한다.
+     */
+    public List<NearbyDeliveryDTO> findNearest(double lat, double lon, int radiusM, int limit) {
+        int latSpan = (int) Math.ceil(radiusM / (CELL_DEG * GeoUtils.METERS_PER_DEGREE_LAT));
+        int lonSpan = (int) Math.ceil(radiusM / (CELL_DEG * GeoUtils.metersPerDegreeLon(lat)));
+        long centerLat = cellIndex(lat);
+        long centerLon = cellIndex(lon);
+
+        // 가장 먼 후보가 맨 앞에 오는 최대 힙 (크기 limit 유지)
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(
+                limit + 1, Comparator.comparingDouble(Candidate::distanceM).reversed());
+
+        for (long i = centerLat - latSpan; i <= centerLat + latSpan; i++) {
+            for (long j = centerLon - lonSpan; j <= centerLon + lonSpan; j++) {
+                Map<Long, Entry> cell = cells.get(cellKey(i, j));
+                if (cell == null) continue;
+
+                for (Entry e : cell.values()) {
+                    double d = GeoUtils.haversineMeters(lat, lon, e.lat(), e.lon());
+                    if (d > radiusM) continue;
+                    if (heap.size() < limit) {
+                        heap.offer(new Candidate(e, d));
+                    } else if (d < heap.peek().distanceM()) {
+                        heap.poll();
+                        heap.offer(new Candidate(e, d));
+                    }
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(heap);
+        sorted.sort(Comparator.comparingDouble(Candidate::distanceM));
+
+        List<NearbyDeliveryDTO> result = new ArrayList<>(sorted.size());
+        for (Candidate c : sorted) {
+            Entry e = c.entry();
+            result.add(NearbyDeliveryDTO.builder()
+                    .deliveryId(e.deliveryId())
+                    .storeLatitude(e.storeLatitude())
+                    .storeLongitude(e.storeLongitude())
+                    .dropoffLatitude(e.dropoffLatitude())
+                    .dropoffLongitude(e.dropoffLongitude())
+                    .distanceM((int) Math.round(c.distanceM()))
+                    .build());
+        }
+        return result;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void removeFromCell(Entry entry) {
+        cells.computeIfPresent(entry.cellKey(), (k, cell) -> {
+            cell.remove(entry.deliveryId());
+            return cell.isEmpty() ? null : cell;
+        });
+    }
+
+    private static long cellIndex(double degree) {
+        return (long) Math.floor(degree / CELL_DEG);
+    }
+
+    private static long cellKey(long latIndex, long lonIndex) {
+        return (latIndex << 32) ^ (lonIndex & 0xffffffffL);
+    }
+}
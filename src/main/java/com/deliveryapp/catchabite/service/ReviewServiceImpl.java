@@ -24,6 +24,7 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewRepository reviewRepository;
     private final StoreOrderRepository storeOrderRepository;
     private final ReviewConverter reviewConverter;
+    private final StoreReviewAggregator storeReviewAggregator;
 
     @Override
     @Transactional  // Overrides read-only for write
@@ -58,6 +59,8 @@ public class ReviewServiceImpl implements ReviewService {
                 .build();
 
         Review saved = reviewRepository.save(review);
+        // 매장 평균 평점 / 리뷰 수 갱신 (같은 트랜잭션, 상세 캐시는 커밋 후 무효화)
+        storeReviewAggregator.onCreated(order.getStore().getStoreId(), reviewRating);
         log.info("Review created successfully: reviewId={}, orderId={}", 
                 saved.getReviewId(), storeOrderId);
         
@@ -94,10 +97,12 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         // 3. 수정 실시
+        BigDecimal previousRating = review.getReviewRating();
         review.setReviewRating(dto.getReviewRating());
         review.setReviewContent(dto.getReviewContent());
 
         Review updated = reviewRepository.save(review);
+        storeReviewAggregator.onUpdated(review.getStore().getStoreId(), previousRating, dto.getReviewRating());
         log.info("Review updated successfully: reviewId={}", reviewId);
         
         return reviewConverter.toDto(updated);
@@ -119,6 +124,7 @@ public class ReviewServiceImpl implements ReviewService {
             throw new IllegalArgumentException("ReviewServiceImpl - deleteReview - orderId " + storeOrderId + " Review가 없습니다.");
         }
         reviewRepository.delete(review);
+        storeReviewAggregator.onDeleted(review.getStore().getStoreId(), review.getReviewRating());
         log.info("Review deleted successfully: reviewId={}, orderId={}", 
                 review.getReviewId(), storeOrderId);
     }
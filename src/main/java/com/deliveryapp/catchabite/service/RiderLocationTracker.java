@@ -0,0 +1,218 @@
+package com.deliveryapp.catchabite.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.TransactionUtils;
+import com.deliveryapp.catchabite.dto.RiderLocationDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 라이더 실시간 위치 수집기
+ *
+ * - 라이더 단말의 GPS 핑(1~3초 간격)은 라이더별 고정 크기 링 버퍼(primitive 배열)에 기록한다.
+ *   정상 상태의 기록 경로는 객체를 새로 만들지 않는다.
+ * - DB에는 flush 주기마다 "마지막 저장 이후 바뀐 라이더의 최신 위치 1건"만 JDBC 배치로 저장한다.
+ * - 고객 구독(/topic/deliveries/{deliveryId}/location)에는 broadcast 주기마다 최신 위치만 보낸다.
+ * - 일정 시간 핑이 없는 라이더의 버퍼는 메모리에서 내린다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class RiderLocationTracker {
+
+    private static final String INSERT_SQL =
+            "insert into deliverer_location (deliverer_id, latitude, longitude, recorded_at) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${delivery.location.buffer-size:32}")
+    private int bufferSize;
+
+    @Value("${delivery.location.idle-evict-ms:300000}")
+    private long idleEvictMs;
+
+    // delivererId -> 위치 버퍼
+    private final Map<Long, RiderBuffer> buffers = new ConcurrentHashMap<>();
+
+    // 구독 중인 배달: deliveryId -> delivererId, delivererId -> deliveryIds
+    private final Map<Long, Long> watchedDeliveries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> watchersByRider = new ConcurrentHashMap<>();
+
+    /**
+     * 라이더 위치 1건을 기록한다. recordedAt이 0 이하이면 서버 수신 시각을 쓴다.
+     */
+    public void record(Long delivererId, double latitude, double longitude, long recordedAt) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("위도/경도 범위가 올바르지 않습니다.");
+        }
+        long now = System.currentTimeMillis();
+        long ts = (recordedAt > 0) ? recordedAt : now;
+
+        // 대부분의 핑은 이미 버퍼가 있으므로 get으로 먼저 찾는다. (computeIfAbsent의 람다 할당 회피)
+        RiderBuffer buffer = buffers.get(delivererId);
+        if (buffer == null) {
+            buffer = buffers.computeIfAbsent(delivererId, id -> new RiderBuffer(bufferSize));
+        }
+        buffer.write(latitude, longitude, ts, now);
+    }
+
+    /**
+     * 라이더의 최신 위치를 반환한다. 기록이 없으면 null.
+     */
+    public RiderLocationDTO latest(Long delivererId) {
+        RiderBuffer buffer = buffers.get(delivererId);
+        return (buffer == null) ? null : buffer.snapshot(delivererId);
+    }
+
+    // 고객이 배달 위치를 구독하면 해당 배달을 라이더에 연결한다.
+    public void watch(Long deliveryId, Long delivererId) {
+        Long previous = watchedDeliveries.put(deliveryId, delivererId);
+        if (previous != null && !previous.equals(delivererId)) {
+            detach(previous, deliveryId);
+        }
+        watchersByRider.computeIfAbsent(delivererId, id -> ConcurrentHashMap.newKeySet()).add(deliveryId);
+    }
+
+    // 배달 완료/취소 시 더 이상 라이더 위치를 보내지 않는다.
+    public void unwatch(Long deliveryId) {
+        Long delivererId = watchedDeliveries.remove(deliveryId);
+        if (delivererId != null) detach(delivererId, deliveryId);
+    }
+
+    public void unwatchAfterCommit(Long deliveryId) {
+        TransactionUtils.runAfterCommit(() -> unwatch(deliveryId));
+    }
+
+    /**
+     * 마지막 저장 이후 위치가 바뀐 라이더마다 최신 1건을 한 번의 배치로 저장한다.
+     */
+    @Scheduled(fixedDelayString = "${delivery.location.flush-interval-ms:10000}")
+    public void flush() {
+        List<Object[]> rows = new ArrayList<>();
+        long evictBefore = System.currentTimeMillis() - idleEvictMs;
+
+        for (Map.Entry<Long, RiderBuffer> e : buffers.entrySet()) {
+            RiderBuffer buffer = e.getValue();
+            Object[] row = buffer.takeUnflushed(e.getKey());
+            if (row != null) rows.add(row);
+
+            // 오래 조용한 라이더는 (저장할 것을 꺼낸 뒤) 메모리에서 내린다.
+            if (buffer.lastReceivedAt() < evictBefore) {
+                buffers.remove(e.getKey(), buffer);
+            }
+        }
+        if (rows.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        } catch (RuntimeException ex) {
+            // 위치 이력은 유실되어도 배달 흐름에 영향이 없으므로 다음 주기로 넘긴다.
+            log.warn("rider location flush failed. rows={}", rows.size(), ex);
+        }
+    }
+
+    /**
+     * 구독 중인 배달마다 라이더의 최신 위치를 push 한다. (바뀐 경우에만)
+     */
+    @Scheduled(fixedDelayString = "${delivery.location.broadcast-interval-ms:1000}")
+    public void broadcast() {
+        for (Map.Entry<Long, Set<Long>> e : watchersByRider.entrySet()) {
+            RiderBuffer buffer = buffers.get(e.getKey());
+            if (buffer == null) continue;
+
+            RiderLocationDTO location = buffer.takeUnbroadcast(e.getKey());
+            if (location == null) continue;
+
+            for (Long deliveryId : e.getValue()) {
+                messagingTemplate.convertAndSend("/topic/deliveries/" + deliveryId + "/location", location);
+            }
+        }
+    }
+
+    public int trackedRiderCount() {
+        return buffers.size();
+    }
+
+    private void detach(Long delivererId, Long deliveryId) {
+        watchersByRider.computeIfPresent(delivererId, (id, set) -> {
+            set.remove(deliveryId);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 라이더 1명의 위치 링 버퍼. 라이더 단위로 동기화한다. (라이더 간 경합 없음)
+     */
+    private static final class RiderBuffer {
+
+        private final double[] lat;
+        private final double[] lon;
+        private final long[] ts;
+
+        // 누적 기록 수 (다음 기록 위치 = seq % capacity)
+        private long seq;
+        private long flushedSeq;
+        private long broadcastSeq;
+        private volatile long lastReceivedAt;
+
+        RiderBuffer(int capacity) {
+            int size = Math.max(1, capacity);
+            this.lat = new double[size];
+            this.lon = new double[size];
+            this.ts = new long[size];
+        }
+
+        synchronized void write(double latitude, double longitude, long recordedAt, long receivedAt) {
+            int i = (int) (seq % lat.length);
+            lat[i] = latitude;
+            lon[i] = longitude;
+            ts[i] = recordedAt;
+            seq++;
+            lastReceivedAt = receivedAt;
+        }
+
+        synchronized RiderLocationDTO snapshot(Long delivererId) {
+            if (seq == 0) return null;
+            int i = (int) ((seq - 1) % lat.length);
+            return new RiderLocationDTO(delivererId, lat[i], lon[i], ts[i]);
+        }
+
+        synchronized Object[] takeUnflushed(Long delivererId) {
+            if (seq == flushedSeq) return null;
+            flushedSeq = seq;
+            int i = (int) ((seq - 1) % lat.length);
+            return new Object[] {
+                    delivererId,
+                    BigDecimal.valueOf(lat[i]).setScale(7, RoundingMode.HALF_UP),
+                    BigDecimal.valueOf(lon[i]).setScale(7, RoundingMode.HALF_UP),
+                    new Timestamp(ts[i])
+            };
+        }
+
+        synchronized RiderLocationDTO takeUnbroadcast(Long delivererId) {
+            if (seq == broadcastSeq) return null;
+            broadcastSeq = seq;
+            return snapshot(delivererId);
+        }
+
+        long lastReceivedAt() {
+            return lastReceivedAt;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.List;
+
+/**
+ * 경로 거리/소요시간 계산기 (DeliveryDistanceService에서 이용)
+ *
+ * 매장(출발) ~ 도착지 좌표 n쌍을 배열로 받아 한 번에 계산한다.
+ * 구현체는 name()으로 구분되며 delivery.routing.provider 설정으로 선택한다.
+ * (기본: 오프라인 직선거리 보정 haversine, 외부 길찾기 API는 같은 인터페이스로 추가)
+ */
+public interface RoutingProvider {
+
+    String name();
+
+    /**
+     * i번째 (fromLat[i], fromLon[i]) -> (toLat[i], toLon[i]) 경로의
+     * 거리(m)를 outMeters[i]에, 소요시간(초)을 outSeconds[i]에 채운다. (0 <= i < n)
+     * 경로를 구하지 못한 건은 NaN으로 둔다.
+     */
+    void route(double[] fromLat, double[] fromLon, double[] toLat, double[] toLon,
+               double[] outMeters, double[] outSeconds, int n);
+
+    /**
+     * 등록된 구현체 중 이름이 같은 것을 고른다.
+     */
+    static RoutingProvider select(List<RoutingProvider> providers, String name) {
+        return providers.stream()
+                .filter(p -> p.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 경로 계산기입니다. provider=" + name));
+    }
+}
@@ -0,0 +1,303 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.domain.enumtype.StoreCategory;
+import com.deliveryapp.catchabite.dto.AutocompleteSuggestionDTO;
+import com.deliveryapp.catchabite.dto.AutocompleteSuggestionDTO.SuggestionType;
+import com.deliveryapp.catchabite.repository.MenuRepository;
+import com.deliveryapp.catchabite.repository.MenuRepository.MenuSearchRow;
+import com.deliveryapp.catchabite.repository.StoreRepository;
+import com.deliveryapp.catchabite.repository.StoreRepository.AutocompleteStoreRow;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 검색창 자동완성 (매장명 / 메뉴명 / 음식 분류)
+ *
+ * - 접두사 트라이. 각 노드에 그 접두사로 시작하는 후보 중 가중치 상위 max-suggestions건을 미리 담아 두므로
+ *   조회는 접두사 길이만큼 노드를 따라간 뒤 배열을 잘라 오는 것이 전부다. (DB/락 없음)
+ * - 키는 StoreSearchIndex와 같은 정규화(소문자, 공백/기호 제거)를 쓰고,
+ *   여러 단어로 된 이름은 두 번째 단어부터도 키로 넣는다. ("교촌치킨 강남점" -> "강남" 으로도 검색)
+ * - 가중치: 매장 = log(1 + 누적 주문 수) + 평점, 메뉴 = 그 메뉴를 파는 가장 인기 있는 매장 가중치 + log(1 + 매장 수)
+ *   같은 메뉴명은 한 번만 나온다. 분류는 항상 위쪽에 둔다.
+ * - 트라이는 전용 스레드에서 DB 스냅샷으로 새로 만들고 volatile 참조만 바꿔 끼운다.
+ *   재구성 중에도 조회는 이전 트라이를 그대로 쓴다.
+ */
+@Log4j2
+@Component
+public class StoreAutocomplete {
+
+    // 키로 쓰는 최대 글자 수 (그 이상 입력해도 같은 노드의 후보를 돌려준다)
+    private static final int MAX_KEY_LENGTH = 20;
+    private static final double CATEGORY_WEIGHT = 1_000.0;
+    private static final double MENU_FACTOR = 0.8;
+
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final int maxSuggestions;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "autocomplete-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile Trie trie = Trie.EMPTY;
+
+    public StoreAutocomplete(
+            StoreRepository storeRepository,
+            MenuRepository menuRepository,
+            @Value("${search.autocomplete.max-suggestions:10}") int maxSuggestions) {
+        this.storeRepository = storeRepository;
+        this.menuRepository = menuRepository;
+        this.maxSuggestions = Math.max(1, maxSuggestions);
+    }
+
+    /**
+     * prefix로 시작하는 후보를 가중치 순으로 최대 limit건 (limit은 max-suggestions까지)
+     */
+    public List<AutocompleteSuggestionDTO> suggest(String prefix, int limit) {
+        String key = StoreSearchIndex.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) return List.of();
+        if (key.length() > MAX_KEY_LENGTH) key = key.substring(0, MAX_KEY_LENGTH);
+
+        Trie current = trie;
+        int node = current.find(key);
+        if (node < 0) return List.of();
+
+        int[] top = current.top[node];
+        int n = Math.min(limit, top.length);
+        List<AutocompleteSuggestionDTO> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            result.add(current.entries[top[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * 트라이 재구성을 요청한다. 이미 재구성 중이면 건너뛴다. (스케줄러 스레드를 붙잡지 않음)
+     */
+    @Scheduled(fixedDelayString = "${search.autocomplete.rebuild-interval-ms:300000}")
+    public void requestRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("autocomplete rebuild failed. keeping previous trie", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    void rebuild() {
+        long started = System.nanoTime();
+        List<Candidate> candidates = new ArrayList<>();
+
+        Map<Long, Double> storeWeights = new HashMap<>();
+        for (AutocompleteStoreRow row : storeRepository.findAutocompleteRows()) {
+            double weight = storeWeight(row.getStoreTotalOrder(), row.getStoreRating());
+            storeWeights.put(row.getStoreId(), weight);
+            candidates.add(new Candidate(
+                    new AutocompleteSuggestionDTO(SuggestionType.STORE, row.getStoreName(), row.getStoreId()), weight));
+        }
+
+        // 메뉴명 -> (원문, 최대 매장 가중치, 매장 수)
+        Map<String, MenuAgg> menus = new HashMap<>();
+        for (MenuSearchRow row : menuRepository.findSearchRows()) {
+            String key = StoreSearchIndex.normalize(row.getMenuName());
+            if (key.isEmpty()) continue;
+            double weight = storeWeights.getOrDefault(row.getStoreId(), 0.0);
+            MenuAgg agg = menus.computeIfAbsent(key, k -> new MenuAgg(row.getMenuName()));
+            agg.maxWeight = Math.max(agg.maxWeight, weight);
+            agg.stores++;
+        }
+        for (MenuAgg agg : menus.values()) {
+            candidates.add(new Candidate(
+                    new AutocompleteSuggestionDTO(SuggestionType.MENU, agg.text, null),
+                    MENU_FACTOR * agg.maxWeight + Math.log1p(agg.stores)));
+        }
+
+        for (StoreCategory category : StoreCategory.values()) {
+            candidates.add(new Candidate(
+                    new AutocompleteSuggestionDTO(SuggestionType.CATEGORY, category.name(), null), CATEGORY_WEIGHT));
+        }
+
+        Trie built = Trie.build(candidates, maxSuggestions);
+        this.trie = built;
+        log.info("autocomplete trie rebuilt. entries={}, nodes={}, tookMs={}",
+                built.entries.length, built.top.length, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static double storeWeight(Integer totalOrder, Double rating) {
+        double orders = (totalOrder == null) ? 0 : Math.max(0, totalOrder);
+        double stars = (rating == null) ? 0 : Math.max(0, rating);
+        return Math.log1p(orders) + stars;
+    }
+
+    private record Candidate(AutocompleteSuggestionDTO suggestion, double weight) {}
+
+    private static final class MenuAgg {
+        final String text;
+        double maxWeight;
+        int stores;
+
+        MenuAgg(String text) {
+            this.text = text;
+        }
+    }
+
+    /**
+     * 읽기 전용 트라이. 노드 i의 자식 글자는 labels[i](정렬), 자식 노드 번호는 children[i],
+     * 상위 후보(entries 인덱스, 가중치 순)는 top[i]. 0번이 루트
+     */
+    private static final class Trie {
+        static final Trie EMPTY = new Trie(
+                new AutocompleteSuggestionDTO[0], new char[][]{{}}, new int[][]{{}}, new int[][]{{}});
+
+        final AutocompleteSuggestionDTO[] entries;
+        final char[][] labels;
+        final int[][] children;
+        final int[][] top;
+
+        Trie(AutocompleteSuggestionDTO[] entries, char[][] labels, int[][] children, int[][] top) {
+            this.entries = entries;
+            this.labels = labels;
+            this.children = children;
+            this.top = top;
+        }
+
+        int find(String key) {
+            int node = 0;
+            for (int i = 0; i < key.length(); i++) {
+                int slot = Arrays.binarySearch(labels[node], key.charAt(i));
+                if (slot < 0) return -1;
+                node = children[node][slot];
+            }
+            return node;
+        }
+
+        static Trie build(List<Candidate> candidates, int k) {
+            // 가중치 내림차순으로 넣으면 각 노드는 먼저 도착한 k건만 담으면 된다.
+            List<Candidate> sorted = new ArrayList<>(candidates);
+            sorted.sort(Comparator.comparingDouble(Candidate::weight).reversed()
+                    .thenComparing(c -> c.suggestion().getText()));
+
+            AutocompleteSuggestionDTO[] entries = new AutocompleteSuggestionDTO[sorted.size()];
+            Node root = new Node(k);
+            for (int i = 0; i < sorted.size(); i++) {
+                AutocompleteSuggestionDTO suggestion = sorted.get(i).suggestion();
+                entries[i] = suggestion;
+                for (String key : keysOf(suggestion.getText())) {
+                    insert(root, key, i);
+                }
+            }
+            return freeze(root, entries);
+        }
+
+        private static void insert(Node root, String key, int entry) {
+            Node node = root;
+            node.offer(entry);
+            int length = Math.min(key.length(), MAX_KEY_LENGTH);
+            for (int i = 0; i < length; i++) {
+                node = node.next.computeIfAbsent(key.charAt(i), c -> new Node(root.top.length));
+                node.offer(entry);
+            }
+        }
+
+        // 전체 이름 + 두 번째 단어부터 시작하는 나머지
+        private static List<String> keysOf(String text) {
+            List<String> keys = new ArrayList<>(2);
+            if (text == null) return keys;
+            String full = StoreSearchIndex.normalize(text);
+            if (full.isEmpty()) return keys;
+            keys.add(full);
+            String[] words = text.trim().split("\\s+");
+            int from = words[0].length();
+            for (int w = 1; w < words.length; w++) {
+                from = text.indexOf(words[w], from);
+                String rest = StoreSearchIndex.normalize(text.substring(from));
+                if (!rest.isEmpty() && !keys.contains(rest)) keys.add(rest);
+                from += words[w].length();
+            }
+            return keys;
+        }
+
+        // BFS로 노드 번호를 매기고 배열로 옮긴다.
+        private static Trie freeze(Node root, AutocompleteSuggestionDTO[] entries) {
+            List<Node> order = new ArrayList<>();
+            ArrayDeque<Node> queue = new ArrayDeque<>();
+            root.id = 0;
+            queue.add(root);
+            while (!queue.isEmpty()) {
+                Node node = queue.poll();
+                order.add(node);
+                for (Node child : node.next.values()) {
+                    child.id = order.size() + queue.size();
+                    queue.add(child);
+                }
+            }
+
+            int size = order.size();
+            char[][] labels = new char[size][];
+            int[][] children = new int[size][];
+            int[][] top = new int[size][];
+            for (Node node : order) {
+                int n = node.next.size();
+                char[] l = new char[n];
+                int[] c = new int[n];
+                int j = 0;
+                for (Map.Entry<Character, Node> e : node.next.entrySet()) {
+                    l[j] = e.getKey();
+                    c[j] = e.getValue().id;
+                    j++;
+                }
+                labels[node.id] = l;
+                children[node.id] = c;
+                top[node.id] = Arrays.copyOf(node.top, node.topSize);
+            }
+            return new Trie(entries, labels, children, top);
+        }
+    }
+
+    // 재구성 중에만 쓰는 가변 노드
+    private static final class Node {
+        final TreeMap<Character, Node> next = new TreeMap<>();
+        final int[] top;
+        int topSize;
+        int id;
+
+        Node(int k) {
+            this.top = new int[k];
+        }
+
+        void offer(int entry) {
+            // 같은 후보가 여러 키로 같은 노드를 지날 수 있다. (후보는 순서대로 들어오므로 마지막만 보면 된다)
+            if (topSize == top.length || (topSize > 0 && top[topSize - 1] == entry)) return;
+            top[topSize++] = entry;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.TransactionUtils;
+import com.deliveryapp.catchabite.dto.UserStoreResponseDTO;
+
+/**
+ * 매장 상세 화면(UserStoreServiceImpl.getStoreDetailsForUser) 중 사용자와 무관한 부분의 캐시
+ *
+ * - 매장마다 버전 카운터를 두고, 캐시 항목은 (storeId, 읽기 시작 시점의 버전)으로 저장한다.
+ *   조회는 현재 버전과 같은 항목만 쓰므로, 버전을 올리면 그 매장의 이전 항목은 다시 쓰이지 않는다.
+ * - 버전은 사장님 변경 경로(매장/메뉴/메뉴 카테고리/메뉴 이미지/옵션/매장 이미지)와 리뷰 작성/삭제가
+ *   커밋된 뒤에 올린다. 커밋 전에 올리면 새 버전으로 커밋 전 데이터를 읽어 담을 수 있기 때문이다.
+ * - 읽기 도중 버전이 올라가도, 그 결과는 이전 버전으로 저장되므로 다시 쓰이지 않는다.
+ * - max-entries를 넘으면 임의의 항목을 버린다. (다음 조회 때 다시 채움)
+ */
+@Component
+public class StoreDetailCache {
+
+    private final int maxEntries;
+
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(long version, UserStoreResponseDTO detail) {}
+
+    public StoreDetailCache(@Value("${store.detail-cache.max-entries:5000}") int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * 매장의 현재 버전. 상세를 읽기 "전에" 받아 두고 get/put에 같은 값을 넘긴다.
+     */
+    public long version(Long storeId) {
+        AtomicLong version = versions.get(storeId);
+        return (version == null) ? 0L : version.get();
+    }
+
+    /**
+     * 현재 버전으로 저장된 상세가 없으면 null
+     */
+    public UserStoreResponseDTO get(Long storeId, long version) {
+        Entry entry = entries.get(storeId);
+        return (entry != null && entry.version() == version) ? entry.detail() : null;
+    }
+
+    public void put(Long storeId, long version, UserStoreResponseDTO detail) {
+        if (entries.size() >= maxEntries && !entries.containsKey(storeId)) {
+            Iterator<Long> it = entries.keySet().iterator();
+            if (it.hasNext()) entries.remove(it.next());
+        }
+        // 더 새 버전이 이미 들어와 있으면 덮어쓰지 않는다.
+        entries.merge(storeId, new Entry(version, detail),
+                (current, next) -> (next.version() >= current.version()) ? next : current);
+    }
+
+    public void bump(Long storeId) {
+        if (storeId == null) return;
+        versions.computeIfAbsent(storeId, k -> new AtomicLong()).incrementAndGet();
+        entries.remove(storeId);
+    }
+
+    public void bumpAfterCommit(Long storeId) {
+        TransactionUtils.runAfterCommit(() -> bump(storeId));
+    }
+}
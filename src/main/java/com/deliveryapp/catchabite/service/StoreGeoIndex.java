@@ -0,0 +1,215 @@
+package com.deliveryapp.catchabite.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+import com.deliveryapp.catchabite.common.util.TransactionUtils;
+import com.deliveryapp.catchabite.domain.enumtype.StoreOpenStatus;
+import com.deliveryapp.catchabite.repository.StoreRepository;
+import com.deliveryapp.catchabite.repository.StoreRepository.StoreGeoRow;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 매장 좌표 + 배달 반경(storeMaxDist, m) 균일 격자 색인
+ *
+ * - 셀 크기: 위도/경도 0.01도 (PendingDeliveryIndex와 같음)
+ * - covering(lat, lon): 색인된 매장 중 가장 넓은 반경만큼의 셀만 훑고,
+ *   매장별 반경 안에 (lat, lon)이 들어오는 매장을 가까운 순으로 돌려준다. store 테이블을 읽지 않는다.
+ * - 영업 상태(OPEN 여부)도 함께 두어 coveringOpen은 영업 중인 매장만 돌려준다. (목록 조회 시 매장 상태 확인 쿼리 없음)
+ * - 반경이 없는 매장은 default-max-dist-m, 반경은 max-radius-m까지만 인정한다. (훑는 셀 수 상한)
+ * - StoreServiceImpl이 주소/배달 반경/영업 상태 변경을 커밋한 뒤 해당 매장만 갱신한다.
+ *   기동 시 DB에서 재적재하며, 좌표가 없는 매장은 이때 지오코딩해 저장한다.
+ */
+@Log4j2
+@Component
+public class StoreGeoIndex {
+
+    private static final double CELL_DEG = 0.01;
+
+    private static final String UPDATE_COORDINATES_SQL =
+            "update store set store_latitude = ?, store_longitude = ? where store_id = ?";
+
+    private final StoreRepository storeRepository;
+    private final GeocodingService geocodingService;
+    private final JdbcTemplate jdbcTemplate;
+    private final int defaultRadiusM;
+    private final int maxRadiusM;
+
+    // cellKey -> (storeId -> entry)
+    private final Map<Long, Map<Long, Entry>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // 색인된 매장 중 가장 넓은 반경 (줄어드는 쪽은 재적재 때 반영)
+    private volatile int widestRadiusM;
+
+    private record Entry(Long storeId, long cellKey, double lat, double lon, int radiusM, boolean open) {}
+
+    /**
+     * 배송지를 배달 반경 안에 두는 매장 1곳과 거리(m)
+     */
+    public record Hit(Long storeId, double distanceM) {}
+
+    public StoreGeoIndex(
+            StoreRepository storeRepository,
+            GeocodingService geocodingService,
+            JdbcTemplate jdbcTemplate,
+            @Value("${store.geo.default-max-dist-m:3000}") int defaultRadiusM,
+            @Value("${store.geo.max-radius-m:20000}") int maxRadiusM) {
+        this.storeRepository = storeRepository;
+        this.geocodingService = geocodingService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxRadiusM = Math.max(1, maxRadiusM);
+        this.defaultRadiusM = Math.min(this.maxRadiusM, Math.max(1, defaultRadiusM));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        cells.clear();
+        entries.clear();
+        widestRadiusM = 0;
+
+        List<Object[]> geocoded = new ArrayList<>();
+        for (StoreGeoRow row : storeRepository.findGeoRows()) {
+            BigDecimal lat = row.getStoreLatitude();
+            BigDecimal lon = row.getStoreLongitude();
+            if (lat == null || lon == null) {
+                Optional<Geocoder.Point> point = geocodingService.geocode(row.getStoreAddress());
+                if (point.isEmpty()) continue;
+                lat = point.get().latitudeDecimal();
+                lon = point.get().longitudeDecimal();
+                geocoded.add(new Object[]{lat, lon, row.getStoreId()});
+            }
+            put(row.getStoreId(), lat.doubleValue(), lon.doubleValue(), row.getStoreMaxDist(),
+                    row.getStoreOpenStatus() == StoreOpenStatus.OPEN);
+        }
+        if (!geocoded.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_COORDINATES_SQL, geocoded);
+        }
+        log.info("store geo index rebuilt. stores={}, geocoded={}", entries.size(), geocoded.size());
+    }
+
+    /**
+     * 매장 위치/반경/영업 상태 갱신. 좌표가 null이면 색인에서 뺀다.
+     */
+    public void updateAfterCommit(Long storeId, BigDecimal lat, BigDecimal lon, Integer maxDistM, StoreOpenStatus status) {
+        TransactionUtils.runAfterCommit(() -> {
+            if (lat == null || lon == null) {
+                remove(storeId);
+            } else {
+                put(storeId, lat.doubleValue(), lon.doubleValue(), maxDistM, status == StoreOpenStatus.OPEN);
+            }
+        });
+    }
+
+    /**
+     * 영업 상태만 갱신 (색인에 없는 매장은 무시)
+     */
+    public void updateStatusAfterCommit(Long storeId, StoreOpenStatus status) {
+        TransactionUtils.runAfterCommit(() -> setOpen(storeId, status == StoreOpenStatus.OPEN));
+    }
+
+    public synchronized void put(Long storeId, double lat, double lon, Integer maxDistM, boolean open) {
+        if (storeId == null) return;
+        int radius = (maxDistM == null || maxDistM <= 0) ? defaultRadiusM : Math.min(maxDistM, maxRadiusM);
+        Entry entry = new Entry(storeId, cellKey(cellIndex(lat), cellIndex(lon)), lat, lon, radius, open);
+        Entry previous = entries.put(storeId, entry);
+        if (previous != null) detach(previous);
+        cells.computeIfAbsent(entry.cellKey(), k -> new ConcurrentHashMap<>()).put(storeId, entry);
+        if (radius > widestRadiusM) widestRadiusM = radius;
+    }
+
+    public synchronized void setOpen(Long storeId, boolean open) {
+        if (storeId == null) return;
+        Entry previous = entries.get(storeId);
+        if (previous == null || previous.open() == open) return;
+        Entry entry = new Entry(storeId, previous.cellKey(), previous.lat(), previous.lon(), previous.radiusM(), open);
+        entries.put(storeId, entry);
+        cells.computeIfAbsent(entry.cellKey(), k -> new ConcurrentHashMap<>()).put(storeId, entry);
+    }
+
+    public synchronized void remove(Long storeId) {
+        if (storeId == null) return;
+        Entry previous = entries.remove(storeId);
+        if (previous != null) detach(previous);
+    }
+
+    /**
+     * (lat, lon)이 배달 반경 안에 드는 매장을 가까운 순으로 최대 limit건 (영업 상태 무관)
+     */
+    public List<Hit> covering(double lat, double lon, int limit) {
+        return scan(lat, lon, limit, false);
+    }
+
+    /**
+     * (lat, lon)이 배달 반경 안에 드는 영업 중인 매장을 가까운 순으로 최대 limit건
+     */
+    public List<Hit> coveringOpen(double lat, double lon, int limit) {
+        return scan(lat, lon, limit, true);
+    }
+
+    private List<Hit> scan(double lat, double lon, int limit, boolean openOnly) {
+        int reach = widestRadiusM;
+        if (reach <= 0 || limit <= 0) return List.of();
+
+        int latSpan = (int) Math.ceil(reach / (CELL_DEG * GeoUtils.METERS_PER_DEGREE_LAT));
+        int lonSpan = (int) Math.ceil(reach / (CELL_DEG * GeoUtils.metersPerDegreeLon(lat)));
+        long centerLat = cellIndex(lat);
+        long centerLon = cellIndex(lon);
+
+        List<Hit> hits = new ArrayList<>();
+        for (long i = centerLat - latSpan; i <= centerLat + latSpan; i++) {
+            for (long j = centerLon - lonSpan; j <= centerLon + lonSpan; j++) {
+                Map<Long, Entry> cell = cells.get(cellKey(i, j));
+                if (cell == null) continue;
+                for (Entry e : cell.values()) {
+                    if (openOnly && !e.open()) continue;
+                    double d = GeoUtils.haversineMeters(lat, lon, e.lat(), e.lon());
+                    if (d <= e.radiusM()) hits.add(new Hit(e.storeId(), d));
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceM).thenComparing(Hit::storeId));
+        return (hits.size() > limit) ? hits.subList(0, limit) : hits;
+    }
+
+    /**
+     * 매장까지의 거리(m). 색인에 없는 매장이면 NaN
+     */
+    public double distance(Long storeId, double lat, double lon) {
+        Entry e = entries.get(storeId);
+        return (e == null) ? Double.NaN : GeoUtils.haversineMeters(lat, lon, e.lat(), e.lon());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void detach(Entry entry) {
+        Map<Long, Entry> cell = cells.get(entry.cellKey());
+        if (cell == null) return;
+        cell.remove(entry.storeId());
+        if (cell.isEmpty()) cells.remove(entry.cellKey(), cell);
+    }
+
+    private static long cellIndex(double degree) {
+        return (long) Math.floor(degree / CELL_DEG);
+    }
+
+    // 상위 32비트 = 위도 칸, 하위 32비트 = 경도 칸
+    private static long cellKey(long latIndex, long lonIndex) {
+        return (latIndex << 32) ^ (lonIndex & 0xffffffffL);
+    }
+}
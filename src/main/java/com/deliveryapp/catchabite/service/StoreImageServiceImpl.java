@@ -18,6 +18,7 @@ public class StoreImageServiceImpl implements StoreImageService {
 
 	private final StoreRepository storeRepository;
 	private final StoreImageRepository storeImageRepository;
+	private final StoreDetailCache storeDetailCache;
 
 	@Override
 	@Transactional(readOnly = true)
@@ -48,6 +49,7 @@ public class StoreImageServiceImpl implements StoreImageService {
 				.build();
 
 		StoreImage saved = storeImageRepository.save(image);
+		storeDetailCache.bumpAfterCommit(storeId);
 
 		return StoreImageDTO.builder()
 				.storeImageId(saved.getStoreImageId())
@@ -67,5 +69,6 @@ public class StoreImageServiceImpl implements StoreImageService {
 				.orElseThrow(() -> new IllegalArgumentException("이미지가 존재하지 않습니다."));
 
 		storeImageRepository.delete(image);
+		storeDetailCache.bumpAfterCommit(storeId);
 	}
 }
@@ -0,0 +1,221 @@
+package com.deliveryapp.catchabite.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deliveryapp.catchabite.common.util.TransactionUtils;
+import com.deliveryapp.catchabite.repository.StoreOrderRepository;
+import com.deliveryapp.catchabite.repository.StoreOrderRepository.OrderStampRow;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 매장 인기도 카운터 (누적 주문 수 / 최근 window-minutes 분 주문 수)
+ *
+ * - 주문 생성(UserStoreOrderServiceImpl)이 커밋되면 매장 카운터만 올린다. 카운터는 LongAdder라 경합이 없다.
+ * - 최근 주문 수는 분 단위 링(window-minutes칸)에 담고, flush 때 매장별 합계와 "지금 인기" 순위를 미리 계산해 둔다.
+ *   조회(recentOrders / topStores)는 미리 계산한 값을 읽기만 한다.
+ * - flush(flush-interval-ms)마다 바뀐 매장만 store.store_total_order(증분) / store.store_recent_order(덮어씀)에 배치 UPDATE.
+ *   실패하면 증분을 카운터에 되돌려 다음 flush에서 다시 쓴다.
+ * - 기동 시 최근 구간의 주문으로 링을 다시 채운다. (누적 주문 수는 DB 값이 기준)
+ */
+@Log4j2
+@Component
+public class StorePopularityCounters {
+
+    private static final String FLUSH_SQL = """
+            update store
+            set store_total_order = coalesce(store_total_order, 0) + ?,
+                store_recent_order = ?
+            where store_id = ?
+            """;
+
+    // 기동 직후 링이 채워지기 전의 이전 값은 버린다. (최근 주문이 있는 매장은 첫 flush에서 다시 씀)
+    private static final String RESET_RECENT_SQL = "update store set store_recent_order = 0 where store_recent_order <> 0";
+
+    private final StoreOrderRepository storeOrderRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int windowMinutes;
+    private final int rankingSize;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    // 최근 주문 수 내림차순 매장 id (flush마다 교체)
+    private volatile List<Long> ranking = List.of();
+
+    public StorePopularityCounters(
+            StoreOrderRepository storeOrderRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${store.popularity.window-minutes:180}") int windowMinutes,
+            @Value("${store.popularity.ranking-size:100}") int rankingSize) {
+        this.storeOrderRepository = storeOrderRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.windowMinutes = Math.max(1, windowMinutes);
+        this.rankingSize = Math.max(1, rankingSize);
+    }
+
+    private record Bucket(long minute, LongAdder count) {}
+
+    /**
+     * 매장 1곳의 카운터. 링의 칸은 분이 바뀔 때 CAS로 새 칸으로 교체한다.
+     */
+    private static final class Counter {
+        final LongAdder unflushedTotal = new LongAdder();
+        final AtomicReferenceArray<Bucket> ring;
+
+        // flush 때 계산한 최근 주문 수
+        volatile int recent;
+        // 마지막으로 DB에 쓴 최근 주문 수 (flush 스레드만 사용)
+        int flushedRecent = -1;
+
+        Counter(int windowMinutes) {
+            this.ring = new AtomicReferenceArray<>(windowMinutes);
+        }
+
+        void add(long minute) {
+            int slot = (int) (minute % ring.length());
+            while (true) {
+                Bucket bucket = ring.get(slot);
+                if (bucket != null && bucket.minute() == minute) {
+                    bucket.count().increment();
+                    return;
+                }
+                // 이미 더 새 분이 들어온 칸이면 구간 밖의 값이므로 버린다.
+                if (bucket != null && bucket.minute() > minute) return;
+                ring.compareAndSet(slot, bucket, new Bucket(minute, new LongAdder()));
+            }
+        }
+
+        long sum(long now) {
+            long total = 0;
+            for (int i = 0; i < ring.length(); i++) {
+                Bucket bucket = ring.get(i);
+                if (bucket != null && now - bucket.minute() < ring.length()) total += bucket.count().sum();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * 주문 생성 경로에서 호출한다. 커밋된 주문만 센다.
+     */
+    public void recordOrderAfterCommit(Long storeId) {
+        TransactionUtils.runAfterCommit(() -> recordOrder(storeId));
+    }
+
+    public void recordOrder(Long storeId) {
+        if (storeId == null) return;
+        Counter counter = counter(storeId);
+        counter.add(currentMinute());
+        counter.unflushedTotal.increment();
+    }
+
+    /**
+     * 최근 window-minutes 분 주문 수 (마지막 flush 기준)
+     */
+    public int recentOrders(Long storeId) {
+        Counter counter = counters.get(storeId);
+        return (counter == null) ? 0 : counter.recent;
+    }
+
+    /**
+     * 최근 주문 수 상위 매장 id (최대 ranking-size건)
+     */
+    public List<Long> topStores(int limit) {
+        List<Long> current = ranking;
+        return (limit >= current.size()) ? current : current.subList(0, Math.max(0, limit));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(windowMinutes);
+        List<OrderStampRow> stamps = storeOrderRepository.findOrderStampsSince(since);
+        for (OrderStampRow row : stamps) {
+            if (row.getStoreId() == null || row.getOrderDate() == null) continue;
+            long minute = row.getOrderDate().atZone(ZoneId.systemDefault()).toEpochSecond() / 60L;
+            counter(row.getStoreId()).add(minute);
+        }
+        jdbcTemplate.update(RESET_RECENT_SQL);
+        flush();
+        log.info("store popularity counters rebuilt. orders={}, stores={}", stamps.size(), counters.size());
+    }
+
+    @Scheduled(fixedDelayString = "${store.popularity.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        long now = currentMinute();
+        List<Object[]> rows = new ArrayList<>();
+        List<Counter> written = new ArrayList<>();
+        List<long[]> ranked = new ArrayList<>();
+
+        for (Map.Entry<Long, Counter> e : counters.entrySet()) {
+            Counter counter = e.getValue();
+            int recent = (int) Math.min(Integer.MAX_VALUE, counter.sum(now));
+            counter.recent = recent;
+            if (recent > 0) ranked.add(new long[]{e.getKey(), recent});
+
+            long delta = counter.unflushedTotal.sumThenReset();
+            if (delta != 0 || recent != counter.flushedRecent) {
+                rows.add(new Object[]{delta, recent, e.getKey()});
+                written.add(counter);
+            }
+        }
+
+        ranked.sort(Comparator.<long[]>comparingLong(r -> -r[1]).thenComparingLong(r -> r[0]));
+        List<Long> top = new ArrayList<>(Math.min(rankingSize, ranked.size()));
+        for (int i = 0; i < ranked.size() && i < rankingSize; i++) {
+            top.add(ranked.get(i)[0]);
+        }
+        ranking = List.copyOf(top);
+
+        if (rows.isEmpty()) return;
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, rows));
+            for (int i = 0; i < written.size(); i++) {
+                written.get(i).flushedRecent = (int) rows.get(i)[1];
+            }
+        } catch (RuntimeException ex) {
+            // 증분은 되돌려 두고 다음 flush에서 다시 쓴다.
+            for (int i = 0; i < written.size(); i++) {
+                written.get(i).unflushedTotal.add((long) rows.get(i)[0]);
+            }
+            log.warn("store popularity flush failed. stores={}", rows.size(), ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private Counter counter(Long storeId) {
+        Counter counter = counters.get(storeId);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(storeId, k -> new Counter(windowMinutes));
+        }
+        return counter;
+    }
+
+    private static long currentMinute() {
+        return System.currentTimeMillis() / 60_000L;
+    }
+}
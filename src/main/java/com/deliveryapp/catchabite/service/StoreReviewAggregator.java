@@ -0,0 +1,250 @@
+package com.deliveryapp.catchabite.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 매장별 리뷰 집계 (리뷰 수 / 평점 합 / 1~5점 분포)
+ *
+ * - 리뷰 작성/수정/삭제 트랜잭션 안에서 store_review_stat에 증감 upsert를 하고,
+ *   같은 트랜잭션에서 store.store_rating(평균) / store.store_review_count를 집계 행으로 맞춘다.
+ *   집계 행의 행 잠금으로 같은 매장의 동시 리뷰 쓰기가 직렬화되므로 카운트가 어긋나지 않는다.
+ * - 매장 화면/매장 목록은 store 행만 읽으면 되므로 리뷰 COUNT/AVG 쿼리가 없다.
+ * - reconcile: 매장 id 구간(chunk-size)별로 review 테이블에서 다시 집계해 덮어쓴다.
+ *   구간마다 트랜잭션 1개, workers개 스레드로 병렬 처리한다.
+ *   값이 바뀐 매장만 구간 커밋 후 상세 캐시 버전을 올린다. (이전 버전으로 만든 ETag/캐시 항목 무효화)
+ */
+@Log4j2
+@Service
+public class StoreReviewAggregator {
+
+    private static final String UPSERT_DELTA_SQL = """
+            insert into store_review_stat
+                (store_id, review_count, rating_sum, star_1, star_2, star_3, star_4, star_5, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            on duplicate key update
+                review_count = review_count + values(review_count),
+                rating_sum = rating_sum + values(rating_sum),
+                star_1 = star_1 + values(star_1),
+                star_2 = star_2 + values(star_2),
+                star_3 = star_3 + values(star_3),
+                star_4 = star_4 + values(star_4),
+                star_5 = star_5 + values(star_5),
+                updated_at = values(updated_at)
+            """;
+
+    // 집계 행 -> store 평균 평점 / 리뷰 수 (리뷰가 없으면 평점 null)
+    private static final String SYNC_STORE_SQL = """
+            update store
+            set store_review_count = coalesce(
+                    (select st.review_count from store_review_stat st where st.store_id = store.store_id), 0),
+                store_rating = (
+                    select case when st.review_count > 0 then round(st.rating_sum / st.review_count, 1) end
+                    from store_review_stat st where st.store_id = store.store_id)
+            where store_id between ? and ?
+            """;
+
+    private static final String REBUILD_CHUNK_SQL = """
+            insert into store_review_stat
+                (store_id, review_count, rating_sum, star_1, star_2, star_3, star_4, star_5, updated_at)
+            select r.store_id, count(*), sum(r.review_rating),
+                   sum(case when round(r.review_rating) <= 1 then 1 else 0 end),
+                   sum(case when round(r.review_rating) = 2 then 1 else 0 end),
+                   sum(case when round(r.review_rating) = 3 then 1 else 0 end),
+                   sum(case when round(r.review_rating) = 4 then 1 else 0 end),
+                   sum(case when round(r.review_rating) >= 5 then 1 else 0 end),
+                   ?
+            from review r
+            where r.store_id between ? and ?
+            group by r.store_id
+            on duplicate key update
+                review_count = values(review_count),
+                rating_sum = values(rating_sum),
+                star_1 = values(star_1),
+                star_2 = values(star_2),
+                star_3 = values(star_3),
+                star_4 = values(star_4),
+                star_5 = values(star_5),
+                updated_at = values(updated_at)
+            """;
+
+    // 리뷰가 모두 지워진 매장의 집계 행은 0으로
+    private static final String CLEAR_EMPTY_CHUNK_SQL = """
+            update store_review_stat
+            set review_count = 0, rating_sum = 0, star_1 = 0, star_2 = 0, star_3 = 0, star_4 = 0, star_5 = 0, updated_at = ?
+            where store_id between ? and ?
+              and review_count <> 0
+              and not exists (select 1 from review r where r.store_id = store_review_stat.store_id)
+            """;
+
+    // 동기화하면 평점/리뷰 수가 바뀌는 매장 (SYNC_STORE_SQL과 같은 계산, 상세 캐시 버전을 올릴 대상)
+    private static final String CHANGED_STORES_SQL = """
+            select s.store_id
+            from store s
+            left join store_review_stat st on st.store_id = s.store_id
+            where s.store_id between ? and ?
+              and (coalesce(s.store_review_count, 0) <> coalesce(st.review_count, 0)
+                or coalesce(s.store_rating, -1) <> coalesce(
+                    case when st.review_count > 0 then round(st.rating_sum / st.review_count, 1) end, -1))
+            """;
+
+    private static final String STORE_ID_RANGE_SQL = "select min(store_id) as min_id, max(store_id) as max_id from store";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StoreDetailCache storeDetailCache;
+
+    private final AtomicBoolean reconciling = new AtomicBoolean(false);
+
+    @Value("${review.aggregate.reconcile-workers:4}")
+    private int workers;
+
+    @Value("${review.aggregate.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    public StoreReviewAggregator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            StoreDetailCache storeDetailCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.storeDetailCache = storeDetailCache;
+    }
+
+    /**
+     * 리뷰 작성 (호출하는 쪽 트랜잭션 안에서 실행)
+     */
+    public void onCreated(Long storeId, BigDecimal rating) {
+        int[] stars = new int[6];
+        stars[starOf(rating)]++;
+        apply(storeId, 1, rating, stars);
+    }
+
+    /**
+     * 리뷰 평점 수정
+     */
+    public void onUpdated(Long storeId, BigDecimal oldRating, BigDecimal newRating) {
+        if (oldRating != null && newRating != null && oldRating.compareTo(newRating) == 0) return;
+        int[] stars = new int[6];
+        stars[starOf(oldRating)]--;
+        stars[starOf(newRating)]++;
+        apply(storeId, 0, nz(newRating).subtract(nz(oldRating)), stars);
+    }
+
+    /**
+     * 리뷰 삭제
+     */
+    public void onDeleted(Long storeId, BigDecimal rating) {
+        int[] stars = new int[6];
+        stars[starOf(rating)]--;
+        apply(storeId, -1, nz(rating).negate(), stars);
+    }
+
+    private void apply(Long storeId, int countDelta, BigDecimal ratingDelta, int[] stars) {
+        if (storeId == null) throw new IllegalArgumentException("storeId is required");
+        jdbcTemplate.update(UPSERT_DELTA_SQL,
+                storeId, countDelta, nz(ratingDelta),
+                stars[1], stars[2], stars[3], stars[4], stars[5],
+                Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update(SYNC_STORE_SQL, storeId, storeId);
+        // 매장 상세 캐시의 평점/리뷰 수도 커밋 후 무효화
+        storeDetailCache.bumpAfterCommit(storeId);
+    }
+
+    /**
+     * review 테이블에서 전체 집계를 다시 만든다. (증감 누락/수동 데이터 수정 보정)
+     */
+    @Scheduled(cron = "${review.aggregate.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            log.info("review aggregate reconcile already running. skipped");
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            Map<String, Object> range = jdbcTemplate.queryForMap(STORE_ID_RANGE_SQL);
+            Number minId = (Number) range.get("min_id");
+            Number maxId = (Number) range.get("max_id");
+            if (minId == null || maxId == null) return;
+
+            int step = Math.max(1, chunkSize);
+            List<long[]> chunks = new ArrayList<>();
+            for (long from = minId.longValue(); from <= maxId.longValue(); from += step) {
+                chunks.add(new long[]{from, Math.min(maxId.longValue(), from + step - 1)});
+            }
+
+            ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(workers, chunks.size())));
+            int failed = 0;
+            int changed = 0;
+            try {
+                List<Future<List<Long>>> futures = new ArrayList<>(chunks.size());
+                for (long[] chunk : chunks) {
+                    futures.add(pool.submit(() -> transactionTemplate.execute(
+                            status -> rebuildChunk(chunk[0], chunk[1]))));
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    try {
+                        // get()이 돌아오면 해당 구간은 커밋된 상태
+                        List<Long> changedStoreIds = futures.get(i).get();
+                        changedStoreIds.forEach(storeDetailCache::bump);
+                        changed += changedStoreIds.size();
+                    } catch (ExecutionException e) {
+                        // 해당 구간만 롤백, 나머지는 계속 (다음 주기에 다시 맞춰짐)
+                        failed++;
+                        log.error("review aggregate reconcile failed. storeIds={}~{}",
+                                chunks.get(i)[0], chunks.get(i)[1], e.getCause());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                pool.shutdownNow();
+            }
+
+            log.info("review aggregate reconciled. chunks={}, failed={}, changedStores={}, elapsedMs={}",
+                    chunks.size(), failed, changed, System.currentTimeMillis() - startedAt);
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    // 구간 재집계 후 store에 반영하고, 값이 바뀐 매장 id를 돌려준다.
+    private List<Long> rebuildChunk(long fromStoreId, long toStoreId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(REBUILD_CHUNK_SQL, now, fromStoreId, toStoreId);
+        jdbcTemplate.update(CLEAR_EMPTY_CHUNK_SQL, now, fromStoreId, toStoreId);
+        List<Long> changed = jdbcTemplate.queryForList(CHANGED_STORES_SQL, Long.class, fromStoreId, toStoreId);
+        jdbcTemplate.update(SYNC_STORE_SQL, fromStoreId, toStoreId);
+        return changed;
+    }
+
+    // 평점을 반올림한 별점 칸 (1~5)
+    private static int starOf(BigDecimal rating) {
+        if (rating == null) return 1;
+        int star = rating.setScale(0, RoundingMode.HALF_UP).intValue();
+        return Math.max(1, Math.min(5, star));
+    }
+
+    private static BigDecimal nz(BigDecimal value) {
+        return (value == null) ? BigDecimal.ZERO : value;
+    }
+}
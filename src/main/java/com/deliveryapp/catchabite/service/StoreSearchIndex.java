@@ -0,0 +1,275 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.TransactionUtils;
+import com.deliveryapp.catchabite.domain.enumtype.StoreCategory;
+import com.deliveryapp.catchabite.repository.MenuRepository;
+import com.deliveryapp.catchabite.repository.MenuRepository.MenuSearchRow;
+import com.deliveryapp.catchabite.repository.StoreRepository;
+import com.deliveryapp.catchabite.repository.StoreRepository.StoreSearchRow;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 매장 검색용 메모리 역색인 (매장명 / 매장 소개 / 메뉴명)
+ *
+ * - 토큰: 공백/기호를 뺀 소문자 문자열의 글자 2-gram (한글은 음절 단위라 형태소 분석 없이도 부분 일치가 된다)
+ *   매장명/메뉴명은 1글자 검색을 위해 1-gram도 색인한다.
+ * - 검색: 검색어 n-gram의 posting을 작은 것부터 교집합 -> 원문 포함 여부로 확인(LIKE '%검색어%'와 같은 결과)
+ *   -> 매장명 일치 > 메뉴명 일치 > 소개 일치 순으로 점수를 매겨 정렬한다. 매장은 한 번만 나온다.
+ * - 검색어가 음식 분류(StoreCategory)와 같으면 해당 분류 매장도 함께 돌려준다.
+ * - StoreServiceImpl/MenuServiceImpl이 변경을 커밋한 뒤 해당 매장 문서만 다시 색인한다. 기동 시 DB에서 재적재.
+ *
+ * 갱신은 이 객체의 모니터로 직렬화하고, 검색은 ConcurrentHashMap만 읽으므로 락을 잡지 않는다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class StoreSearchIndex {
+
+    // 필드별 n-gram 가중치
+    private static final int NAME_WEIGHT = 3;
+    private static final int MENU_WEIGHT = 2;
+    private static final int INTRO_WEIGHT = 1;
+
+    // 원문 포함 확인 후 가산점
+    private static final int NAME_PREFIX_BONUS = 150;
+    private static final int NAME_MATCH_BONUS = 100;
+    private static final int MENU_MATCH_BONUS = 30;
+    private static final int INTRO_MATCH_BONUS = 10;
+    private static final int CATEGORY_MATCH_BONUS = 20;
+
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+
+    // n-gram -> (storeId -> 가중치 합)
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+    private final Map<StoreCategory, Set<Long>> byCategory = new ConcurrentHashMap<>();
+
+    /**
+     * 매장 1곳의 색인 문서 (정규화된 원문 + 색인한 n-gram, 불변)
+     */
+    private record Doc(String name, String intro, StoreCategory category,
+                       Map<Long, String> menus, Map<String, Integer> terms) {
+
+        static Doc of(String name, String intro, StoreCategory category, Map<Long, String> menus) {
+            Map<String, Integer> terms = new HashMap<>();
+            addGrams(terms, name, NAME_WEIGHT, true);
+            for (String menu : menus.values()) addGrams(terms, menu, MENU_WEIGHT, true);
+            addGrams(terms, intro, INTRO_WEIGHT, false);
+            return new Doc(name, intro, category, menus, terms);
+        }
+
+        Doc withStore(String name, String intro, StoreCategory category) {
+            return of(name, intro, category, menus);
+        }
+
+        Doc withMenu(Long menuId, String menuName) {
+            Map<Long, String> next = new HashMap<>(menus);
+            if (menuName == null) next.remove(menuId); else next.put(menuId, menuName);
+            return of(name, intro, category, Collections.unmodifiableMap(next));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        postings.clear();
+        docs.clear();
+        byCategory.clear();
+
+        Map<Long, Map<Long, String>> menusByStore = new HashMap<>();
+        for (MenuSearchRow row : menuRepository.findSearchRows()) {
+            menusByStore.computeIfAbsent(row.getStoreId(), k -> new HashMap<>())
+                    .put(row.getMenuId(), normalize(row.getMenuName()));
+        }
+        for (StoreSearchRow row : storeRepository.findSearchRows()) {
+            Map<Long, String> menus = menusByStore.getOrDefault(row.getStoreId(), Map.of());
+            replace(row.getStoreId(), Doc.of(
+                    normalize(row.getStoreName()), normalize(row.getStoreIntro()), row.getStoreCategory(),
+                    Collections.unmodifiableMap(menus)));
+        }
+        log.info("store search index rebuilt. stores={}, terms={}", docs.size(), postings.size());
+    }
+
+    /**
+     * 검색어와 맞는 매장 id를 점수 순으로 최대 limit건 반환한다.
+     */
+    public List<Long> search(String keyword, int limit) {
+        String query = normalize(keyword);
+        Map<Long, Integer> scores = new HashMap<>();
+        if (!query.isEmpty()) {
+            scoreText(query, scores);
+        }
+
+        StoreCategory category = null;
+        try {
+            category = StoreCategory.from(keyword);
+        } catch (IllegalArgumentException ignored) {
+            // keyword가 카테고리 값이 아니면 카테고리 검색은 건너뜀
+        }
+        if (category != null) {
+            for (Long storeId : byCategory.getOrDefault(category, Set.of())) {
+                scores.merge(storeId, CATEGORY_MATCH_BONUS, Integer::sum);
+            }
+        }
+
+        List<Map.Entry<Long, Integer>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        List<Long> result = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = 0; i < ranked.size() && i < limit; i++) {
+            result.add(ranked.get(i).getKey());
+        }
+        return result;
+    }
+
+    public void indexStoreAfterCommit(Long storeId, String storeName, String storeIntro, StoreCategory category) {
+        TransactionUtils.runAfterCommit(() -> indexStore(storeId, storeName, storeIntro, category));
+    }
+
+    public void indexMenuAfterCommit(Long storeId, Long menuId, String menuName) {
+        TransactionUtils.runAfterCommit(() -> indexMenu(storeId, menuId, menuName));
+    }
+
+    public void removeMenuAfterCommit(Long storeId, Long menuId) {
+        TransactionUtils.runAfterCommit(() -> indexMenu(storeId, menuId, null));
+    }
+
+    public synchronized void indexStore(Long storeId, String storeName, String storeIntro, StoreCategory category) {
+        if (storeId == null) return;
+        Doc current = docs.get(storeId);
+        Doc next = (current == null)
+                ? Doc.of(normalize(storeName), normalize(storeIntro), category, Map.of())
+                : current.withStore(normalize(storeName), normalize(storeIntro), category);
+        replace(storeId, next);
+    }
+
+    // menuName이 null이면 메뉴 삭제
+    public synchronized void indexMenu(Long storeId, Long menuId, String menuName) {
+        if (storeId == null || menuId == null) return;
+        Doc current = docs.get(storeId);
+        if (current == null) {
+            // 아직 색인되지 않은 매장이면 메뉴만 담아 두고, 매장 정보는 indexStore에서 채운다.
+            current = Doc.of("", "", null, Map.of());
+        }
+        replace(storeId, current.withMenu(menuId, (menuName == null) ? null : normalize(menuName)));
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    // ---- 내부 -------------------------------------------------------------------------------------
+
+    private void scoreText(String query, Map<Long, Integer> scores) {
+        Set<String> grams = queryGrams(query);
+        List<Map<Long, Integer>> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Map<Long, Integer> posting = postings.get(gram);
+            if (posting == null) return;
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        Map<Long, Integer> smallest = lists.get(0);
+        for (Map.Entry<Long, Integer> e : smallest.entrySet()) {
+            Long storeId = e.getKey();
+            int score = e.getValue();
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                Integer w = lists.get(i).get(storeId);
+                if (w == null) inAll = false; else score += w;
+            }
+            if (!inAll) continue;
+
+            // n-gram이 모두 있어도 원문에 연속으로 없을 수 있으므로 확인한다.
+            Doc doc = docs.get(storeId);
+            if (doc == null) continue;
+            int bonus = matchBonus(doc, query);
+            if (bonus == 0) continue;
+            scores.merge(storeId, score + bonus, Integer::sum);
+        }
+    }
+
+    private static int matchBonus(Doc doc, String query) {
+        if (doc.name().startsWith(query)) return NAME_PREFIX_BONUS;
+        if (doc.name().contains(query)) return NAME_MATCH_BONUS;
+        for (String menu : doc.menus().values()) {
+            if (menu.contains(query)) return MENU_MATCH_BONUS;
+        }
+        if (doc.intro().contains(query)) return INTRO_MATCH_BONUS;
+        return 0;
+    }
+
+    // 이전 문서의 n-gram을 빼고 새 문서의 n-gram을 넣는다.
+    private void replace(Long storeId, Doc next) {
+        Doc previous = docs.put(storeId, next);
+        if (previous != null) {
+            for (String term : previous.terms().keySet()) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) continue;
+                posting.remove(storeId);
+                if (posting.isEmpty()) postings.remove(term, posting);
+            }
+            if (previous.category() != null) {
+                Set<Long> ids = byCategory.get(previous.category());
+                if (ids != null) ids.remove(storeId);
+            }
+        }
+        for (Map.Entry<String, Integer> e : next.terms().entrySet()) {
+            postings.computeIfAbsent(e.getKey(), k -> new ConcurrentHashMap<>()).put(storeId, e.getValue());
+        }
+        if (next.category() != null) {
+            byCategory.computeIfAbsent(next.category(), k -> ConcurrentHashMap.newKeySet()).add(storeId);
+        }
+    }
+
+    private static Set<String> queryGrams(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (query.length() == 1) {
+            grams.add(query);
+            return grams;
+        }
+        for (int i = 0; i + 2 <= query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static void addGrams(Map<String, Integer> terms, String text, int weight, boolean unigrams) {
+        if (text == null || text.isEmpty()) return;
+        for (int i = 0; i < text.length(); i++) {
+            if (unigrams) terms.merge(text.substring(i, i + 1), weight, Integer::sum);
+            if (i + 2 <= text.length()) terms.merge(text.substring(i, i + 2), weight, Integer::sum);
+        }
+    }
+
+    // 소문자 + 글자/숫자만 남긴다. ("버거 킹!" -> "버거킹")
+    static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +28,10 @@ public class StoreServiceImpl implements StoreService {
 
 	private final StoreRepository storeRepository;
 	private final StoreOwnerRepository storeOwnerRepository;
+	private final StoreSearchIndex storeSearchIndex;
+	private final StoreDetailCache storeDetailCache;
+	private final GeocodingService geocodingService;
+	private final StoreGeoIndex storeGeoIndex;
 
 	@Override
 	@Transactional(readOnly = true)
@@ -72,8 +77,11 @@ public class StoreServiceImpl implements StoreService {
 				.storeIntro(dto.getStoreIntro())
 				.storeOpenStatus(StoreOpenStatus.CLOSE)
 				.build();
+		geocode(store);
 
 		Store saved = storeRepository.save(store);
+		reindex(saved);
+		relocate(saved);
 
 		return StoreDTO.builder()
 				.storeId(saved.getStoreId())
@@ -98,6 +106,7 @@ public class StoreServiceImpl implements StoreService {
 				.orElseThrow(() -> new IllegalArgumentException("내 매장이 아닙니다. storeId=" + storeId));
 
 		// PUT은 "전체 수정"
+		boolean addressChanged = !Objects.equals(store.getStoreAddress(), dto.getStoreAddress());
 		store.changeStoreInfo(
 				dto.getStoreName(),
 				dto.getStorePhone(),
@@ -105,6 +114,12 @@ public class StoreServiceImpl implements StoreService {
 				StoreCategory.from(dto.getStoreCategory()),
 				dto.getStoreIntro()
 		);
+		reindex(store);
+		if (addressChanged) {
+			geocode(store);
+			relocate(store);
+		}
+		storeDetailCache.bumpAfterCommit(storeId);
 
 		return StoreDTO.builder()
 				.storeId(store.getStoreId())
@@ -143,8 +158,15 @@ public class StoreServiceImpl implements StoreService {
 		Integer nextMaxDist = dto.getStoreMaxDist() != null ? dto.getStoreMaxDist() : store.getStoreMaxDist();
 		Integer nextDeliveryFee = dto.getStoreDeliveryFee() != null ? dto.getStoreDeliveryFee() : store.getStoreDeliveryFee();
 
+		boolean addressChanged = !Objects.equals(store.getStoreAddress(), nextAddress);
 		store.changeStoreInfo(nextName, nextPhone, nextAddress, nextCategory, nextIntro);
+		reindex(store);
 		store.changeDeliveryCondition(nextMinOrder, nextMaxDist, nextDeliveryFee);
+		if (addressChanged) {
+			geocode(store);
+		}
+		relocate(store);
+		storeDetailCache.bumpAfterCommit(storeId);
 
 		return StoreDTO.builder()
 				.storeId(store.getStoreId())
@@ -177,6 +199,8 @@ public class StoreServiceImpl implements StoreService {
 		Integer nextDeliveryFee = dto.getStoreDeliveryFee() != null ? dto.getStoreDeliveryFee() : store.getStoreDeliveryFee();
 
 		store.changeDeliveryCondition(nextMinOrder, nextMaxDist, nextDeliveryFee);
+		relocate(store);
+		storeDetailCache.bumpAfterCommit(storeId);
 
 		return StoreDTO.builder()
 				.storeId(store.getStoreId())
@@ -193,6 +217,8 @@ public class StoreServiceImpl implements StoreService {
 				.orElseThrow(() -> new IllegalArgumentException("내 매장이 아닙니다. storeId=" + storeId));
 
 		store.changeStatus(status);
+		storeGeoIndex.updateStatusAfterCommit(storeId, status);
+		storeDetailCache.bumpAfterCommit(storeId);
 	}
 
 	@Override
@@ -253,6 +279,7 @@ public class StoreServiceImpl implements StoreService {
 		if (dto.getBusinessName() != null || dto.getBusinessAddress() != null) {
 			String nextName = dto.getBusinessName() != null ? dto.getBusinessName() : store.getStoreName();
 			String nextAddress = dto.getBusinessAddress() != null ? dto.getBusinessAddress() : store.getStoreAddress();
+			boolean addressChanged = !Objects.equals(store.getStoreAddress(), nextAddress);
 
 			store.changeStoreInfo(
 					nextName,
@@ -261,6 +288,12 @@ public class StoreServiceImpl implements StoreService {
 					store.getStoreCategory(),
 					store.getStoreIntro()
 			);
+			reindex(store);
+			if (addressChanged) {
+				geocode(store);
+				relocate(store);
+			}
+			storeDetailCache.bumpAfterCommit(storeId);
 		}
 
 		// 사업자등록번호
@@ -294,4 +327,25 @@ public class StoreServiceImpl implements StoreService {
 				.originLabel(store.getStoreOriginLabel())
 				.build();
 	}
+
+	// 검색 색인은 커밋 이후 해당 매장만 다시 색인
+	private void reindex(Store store) {
+		storeSearchIndex.indexStoreAfterCommit(
+				store.getStoreId(), store.getStoreName(), store.getStoreIntro(), store.getStoreCategory());
+	}
+
+	// 주소 -> 좌표. 변환하지 못하면 좌표를 비워 거리 기반 목록에서 빠지게 한다.
+	private void geocode(Store store) {
+		Geocoder.Point point = geocodingService.geocode(store.getStoreAddress()).orElse(null);
+		store.changeCoordinates(
+				point != null ? point.latitudeDecimal() : null,
+				point != null ? point.longitudeDecimal() : null);
+	}
+
+	// 위치 색인(좌표/배달 반경/영업 상태)은 커밋 이후 해당 매장만 갱신
+	private void relocate(Store store) {
+		storeGeoIndex.updateAfterCommit(
+				store.getStoreId(), store.getStoreLatitude(), store.getStoreLongitude(), store.getStoreMaxDist(),
+				store.getStoreOpenStatus());
+	}
 }
@@ -0,0 +1,87 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.converter.StoreConverter;
+import com.deliveryapp.catchabite.dto.UserStoreSummaryDTO;
+import com.deliveryapp.catchabite.entity.Store;
+import com.deliveryapp.catchabite.repository.StoreImageRepository;
+import com.deliveryapp.catchabite.repository.StoreImageRepository.StoreImageUrlRow;
+import com.deliveryapp.catchabite.repository.StoreRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매장 목록 -> 매장 요약(UserStoreSummaryDTO) 일괄 변환
+ *
+ * - 목록 전체의 매장 id를 모아 매장 이미지를 IN 쿼리 한 번으로 가져온 뒤 조립한다.
+ *   StoreConverter.toSummaryDTO(Store)처럼 매장마다 store.getImages()를 지연 로딩하지 않으므로
+ *   목록 길이와 관계없이 쿼리 수가 일정하다.
+ * - id 목록(검색 색인/인기 순위 등)에서 시작하는 경우 findInOrder로 매장도 한 번에 읽고 id 순서를 유지한다.
+ * - 매장 요약을 돌려주는 목록 API는 모두 이 클래스를 거친다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreSummaryLoader {
+
+    private final StoreRepository storeRepository;
+    private final StoreImageRepository storeImageRepository;
+    private final StoreConverter storeConverter;
+
+    /**
+     * 매장 목록을 같은 순서의 요약 목록으로 변환한다. (이미지 쿼리 1번)
+     */
+    public List<UserStoreSummaryDTO> load(List<Store> stores) {
+        if (stores == null || stores.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> imageUrls = imageUrlsOf(stores.stream().map(Store::getStoreId).toList());
+        return stores.stream()
+                .map(s -> storeConverter.toSummaryDTO(s, imageUrls.getOrDefault(s.getStoreId(), List.of())))
+                .toList();
+    }
+
+    /**
+     * id 순서대로 매장 요약을 만든다. (매장 쿼리 1번 + 이미지 쿼리 1번, 없는 id는 건너뜀)
+     */
+    public List<UserStoreSummaryDTO> loadByIds(List<Long> storeIds) {
+        return load(findInOrder(storeIds));
+    }
+
+    /**
+     * id 순서대로 매장을 읽는다. (쿼리 1번, 없는 id는 건너뜀)
+     * 변환 전에 매장 상태 등으로 걸러야 할 때 load와 나누어 쓴다.
+     */
+    public List<Store> findInOrder(List<Long> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Store> stores = storeRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(Store::getStoreId, Function.identity()));
+        return storeIds.stream()
+                .map(stores::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Map<Long, List<String>> imageUrlsOf(Collection<Long> storeIds) {
+        // 같은 매장이 목록에 여러 번 나와도 IN 목록에는 한 번만
+        Set<Long> distinct = new LinkedHashSet<>(storeIds);
+        distinct.remove(null);
+        if (distinct.isEmpty()) {
+            return Map.of();
+        }
+        return storeImageRepository.findImageUrlsByStoreIds(distinct).stream()
+                .collect(Collectors.groupingBy(StoreImageUrlRow::getStoreId,
+                        Collectors.mapping(StoreImageUrlRow::getStoreImageUrl, Collectors.toList())));
+    }
+}
@@ -0,0 +1,289 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+import com.deliveryapp.catchabite.dto.TripPlanDTO;
+import com.deliveryapp.catchabite.dto.TripStopDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 묶음 배달(trip) 경로 계획
+ *
+ * - plan: 출발 위치에서 여러 배달의 픽업/전달 지점을 도는 순서를 정한다.
+ *   (각 배달의 픽업은 전달보다 앞, 이미 픽업한 배달은 전달만)
+ *   1) 최근접 이웃(nearest neighbor)으로 초기 경로 -> 2) 2-opt 구간 뒤집기로 개선
+ *   2-opt는 plan-budget-ms 안에서만 돌고, 시간이 다 되면 그때까지의 최선 경로를 쓴다.
+ * - group: 대기 배달 후보를 가까운 순으로 훑어, 매장이 store-radius-m 안에 있고
+ *   추가 시 늘어나는 거리가 max-extra-m 이하인 배달을 max-orders건까지 한 trip으로 묶는다.
+ * - 지점 간 거리/시간은 RoutingProvider(delivery.routing.provider)로 한 번에 행렬로 구한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TripPlanner {
+
+    private final List<RoutingProvider> routingProviders;
+
+    @Value("${delivery.routing.provider:haversine}")
+    private String providerName;
+
+    // trip 1건의 경로 개선(2-opt)에 쓰는 최대 시간
+    @Value("${delivery.trip.plan-budget-ms:20}")
+    private long planBudgetMs;
+
+    /**
+     * 경로 계획 대상 배달 1건
+     * pickedUp이면 픽업 지점은 경로에 넣지 않는다.
+     */
+    public record Order(Long deliveryId,
+                        double pickupLatitude, double pickupLongitude,
+                        double dropoffLatitude, double dropoffLongitude,
+                        boolean pickedUp) {}
+
+    /**
+     * 출발 위치에서 orders를 모두 처리하는 경로를 구한다.
+     */
+    public TripPlanDTO plan(double startLat, double startLon, List<Order> orders) {
+        long started = System.nanoTime();
+        Route route = solve(startLat, startLon, orders, started + planBudgetMs * 1_000_000L);
+        return route.toDto(orders, (System.nanoTime() - started) / 1_000);
+    }
+
+    /**
+     * 대기 배달 후보(라이더와 가까운 순)를 trip 단위로 묶는다. 각 배달은 최대 한 trip에만 들어간다.
+     */
+    public List<List<Order>> group(double startLat, double startLon, List<Order> candidates,
+                                   int maxOrders, double storeRadiusM, double maxExtraM) {
+        List<List<Order>> trips = new ArrayList<>();
+        LinkedHashSet<Order> remaining = new LinkedHashSet<>(candidates);
+
+        while (!remaining.isEmpty()) {
+            Order seed = remaining.iterator().next();
+            remaining.remove(seed);
+
+            List<Order> trip = new ArrayList<>();
+            trip.add(seed);
+            double tripM = solve(startLat, startLon, trip, deadline()).distanceM;
+
+            for (Order candidate : new ArrayList<>(remaining)) {
+                if (trip.size() >= maxOrders) break;
+                double storeGapM = GeoUtils.haversineMeters(
+                        seed.pickupLatitude(), seed.pickupLongitude(),
+                        candidate.pickupLatitude(), candidate.pickupLongitude());
+                if (storeGapM > storeRadiusM) continue;
+
+                trip.add(candidate);
+                double withM = solve(startLat, startLon, trip, deadline()).distanceM;
+                if (withM - tripM <= maxExtraM) {
+                    tripM = withM;
+                    remaining.remove(candidate);
+                } else {
+                    trip.remove(trip.size() - 1);
+                }
+            }
+            trips.add(trip);
+        }
+        return trips;
+    }
+
+    private long deadline() {
+        return System.nanoTime() + planBudgetMs * 1_000_000L;
+    }
+
+    // ---- 경로 탐색 ---------------------------------------------------------------------------------
+
+    /**
+     * 노드 0 = 출발 위치, 1..m = 경유지.
+     * pickupOf[v]: 전달 노드 v의 픽업 노드 (픽업 완료 배달이면 -1, 픽업 노드면 -1)
+     */
+    private Route solve(double startLat, double startLon, List<Order> orders, long deadlineNanos) {
+        int m = 0;
+        for (Order o : orders) m += o.pickedUp() ? 1 : 2;
+        int k = m + 1;
+
+        double[] lat = new double[k];
+        double[] lon = new double[k];
+        int[] orderOf = new int[k];
+        boolean[] pickup = new boolean[k];
+        int[] pickupOf = new int[k];
+        lat[0] = startLat;
+        lon[0] = startLon;
+        orderOf[0] = -1;
+        pickupOf[0] = -1;
+
+        int v = 1;
+        for (int i = 0; i < orders.size(); i++) {
+            Order o = orders.get(i);
+            int pickupNode = -1;
+            if (!o.pickedUp()) {
+                lat[v] = o.pickupLatitude();
+                lon[v] = o.pickupLongitude();
+                orderOf[v] = i;
+                pickup[v] = true;
+                pickupOf[v] = -1;
+                pickupNode = v++;
+            }
+            lat[v] = o.dropoffLatitude();
+            lon[v] = o.dropoffLongitude();
+            orderOf[v] = i;
+            pickupOf[v] = pickupNode;
+            v++;
+        }
+
+        // 거리/시간 행렬 (k x k, 행 = 출발)
+        int cells = k * k;
+        double[] fromLat = new double[cells];
+        double[] fromLon = new double[cells];
+        double[] toLat = new double[cells];
+        double[] toLon = new double[cells];
+        for (int a = 0; a < k; a++) {
+            for (int b = 0; b < k; b++) {
+                int c = a * k + b;
+                fromLat[c] = lat[a];
+                fromLon[c] = lon[a];
+                toLat[c] = lat[b];
+                toLon[c] = lon[b];
+            }
+        }
+        double[] meters = new double[cells];
+        double[] seconds = new double[cells];
+        RoutingProvider.select(routingProviders, providerName)
+                .route(fromLat, fromLon, toLat, toLon, meters, seconds, cells);
+
+        int[] seq = nearestNeighbor(k, meters, pickupOf);
+        double cost = cost(seq, k, meters);
+        cost = twoOpt(seq, k, meters, pickupOf, cost, deadlineNanos);
+
+        return new Route(seq, cost, k, lat, lon, orderOf, pickup, meters, seconds);
+    }
+
+    // 아직 갈 수 있는(픽업이 끝난 배달의 전달 포함) 지점 중 가장 가까운 곳부터 방문
+    private static int[] nearestNeighbor(int k, double[] meters, int[] pickupOf) {
+        int m = k - 1;
+        int[] seq = new int[m];
+        boolean[] visited = new boolean[k];
+        int current = 0;
+        for (int step = 0; step < m; step++) {
+            int best = -1;
+            double bestM = Double.MAX_VALUE;
+            for (int v = 1; v < k; v++) {
+                if (visited[v]) continue;
+                if (pickupOf[v] > 0 && !visited[pickupOf[v]]) continue;
+                double d = meters[current * k + v];
+                if (d < bestM) {
+                    bestM = d;
+                    best = v;
+                }
+            }
+            seq[step] = best;
+            visited[best] = true;
+            current = best;
+        }
+        return seq;
+    }
+
+    // 구간 [i, j]를 뒤집어 짧아지고 선후 관계가 유지되면 채택한다. 개선이 없거나 시간이 다 될 때까지 반복
+    private static double twoOpt(int[] seq, int k, double[] meters, int[] pickupOf, double cost, long deadlineNanos) {
+        int m = seq.length;
+        int[] position = new int[k];
+        boolean improved = true;
+        while (improved && System.nanoTime() < deadlineNanos) {
+            improved = false;
+            for (int i = 0; i < m - 1; i++) {
+                for (int j = i + 1; j < m; j++) {
+                    reverse(seq, i, j);
+                    double candidate = cost(seq, k, meters);
+                    if (candidate + 1e-6 < cost && valid(seq, pickupOf, position)) {
+                        cost = candidate;
+                        improved = true;
+                    } else {
+                        reverse(seq, i, j);
+                    }
+                }
+                if (System.nanoTime() >= deadlineNanos) break;
+            }
+        }
+        return cost;
+    }
+
+    private static boolean valid(int[] seq, int[] pickupOf, int[] position) {
+        for (int p = 0; p < seq.length; p++) position[seq[p]] = p;
+        for (int v : seq) {
+            if (pickupOf[v] > 0 && position[pickupOf[v]] > position[v]) return false;
+        }
+        return true;
+    }
+
+    private static double cost(int[] seq, int k, double[] meters) {
+        double total = 0;
+        int previous = 0;
+        for (int v : seq) {
+            total += meters[previous * k + v];
+            previous = v;
+        }
+        return total;
+    }
+
+    private static void reverse(int[] seq, int i, int j) {
+        while (i < j) {
+            int t = seq[i];
+            seq[i++] = seq[j];
+            seq[j--] = t;
+        }
+    }
+
+    private static final class Route {
+        final int[] seq;
+        final double distanceM;
+        final int k;
+        final double[] lat;
+        final double[] lon;
+        final int[] orderOf;
+        final boolean[] pickup;
+        final double[] meters;
+        final double[] seconds;
+
+        Route(int[] seq, double distanceM, int k, double[] lat, double[] lon,
+              int[] orderOf, boolean[] pickup, double[] meters, double[] seconds) {
+            this.seq = seq;
+            this.distanceM = distanceM;
+            this.k = k;
+            this.lat = lat;
+            this.lon = lon;
+            this.orderOf = orderOf;
+            this.pickup = pickup;
+            this.meters = meters;
+            this.seconds = seconds;
+        }
+
+        TripPlanDTO toDto(List<Order> orders, long computeMicros) {
+            List<TripStopDTO> stops = new ArrayList<>(seq.length);
+            double totalSeconds = 0;
+            int previous = 0;
+            for (int v : seq) {
+                int c = previous * k + v;
+                totalSeconds += seconds[c];
+                stops.add(new TripStopDTO(
+                        orders.get(orderOf[v]).deliveryId(),
+                        pickup[v] ? TripStopDTO.StopType.PICKUP : TripStopDTO.StopType.DROPOFF,
+                        lat[v], lon[v],
+                        Math.round(meters[c]),
+                        (int) Math.ceil(seconds[c] / 60.0)));
+                previous = v;
+            }
+            return TripPlanDTO.builder()
+                    .deliveryIds(orders.stream().map(Order::deliveryId).toList())
+                    .stops(stops)
+                    .totalDistanceM(Math.round(distanceM))
+                    .totalMinutes((int) Math.ceil(totalSeconds / 60.0))
+                    .computeMicros(computeMicros)
+                    .build();
+        }
+    }
+}
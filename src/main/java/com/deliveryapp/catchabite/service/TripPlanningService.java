@@ -0,0 +1,118 @@
+package com.deliveryapp.catchabite.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+import com.deliveryapp.catchabite.dto.NearbyDeliveryDTO;
+import com.deliveryapp.catchabite.dto.OnlineRiderDTO;
+import com.deliveryapp.catchabite.dto.RiderLocationDTO;
+import com.deliveryapp.catchabite.dto.TripPlanDTO;
+import com.deliveryapp.catchabite.entity.OrderDelivery;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 라이더 묶음 배달(trip) 조회
+ *
+ * - current: 내 진행 중 배달(배차요청 ~ 배달중)을 현재 위치에서 도는 순서
+ * - suggested: 내 주변 대기 배달(PendingDeliveryIndex)을 묶은 trip 후보 (배달 수 많은 순, 건당 거리 짧은 순)
+ */
+@Service
+@RequiredArgsConstructor
+public class TripPlanningService {
+
+    private static final List<DeliveryStatus> PICKED_UP_STATUSES = List.of(
+            DeliveryStatus.PICKED_UP, DeliveryStatus.IN_DELIVERY);
+
+    private final OrderDeliveryRepository orderDeliveryRepository;
+    private final PendingDeliveryIndex pendingDeliveryIndex;
+    private final OnlineRiderRegistry onlineRiderRegistry;
+    private final RiderLocationTracker riderLocationTracker;
+    private final TripPlanner tripPlanner;
+
+    @Value("${delivery.trip.max-orders:3}")
+    private int maxOrders;
+
+    // 같은 trip으로 묶을 매장 간 최대 거리(m)
+    @Value("${delivery.trip.store-radius-m:500}")
+    private double storeRadiusM;
+
+    // 배달 1건을 더 묶을 때 허용하는 경로 증가분(m)
+    @Value("${delivery.trip.max-extra-m:1500}")
+    private double maxExtraM;
+
+    @Value("${delivery.trip.search-radius-m:3000}")
+    private int searchRadiusM;
+
+    @Value("${delivery.trip.candidate-limit:30}")
+    private int candidateLimit;
+
+    /**
+     * 내 진행 중 배달의 방문 순서. 현재 위치를 모르면 첫 배달의 매장에서 출발한다고 본다.
+     */
+    @Transactional(readOnly = true)
+    public TripPlanDTO planCurrent(Long delivererId) {
+        List<OrderDelivery> active = orderDeliveryRepository.findActiveWithCoordinates(
+                delivererId, OnlineRiderRegistry.ACTIVE_STATUSES);
+
+        List<TripPlanner.Order> orders = new ArrayList<>(active.size());
+        for (OrderDelivery od : active) {
+            orders.add(new TripPlanner.Order(
+                    od.getDeliveryId(),
+                    od.getStoreLatitude().doubleValue(), od.getStoreLongitude().doubleValue(),
+                    od.getDropoffLatitude().doubleValue(), od.getDropoffLongitude().doubleValue(),
+                    PICKED_UP_STATUSES.contains(od.getOrderDeliveryStatus())));
+        }
+
+        double[] start = currentPosition(delivererId);
+        if (start == null) {
+            if (orders.isEmpty()) return tripPlanner.plan(0, 0, orders);
+            TripPlanner.Order first = orders.get(0);
+            start = new double[] {first.pickupLatitude(), first.pickupLongitude()};
+        }
+        return tripPlanner.plan(start[0], start[1], orders);
+    }
+
+    /**
+     * 주변 대기 배달을 묶은 trip 후보 (최대 limit건)
+     */
+    public List<TripPlanDTO> suggest(double latitude, double longitude, int limit) {
+        List<NearbyDeliveryDTO> nearby = pendingDeliveryIndex.findNearest(latitude, longitude, searchRadiusM, candidateLimit);
+
+        List<TripPlanner.Order> candidates = new ArrayList<>(nearby.size());
+        for (NearbyDeliveryDTO n : nearby) {
+            if (n.getDropoffLatitude() == null || n.getDropoffLongitude() == null) continue;
+            candidates.add(new TripPlanner.Order(
+                    n.getDeliveryId(),
+                    n.getStoreLatitude().doubleValue(), n.getStoreLongitude().doubleValue(),
+                    n.getDropoffLatitude().doubleValue(), n.getDropoffLongitude().doubleValue(),
+                    false));
+        }
+
+        List<TripPlanDTO> plans = new ArrayList<>();
+        for (List<TripPlanner.Order> trip
+                : tripPlanner.group(latitude, longitude, candidates, maxOrders, storeRadiusM, maxExtraM)) {
+            plans.add(tripPlanner.plan(latitude, longitude, trip));
+        }
+        plans.sort(Comparator
+                .comparingInt((TripPlanDTO p) -> -p.getDeliveryIds().size())
+                .thenComparingDouble(p -> (double) p.getTotalDistanceM() / p.getDeliveryIds().size()));
+        return plans.size() > limit ? plans.subList(0, limit) : plans;
+    }
+
+    // heartbeat 위치 -> 실시간 위치 핑 순으로 찾는다.
+    private double[] currentPosition(Long delivererId) {
+        OnlineRiderDTO online = onlineRiderRegistry.get(delivererId);
+        if (online != null) return new double[] {online.getLatitude(), online.getLongitude()};
+        RiderLocationDTO latest = riderLocationTracker.latest(delivererId);
+        if (latest != null) return new double[] {latest.getLatitude(), latest.getLongitude()};
+        return null;
+    }
+}
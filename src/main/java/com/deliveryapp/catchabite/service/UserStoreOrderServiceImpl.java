@@ -1,6 +1,5 @@
 package com.deliveryapp.catchabite.service;
 
-import com.deliveryapp.catchabite.converter.StoreConverter;
 import com.deliveryapp.catchabite.converter.StoreOrderConverter;
 import com.deliveryapp.catchabite.dto.StoreOrderDTO;
 import com.deliveryapp.catchabite.dto.UserStoreOrderRequestDTO;
@@ -33,7 +32,9 @@ public class UserStoreOrderServiceImpl implements UserStoreOrderService {
     private final PaymentRepository paymentRepository;
     
     private final StoreOrderConverter storeOrderConverter;
-    private final StoreConverter storeConverter;
+    private final DemandHeatmap demandHeatmap;
+    private final StorePopularityCounters storePopularityCounters;
+    private final StoreSummaryLoader storeSummaryLoader;
 
     // =====================================================================
     // [기능: 주문 생성]
@@ -102,10 +103,11 @@ public class UserStoreOrderServiceImpl implements UserStoreOrderService {
                     .build());
         }
 
-        // 최종 금액 = 음식 총액 + 가게 배달팁
-        long finalTotalPrice = totalFoodPrice + store.getStoreDeliveryFee();
         // Store 내 배달비는 Integer이며 StoreOrder에는 Long이라 변경
-        long finalDeliveryFee = store.getStoreDeliveryFee();
+        // 주변 수요가 라이더보다 많으면 히트맵 할증 배율을 곱한다. (delivery.surge.enabled, 기본 비활성)
+        long finalDeliveryFee = demandHeatmap.applySurge(store.getStoreId(), store.getStoreDeliveryFee());
+        // 최종 금액 = 음식 총액 + 가게 배달팁(할증 포함)
+        long finalTotalPrice = totalFoodPrice + finalDeliveryFee;
 
         // =====================================================================
         // [단계 4] 주문(StoreOrder) 객체 생성 및 DB 저장
@@ -137,6 +139,8 @@ public class UserStoreOrderServiceImpl implements UserStoreOrderService {
 
         // DB에 저장 (INSERT 쿼리 발생)
         StoreOrder savedOrder = storeOrderRepository.save(finalOrder);
+        // 매장 인기도 카운터 (커밋 후 반영, DB에는 주기적으로 모아서 씀)
+        storePopularityCounters.recordOrderAfterCommit(store.getStoreId());
 
         // =====================================================================
         // [단계 5] 결제(Payment) 정보 생성
@@ -249,9 +253,8 @@ public class UserStoreOrderServiceImpl implements UserStoreOrderService {
     @Transactional(readOnly = true)
     public List<UserStoreSummaryDTO> getFrequentStores(Long userId) {
         List<Store> stores = storeOrderRepository.findMostFrequentStores(userId, PageRequest.of(0, 10));
-        return stores.stream()
-                .map(storeConverter::toSummaryDTO)
-                .collect(Collectors.toList());
+        // 매장 이미지는 IN 쿼리 한 번으로 (매장별 지연 로딩 없음)
+        return storeSummaryLoader.load(stores);
     }
 
     // =====================================================================
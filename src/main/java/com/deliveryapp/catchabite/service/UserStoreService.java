@@ -2,6 +2,7 @@ package com.deliveryapp.catchabite.service;
 
 import java.util.List;
 
+import com.deliveryapp.catchabite.dto.CursorPageDTO;
 import com.deliveryapp.catchabite.dto.UserStoreSummaryDTO;
 import com.deliveryapp.catchabite.dto.UserStoreResponseDTO;
 
@@ -17,7 +18,26 @@ public interface UserStoreService {
 	 */
     public List<UserStoreSummaryDTO> getStoresByCategory(String storeCategory);
 
-	public List<UserStoreSummaryDTO> getRandomStores();
+	/**
+	 * 영업 중인 가게를 무작위 순서로 한 페이지씩 조회합니다.
+	 * cursor가 없으면 새 순서로 시작하고, 응답의 nextCursor를 넘기면 같은 순서로 이어서 조회합니다.
+	 */
+	public CursorPageDTO<UserStoreSummaryDTO> getRandomStores(String cursor, int size);
+
+	/**
+	 * 최근 주문이 많은 영업 중 가게를 주문 수 순으로 조회합니다. (지금 인기)
+	 */
+	public List<UserStoreSummaryDTO> getPopularStores(int limit);
+
+	/**
+	 * 로그인 사용자의 배송지(addressId)가 배달 반경 안에 드는 영업 중 가게를 가까운 순으로 조회합니다.
+	 */
+	public List<UserStoreSummaryDTO> getNearbyStores(Long addressId, String userLoginId, int limit);
+
+	/**
+	 * searchStores와 같은 검색이지만, 배송지로 배달 가능한 영업 중 가게만 가까운 순으로 조회합니다.
+	 */
+	public List<UserStoreSummaryDTO> searchNearbyStores(String keyword, Long addressId, String userLoginId);
 
 	/**
      * Fetches store details, including images, rating, and categorized menus for the user view.
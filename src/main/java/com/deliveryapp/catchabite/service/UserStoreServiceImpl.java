@@ -1,33 +1,35 @@
 package com.deliveryapp.catchabite.service;
 
 import com.deliveryapp.catchabite.converter.MenuImageConverter;
-import com.deliveryapp.catchabite.converter.StoreConverter;
 import com.deliveryapp.catchabite.domain.enumtype.StoreCategory;
 import com.deliveryapp.catchabite.domain.enumtype.StoreOpenStatus;
+import com.deliveryapp.catchabite.dto.CursorPageDTO;
 import com.deliveryapp.catchabite.dto.MenuCategoryWithMenusDTO;
 import com.deliveryapp.catchabite.dto.MenuDTO;
 import com.deliveryapp.catchabite.dto.MenuImageDTO;
+import com.deliveryapp.catchabite.dto.StoreFeedCursor;
 import com.deliveryapp.catchabite.dto.UserMenuImageDTO;
 import com.deliveryapp.catchabite.dto.UserStoreResponseDTO;
 import com.deliveryapp.catchabite.dto.UserStoreSummaryDTO;
-import com.deliveryapp.catchabite.entity.AppUser;
-import com.deliveryapp.catchabite.entity.FavoriteStore;
 import com.deliveryapp.catchabite.entity.Menu;
 import com.deliveryapp.catchabite.entity.MenuCategory;
 import com.deliveryapp.catchabite.entity.MenuImage;
 import com.deliveryapp.catchabite.entity.Store;
-import com.deliveryapp.catchabite.repository.AppUserRepository;
 import com.deliveryapp.catchabite.repository.FavoriteStoreRepository;
 import com.deliveryapp.catchabite.repository.MenuImageRepository;
-import com.deliveryapp.catchabite.repository.ReviewRepository;
 import com.deliveryapp.catchabite.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,67 +38,165 @@ import java.util.stream.Collectors;
 public class UserStoreServiceImpl implements UserStoreService {
 
 	private final StoreRepository storeRepository;
-	private final StoreConverter storeConverter;
-	private final ReviewRepository reviewRepository;
 	private final FavoriteStoreRepository favoriteStoreRepository;
-	private final AppUserRepository appUserRepository;
     private final MenuImageRepository menuImageRepository;
     private final MenuImageConverter menuImageConverter;
+    private final DeliveryEtaEstimator deliveryEtaEstimator;
+    private final StoreSearchIndex storeSearchIndex;
+    private final StoreSummaryLoader storeSummaryLoader;
+    private final StoreDetailCache storeDetailCache;
+    private final StorePopularityCounters storePopularityCounters;
+    private final StoreGeoIndex storeGeoIndex;
+    private final GeocodingService geocodingService;
+
+	// 랜덤 피드 한 페이지 최대 크기
+	private static final int RANDOM_FEED_MAX_SIZE = 50;
+	// 지금 인기 매장 최대 건수
+	private static final int POPULAR_MAX_SIZE = 50;
+	// 가까운 매장 목록 최대 건수
+	private static final int NEARBY_MAX_SIZE = 100;
+
+	@Value("${search.store.max-results:100}")
+	private int searchMaxResults;
 
 	@Override
 	public List<UserStoreSummaryDTO> searchStores(String keyword) {
-		// ✅ 원본은 store_category "contains" 검색이었는데,
-		// enum 전환 후에는 keyword가 카테고리 값과 일치할 때만 카테고리 필터로 동작하게 처리합니다.
+		// ✅ 매장명/메뉴명/매장 소개 n-gram 역색인(StoreSearchIndex)으로 검색합니다.
+		// keyword가 카테고리 값과 일치하면 해당 카테고리 매장도 함께 나옵니다. (점수 순, 중복 없음)
+		List<Long> storeIds = storeSearchIndex.search(keyword, searchMaxResults);
+
+		// 색인 순서(점수 순)를 유지, 색인 반영 전 삭제된 매장은 건너뜀 (매장/이미지 각 1쿼리)
+		return storeSummaryLoader.loadByIds(storeIds);
+	}
+
+	@Override
+	public List<UserStoreSummaryDTO> getStoresByCategory(String storeCategory) {
+		StoreCategory category = StoreCategory.from(storeCategory);
+		List<Store> stores = storeRepository.findByStoreCategory(category);
+
+		return storeSummaryLoader.load(stores);
+	}
 
-		List<Store> byName = storeRepository.findByStoreNameContainingIgnoreCase(keyword);
+	@Override
+	public CursorPageDTO<UserStoreSummaryDTO> getRandomStores(String cursor, int size) {
+		// ✅ 영업 중인 매장 전체를 읽지 않고, seed로 정한 난수 키 위치부터 한 페이지만 인덱스 seek 합니다.
+		// 같은 seed 커서를 따라가면 중복 없이 이어지고, 커서 없이 부르면 새 seed로 다른 순서가 나옵니다.
+		int pageSize = Math.min(Math.max(size, 1), RANDOM_FEED_MAX_SIZE);
+		StoreFeedCursor position = (cursor == null || cursor.isBlank())
+				? StoreFeedCursor.start(ThreadLocalRandom.current().nextLong())
+				: StoreFeedCursor.decode(cursor);
 
-		StoreCategory category = null;
-		try {
-			category = StoreCategory.from(keyword);
-		} catch (IllegalArgumentException ignored) {
-			// keyword가 카테고리 값이 아니면 카테고리 검색은 건너뜀
+		// size + 1건을 읽어 다음 페이지 여부를 판단
+		List<Store> stores = new ArrayList<>(readRandomPage(position, pageSize + 1));
+		if (stores.size() <= pageSize && !position.wrapped()) {
+			// 시작 키 ~ 1.0 구간이 끝났으면 0 ~ 시작 키 구간에서 이어서 채움
+			stores.addAll(readRandomPage(position.wrap(), pageSize + 1 - stores.size()));
 		}
 
-		List<Store> result;
-		if (category == null) {
-			result = byName;
-		} else {
-			// 이름 검색 + 카테고리 검색 결과를 합치되 중복 제거
-			List<Store> byCategory = storeRepository.findByStoreCategory(category);
-			result = new java.util.ArrayList<>(byName);
-			for (Store s : byCategory) {
-				if (!result.contains(s)) {
-					result.add(s);
-				}
-			}
+		boolean hasNext = stores.size() > pageSize;
+		if (hasNext) {
+			stores = stores.subList(0, pageSize);
+		}
+		String nextCursor = null;
+		if (hasNext) {
+			Store last = stores.get(stores.size() - 1);
+			nextCursor = position.next(last.getStoreRandomKey(), last.getStoreId()).encode();
 		}
 
-		return result.stream()
-				.map(storeConverter::toSummaryDTO)
+		return new CursorPageDTO<>(storeSummaryLoader.load(stores), nextCursor, hasNext);
+	}
+
+	@Override
+	public List<UserStoreSummaryDTO> getPopularStores(int limit) {
+		// ✅ 최근 주문 수 순위는 StorePopularityCounters가 flush 때 미리 계산해 둔 것을 읽습니다. (store_order 집계 없음)
+		int size = Math.min(Math.max(limit, 1), POPULAR_MAX_SIZE);
+		// 영업 중이 아닌 매장은 빠지므로 순위 전체(최대 ranking-size건)를 후보로 읽음
+		List<Store> popular = storeSummaryLoader
+				.findInOrder(storePopularityCounters.topStores(Integer.MAX_VALUE)).stream()
+				.filter(s -> s.getStoreOpenStatus() == StoreOpenStatus.OPEN)
+				.limit(size)
 				.toList();
+		return storeSummaryLoader.load(popular);
 	}
 
 	@Override
-	public List<UserStoreSummaryDTO> getStoresByCategory(String storeCategory) {
-		StoreCategory category = StoreCategory.from(storeCategory);
-		List<Store> stores = storeRepository.findByStoreCategory(category);
+	public List<UserStoreSummaryDTO> getNearbyStores(Long addressId, String userLoginId, int limit) {
+		// ✅ 배송지가 배달 반경(storeMaxDist) 안에 드는 영업 중인 매장만 위치 색인(StoreGeoIndex)에서 가까운 순으로 꺼냅니다.
+		// 후보/영업 상태를 찾는 데 store 테이블을 읽지 않고, 요약 조립(size건)만 매장/이미지 각 1쿼리입니다.
+		Geocoder.Point point = geocodingService.locateAddress(addressId, userLoginId);
+		int size = Math.min(Math.max(limit, 1), NEARBY_MAX_SIZE);
 
-		return stores.stream()
-				.map(storeConverter::toSummaryDTO)
-				.toList();
+		List<StoreGeoIndex.Hit> hits = storeGeoIndex.coveringOpen(point.latitude(), point.longitude(), size);
+		return withDistances(hits, size);
 	}
 
 	@Override
-	public List<UserStoreSummaryDTO> getRandomStores() {
-		List<Store> allOpenStores = storeRepository.findByStoreOpenStatus(StoreOpenStatus.OPEN);
+	public List<UserStoreSummaryDTO> searchNearbyStores(String keyword, Long addressId, String userLoginId) {
+		Geocoder.Point point = geocodingService.locateAddress(addressId, userLoginId);
+
+		// 검색 결과 전체 중 배달 가능한 영업 중 매장만 남긴 뒤 가까운 순으로 max-results건 (색인 안에서만 거름)
+		Map<Long, StoreGeoIndex.Hit> covering = storeGeoIndex
+				.coveringOpen(point.latitude(), point.longitude(), Integer.MAX_VALUE).stream()
+				.collect(Collectors.toMap(StoreGeoIndex.Hit::storeId, h -> h));
+		if (covering.isEmpty()) {
+			return List.of();
+		}
+		List<StoreGeoIndex.Hit> hits = storeSearchIndex.search(keyword, Integer.MAX_VALUE).stream()
+				.map(covering::get)
+				.filter(Objects::nonNull)
+				.sorted(Comparator.comparingDouble(StoreGeoIndex.Hit::distanceM))
+				.toList();
+		return withDistances(hits, searchMaxResults);
+	}
+
+	// 색인 순서(거리 순)를 유지하며 앞에서 limit건만 읽고 거리(m)를 채움 (hits는 이미 영업 중인 매장만)
+	private List<UserStoreSummaryDTO> withDistances(List<StoreGeoIndex.Hit> hits, int limit) {
+		if (hits.isEmpty()) {
+			return List.of();
+		}
+		List<StoreGeoIndex.Hit> top = (hits.size() > limit) ? hits.subList(0, limit) : hits;
+		Map<Long, Double> distances = top.stream()
+				.collect(Collectors.toMap(StoreGeoIndex.Hit::storeId, StoreGeoIndex.Hit::distanceM));
+		return storeSummaryLoader.loadByIds(top.stream().map(StoreGeoIndex.Hit::storeId).toList()).stream()
+				.map(dto -> dto.toBuilder()
+						.distanceMeters((int) Math.round(distances.get(dto.getStoreId())))
+						.build())
+				.toList();
+	}
 
-		return allOpenStores.stream()
-				.map(storeConverter::toSummaryDTO)
-				.collect(Collectors.toList());
+	private List<Store> readRandomPage(StoreFeedCursor position, int limit) {
+		return storeRepository.findRandomPage(
+				StoreOpenStatus.OPEN, position.afterKey(), position.afterId(), position.untilKey(),
+				PageRequest.of(0, limit));
 	}
 
 	@Override
     public UserStoreResponseDTO getStoreDetailsForUser(Long storeId, String userLoginId) {
+        // 사용자와 무관한 부분은 매장 버전별 캐시에서 가져옵니다.
+        // 버전은 읽기 "전에" 받아야 읽는 도중 변경이 커밋되어도 이전 버전으로만 저장됩니다.
+        long version = storeDetailCache.version(storeId);
+        UserStoreResponseDTO detail = storeDetailCache.get(storeId, version);
+        if (detail == null) {
+            detail = loadStoreDetail(storeId);
+            storeDetailCache.put(storeId, version, detail);
+        }
+
+        // =================================================================
+        // Step 6. 즐겨찾기 여부 확인 (로그인한 사용자만, 쿼리 1번)
+        // =================================================================
+        Long favoriteId = (userLoginId == null)
+                ? null
+                : favoriteStoreRepository.findFavoriteId(userLoginId, storeId).orElse(null);
+
+        // 7. 최종 응답 DTO 생성 (캐시 항목은 여러 요청이 공유하므로 복사해서 요청별 값을 채움)
+        return detail.toBuilder()
+                .estimatedDeliveryTime(deliveryEtaEstimator.formatRange(storeId, "20-30분"))
+                .favoriteId(favoriteId)
+                .build();
+    }
+
+    // 매장 상세 중 사용자와 무관한 부분 (StoreDetailCache에 저장)
+    private UserStoreResponseDTO loadStoreDetail(Long storeId) {
         // 1. 가게 조회
         Store store = storeRepository.findStoreWithCategoriesById(storeId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 가게id입니다."));
@@ -107,8 +207,8 @@ public class UserStoreServiceImpl implements UserStoreService {
             storeImageUrl = store.getImages().get(0).getStoreImageUrl();
         }
 
-        // 3. 리뷰 수 조회
-        Integer reviewCount = (int) reviewRepository.countByStore_StoreId(storeId);
+        // 3. 리뷰 수 (StoreReviewAggregator가 store 행에 유지)
+        Integer reviewCount = store.getStoreReviewCount();
 
         // 4. 메뉴 이미지 일괄 조회 (N+1 문제 방지 최적화)
         // 4-1. 가게의 모든 메뉴 ID 추출
@@ -170,33 +270,6 @@ public class UserStoreServiceImpl implements UserStoreService {
         }
 
 
-        // =================================================================
-        // Step 6. 즐겨찾기 여부 확인 (단계별 IF문 사용)
-        // =================================================================
-        
-        Long favoriteId = null; // 기본값은 null (즐겨찾기 안 함)
-
-        // 1. 로그인한 사용자인지 확인합니다.
-        if (userLoginId != null) {
-            
-            // 2. 사용자 정보를 DB에서 가져옵니다.
-            AppUser appUser = appUserRepository.findByAppUserEmail(userLoginId).orElse(null);
-
-            // 3. 사용자가 존재하면, 즐겨찾기 테이블을 조회합니다.
-            if (appUser != null) {
-                // "내 ID"와 "가게 ID"로 즐겨찾기 데이터를 찾습니다.
-                FavoriteStore favorite = favoriteStoreRepository
-                        .findByAppUser_AppUserIdAndStore_StoreId(appUser.getAppUserId(), storeId)
-                        .orElse(null);
-
-                // 4. 즐겨찾기 데이터가 있으면 ID를 꺼냅니다.
-                if (favorite != null) {
-                    favoriteId = favorite.getFavoriteId();
-                }
-            }
-        }
-
-        // 7. 최종 응답 DTO 생성
         return UserStoreResponseDTO.builder()
                 .storeId(store.getStoreId())
                 .storeName(store.getStoreName())
@@ -210,9 +283,7 @@ public class UserStoreServiceImpl implements UserStoreService {
                 .storeOpenStatus(store.getStoreOpenStatus())
                 .minOrderPrice(store.getStoreMinOrder())
                 .deliveryFee(store.getStoreDeliveryFee())
-                .estimatedDeliveryTime("20-30분")
                 .menuCategories(categoryDTOs)
-                .favoriteId(favoriteId) 
                 .build();
     }
 }
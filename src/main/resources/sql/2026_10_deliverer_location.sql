@@ -0,0 +1,12 @@
+-- 라이더 위치 이력 테이블 (RiderLocationTracker가 라이더별 최신 위치를 주기적으로 일괄 저장)
+create table if not exists deliverer_location (
+    location_id bigint not null auto_increment,
+    deliverer_id bigint not null,
+    latitude decimal(10, 7) not null,
+    longitude decimal(10, 7) not null,
+    recorded_at datetime(6) not null,
+    primary key (location_id),
+    constraint fk_deliverer_location_deliverer foreign key (deliverer_id) references deliverer (deliverer_id)
+);
+
+create index idx_deliverer_location_rider_time on deliverer_location (deliverer_id, recorded_at);
@@ -0,0 +1,3 @@
+-- 배달원 정산(DelivererSettlementEngine) 커서 조회용: 배달원별 기간 내 배달완료 건
+create index idx_order_delivery_rider_status_complete
+    on order_delivery (deliverer_id, order_delivery_status, order_delivery_complete_time);
@@ -0,0 +1,2 @@
+-- 배차(ASSIGNED) 시각: 미수락 배차 만료(AssignmentExpirySweeper) 기준
+alter table order_delivery add column order_assigned_time datetime(6) null;
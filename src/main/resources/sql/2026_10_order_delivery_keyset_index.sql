@@ -0,0 +1,9 @@
+-- 배달 목록 keyset 페이지 (order_delivery_created_date desc, delivery_id desc)
+-- 배달원 목록/상태별 목록: 배달원 조건 + 정렬 키로 바로 seek
+create index idx_order_delivery_rider_created
+    on order_delivery (deliverer_id, order_delivery_created_date, delivery_id);
+create index idx_order_delivery_rider_status_created
+    on order_delivery (deliverer_id, order_delivery_status, order_delivery_created_date, delivery_id);
+-- 고객/매장 목록: 정렬 키 순으로 읽으며 주문(store_order) 조인으로 거른다
+create index idx_order_delivery_created
+    on order_delivery (order_delivery_created_date, delivery_id);
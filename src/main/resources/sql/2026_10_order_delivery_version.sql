@@ -0,0 +1,3 @@
+-- order_delivery 낙관적 락(@Version) 컬럼 추가
+-- 기존 행은 0으로 채워 JPA가 버전 비교를 할 수 있도록 한다.
+alter table order_delivery add column version bigint not null default 0;
@@ -0,0 +1,7 @@
+-- 매장/배송지 좌표 (GeocodingService, StoreGeoIndex)
+-- 기존 매장 좌표는 기동 시 StoreGeoIndex가 지오코딩해 채우고, 배송지는 등록/수정 때 채운다.
+alter table store add column store_latitude decimal(10, 7) null;
+alter table store add column store_longitude decimal(10, 7) null;
+
+alter table address add column address_latitude decimal(10, 7) null;
+alter table address add column address_longitude decimal(10, 7) null;
@@ -0,0 +1,3 @@
+-- 홈 피드 카테고리 출처 (StoreRepository.findTopByCategory)
+-- 카테고리 + 영업 상태로 좁힌 뒤 평점 순 상위 N건만 읽는다.
+create index idx_store_category_open_rating on store (store_category, store_open_status, store_rating, store_id);
@@ -0,0 +1,7 @@
+-- 매장 인기도 (StorePopularityCounters)
+-- 누적 주문 수는 이후 카운터가 증분으로 더하므로 기존 주문으로 한 번 채운다.
+update store s
+set s.store_total_order = (select count(*) from store_order o where o.store_id = s.store_id);
+
+-- 기동 시 최근 구간 주문 조회 (findOrderStampsSince)
+create index idx_store_order_date on store_order (order_date, store_id);
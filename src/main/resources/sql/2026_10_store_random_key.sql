@@ -0,0 +1,7 @@
+-- 랜덤 매장 피드 (UserStoreServiceImpl.getRandomStores)
+-- 매장마다 [0, 1) 난수 키를 두고, seed로 정한 시작점부터 (영업상태, 키, id) 순서로 seek 해서 페이지를 읽는다.
+alter table store add column store_random_key double null;
+update store set store_random_key = rand() where store_random_key is null;
+alter table store modify column store_random_key double not null;
+
+create index idx_store_open_random on store (store_open_status, store_random_key, store_id);
@@ -0,0 +1,34 @@
+-- 매장별 리뷰 집계 (StoreReviewAggregator)
+-- 리뷰 작성/수정/삭제 트랜잭션에서 증감 upsert로 갱신하고, store의 평균 평점/리뷰 수도 같은 트랜잭션에서 맞춘다.
+create table if not exists store_review_stat (
+    store_id bigint not null,
+    review_count bigint not null,
+    rating_sum decimal(14, 2) not null,
+    star_1 bigint not null,
+    star_2 bigint not null,
+    star_3 bigint not null,
+    star_4 bigint not null,
+    star_5 bigint not null,
+    updated_at datetime(6) not null,
+    primary key (store_id),
+    constraint fk_store_review_stat_store foreign key (store_id) references store (store_id)
+);
+
+alter table store add column store_review_count int not null default 0;
+
+-- 기존 리뷰로 채움 (이후에는 reconcile 작업이 주기적으로 다시 맞춘다)
+insert into store_review_stat (store_id, review_count, rating_sum, star_1, star_2, star_3, star_4, star_5, updated_at)
+select r.store_id, count(*), sum(r.review_rating),
+       sum(case when round(r.review_rating) <= 1 then 1 else 0 end),
+       sum(case when round(r.review_rating) = 2 then 1 else 0 end),
+       sum(case when round(r.review_rating) = 3 then 1 else 0 end),
+       sum(case when round(r.review_rating) = 4 then 1 else 0 end),
+       sum(case when round(r.review_rating) >= 5 then 1 else 0 end),
+       now(6)
+from review r
+group by r.store_id;
+
+update store s
+join store_review_stat st on st.store_id = s.store_id
+set s.store_review_count = st.review_count,
+    s.store_rating = round(st.rating_sum / st.review_count, 1);
@@ -0,0 +1,63 @@
+package com.deliveryapp.catchabite.service;
+
+import com.deliveryapp.catchabite.service.DelivererFeeRuleCache.FeeRule;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 요금 rule 매칭 단위 테스트 (minM 이진 탐색 + 겹치는 구간 보정)
+class DelivererFeeRuleCacheTests {
+
+    @Test
+    void contiguousRangesMatchByFloorOfMinM() {
+        FeeRule[] rules = {
+                rule(1L, 0, 1000),
+                rule(2L, 1000, 3000),
+                rule(3L, 3000, null)
+        };
+
+        assertThat(ruleId(rules, 0)).contains(1L);
+        assertThat(ruleId(rules, 999)).contains(1L);
+        assertThat(ruleId(rules, 1000)).contains(2L);   // 경계는 다음 구간 (minM <= d < maxM)
+        assertThat(ruleId(rules, 2999)).contains(2L);
+        assertThat(ruleId(rules, 3000)).contains(3L);
+        assertThat(ruleId(rules, 100_000)).contains(3L); // 상한 없음
+    }
+
+    @Test
+    void gapsAndEmptyRulesMatchNothing() {
+        FeeRule[] rules = {
+                rule(1L, 500, 1000),
+                rule(2L, 2000, 3000)
+        };
+
+        assertThat(ruleId(rules, 100)).isEmpty();  // 첫 구간보다 앞
+        assertThat(ruleId(rules, 1500)).isEmpty(); // 구간 사이
+        assertThat(ruleId(rules, 3000)).isEmpty(); // 마지막 구간 뒤
+        assertThat(ruleId(new FeeRule[0], 1000)).isEmpty();
+    }
+
+    @Test
+    void overlappingRangesFallBackToLargestCoveringMinM() {
+        // 겹침 검증 이전에 들어간 데이터: 전체 구간 위에 좁은 구간 두 개
+        FeeRule[] rules = {
+                rule(1L, 0, null),
+                rule(2L, 1000, 2000),
+                rule(3L, 1500, 1800)
+        };
+
+        assertThat(ruleId(rules, 1600)).contains(3L);
+        assertThat(ruleId(rules, 1900)).contains(2L); // 바로 아래(3)는 못 덮으므로 한 칸 더 내려감
+        assertThat(ruleId(rules, 2500)).contains(1L);
+        assertThat(ruleId(rules, 500)).contains(1L);
+    }
+
+    private static Optional<Long> ruleId(FeeRule[] rules, long distanceM) {
+        return DelivererFeeRuleCache.match(rules, distanceM).map(FeeRule::ruleId);
+    }
+
+    private static FeeRule rule(Long ruleId, int minM, Integer maxM) {
+        return new FeeRule(ruleId, minM, maxM, 3000, 500);
+    }
+}
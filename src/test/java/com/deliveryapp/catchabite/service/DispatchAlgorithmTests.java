@@ -0,0 +1,108 @@
+package com.deliveryapp.catchabite.service;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+import com.deliveryapp.catchabite.service.DispatchAlgorithm.Assignment;
+import com.deliveryapp.catchabite.service.DispatchAlgorithm.Job;
+import com.deliveryapp.catchabite.service.DispatchAlgorithm.Rider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 배차 알고리즘 단위 테스트 (Spring/DB 없이 좌표만으로 검증)
+class DispatchAlgorithmTests {
+
+    private static final double BASE_LAT = 37.5;
+    private static final double BASE_LON = 127.0;
+
+    private final DispatchAlgorithm greedy = new GreedyDispatchAlgorithm();
+    private final DispatchAlgorithm hungarian = new HungarianDispatchAlgorithm();
+
+    @Test
+    void hungarianBeatsGreedyWhenNearestPairIsATrap() {
+        // 한 줄 위의 좌표(km): 배달 1.1, 3.0 / 라이더 0.0, 2.0
+        // greedy: (1.1-2.0) 0.9 + (3.0-0.0) 3.0 = 3.9km, 최적: (3.0-2.0) 1.0 + (1.1-0.0) 1.1 = 2.1km
+        List<Job> jobs = List.of(job(1L, 1.1), job(2L, 3.0));
+        List<Rider> riders = List.of(rider(10L, 0.0), rider(20L, 2.0));
+
+        List<Assignment> greedyResult = greedy.match(jobs, riders, 5000);
+        List<Assignment> hungarianResult = hungarian.match(jobs, riders, 5000);
+
+        assertThat(greedyResult).hasSize(2);
+        assertThat(hungarianResult).hasSize(2);
+        assertThat(total(hungarianResult)).isLessThan(total(greedyResult));
+        assertThat(total(hungarianResult)).isBetween(2050.0, 2150.0);
+    }
+
+    @Test
+    void pairsBeyondMaxPickupAreNeverReturned() {
+        // 배달 2(20km)는 어느 라이더와도 3km 안에 없다.
+        List<Job> jobs = List.of(job(1L, 0.0), job(2L, 20.0));
+        List<Rider> riders = List.of(rider(10L, 1.0), rider(20L, 2.0));
+
+        for (DispatchAlgorithm algorithm : List.of(greedy, hungarian)) {
+            List<Assignment> result = algorithm.match(jobs, riders, 3000);
+
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).deliveryId()).isEqualTo(1L);
+            assertThat(result.get(0).delivererId()).isEqualTo(10L);
+            assertThat(result).allSatisfy(a -> assertThat(a.pickupDistanceM()).isLessThanOrEqualTo(3000));
+        }
+    }
+
+    @Test
+    void eachJobAndRiderIsMatchedAtMostOnce() {
+        Random random = new Random(42);
+        List<Job> manyJobs = randomJobs(random, 12);
+        List<Rider> fewRiders = randomRiders(random, 5);
+        List<Job> fewJobs = randomJobs(random, 4);
+        List<Rider> manyRiders = randomRiders(random, 11);
+
+        for (DispatchAlgorithm algorithm : List.of(greedy, hungarian)) {
+            assertMatchedOnce(algorithm.match(manyJobs, fewRiders, 2000), 2000);
+            assertMatchedOnce(algorithm.match(fewJobs, manyRiders, 2000), 2000);
+        }
+    }
+
+    private void assertMatchedOnce(List<Assignment> result, double maxPickupM) {
+        assertThat(result).isNotEmpty();
+        assertThat(result).extracting(Assignment::deliveryId).doesNotHaveDuplicates();
+        assertThat(result).extracting(Assignment::delivererId).doesNotHaveDuplicates();
+        assertThat(result).allSatisfy(a -> assertThat(a.pickupDistanceM()).isLessThanOrEqualTo(maxPickupM));
+    }
+
+    private List<Job> randomJobs(Random random, int count) {
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            jobs.add(new Job((long) (i + 1), BASE_LAT + random.nextDouble() * 0.02, BASE_LON + random.nextDouble() * 0.02));
+        }
+        return jobs;
+    }
+
+    private List<Rider> randomRiders(Random random, int count) {
+        List<Rider> riders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            riders.add(new Rider((long) (100 + i), BASE_LAT + random.nextDouble() * 0.02, BASE_LON + random.nextDouble() * 0.02));
+        }
+        return riders;
+    }
+
+    // 기준점에서 동쪽으로 km만큼 떨어진 좌표
+    private static Job job(Long deliveryId, double km) {
+        return new Job(deliveryId, BASE_LAT, lonAt(km));
+    }
+
+    private static Rider rider(Long delivererId, double km) {
+        return new Rider(delivererId, BASE_LAT, lonAt(km));
+    }
+
+    private static double lonAt(double km) {
+        return BASE_LON + km * 1000 / GeoUtils.metersPerDegreeLon(BASE_LAT);
+    }
+
+    private static double total(List<Assignment> assignments) {
+        return assignments.stream().mapToDouble(Assignment::pickupDistanceM).sum();
+    }
+}
@@ -0,0 +1,182 @@
+package com.deliveryapp.catchabite.service;
+
+import com.deliveryapp.catchabite.domain.enumtype.StoreCategory;
+import com.deliveryapp.catchabite.domain.enumtype.StoreOpenStatus;
+import com.deliveryapp.catchabite.dto.CursorPageDTO;
+import com.deliveryapp.catchabite.dto.HomeFeedItemDTO;
+import com.deliveryapp.catchabite.dto.HomeFeedItemDTO.Source;
+import com.deliveryapp.catchabite.dto.UserFavoriteStoreResponseDTO;
+import com.deliveryapp.catchabite.dto.UserStoreSummaryDTO;
+import com.deliveryapp.catchabite.entity.AppUser;
+import com.deliveryapp.catchabite.repository.AppUserRepository;
+import com.deliveryapp.catchabite.repository.StoreRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 홈 피드 출처 병합 단위 테스트 (출처는 모두 stub, Spring/DB 없음)
+// - 제한 시간을 넘긴 출처와 실패한 출처는 빠지고 나머지로 피드를 만든다.
+// - 여러 출처에 나온 같은 매장은 한 건으로 합치고 출처만 모은다.
+// - 시간 초과한 작업은 취소하고, 대기열을 넘는 출처는 실행하지 않고 빈 출처로 둔다.
+class HomeFeedServiceImplTests {
+
+    private static final String USER = "user@test.com";
+    private static final long SOURCE_TIMEOUT_MS = 300;
+    private static final long SLOW_SOURCE_MS = 3000;
+
+    private UserStoreService userStoreService;
+    private UserStoreOrderService userStoreOrderService;
+    private FavoriteStoreService favoriteStoreService;
+    private AppUserRepository appUserRepository;
+    private StoreRepository storeRepository;
+    private StoreSummaryLoader storeSummaryLoader;
+    private StorePopularityCounters storePopularityCounters;
+    private HomeFeedServiceImpl homeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        userStoreService = mock(UserStoreService.class);
+        userStoreOrderService = mock(UserStoreOrderService.class);
+        favoriteStoreService = mock(FavoriteStoreService.class);
+        appUserRepository = mock(AppUserRepository.class);
+        storeRepository = mock(StoreRepository.class);
+        storeSummaryLoader = mock(StoreSummaryLoader.class);
+        storePopularityCounters = mock(StorePopularityCounters.class);
+
+        homeFeedService = service(4, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        homeFeedService.shutdown();
+    }
+
+    private HomeFeedServiceImpl service(int workers, int queueCapacity) {
+        return new HomeFeedServiceImpl(userStoreService, userStoreOrderService, favoriteStoreService,
+                appUserRepository, storeRepository, storeSummaryLoader, storePopularityCounters,
+                mock(StoreGeoIndex.class), mock(GeocodingService.class), workers, queueCapacity, SOURCE_TIMEOUT_MS);
+    }
+
+    @Test
+    void slowAndFailingSourcesAreDroppedAndDuplicatesMerged() {
+        // RANDOM: 제한 시간보다 느림 -> 빠져야 한다.
+        when(userStoreService.getRandomStores(any(), anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(SLOW_SOURCE_MS);
+            return new CursorPageDTO<>(List.of(store(9L, 5.0, StoreOpenStatus.OPEN)), null, false);
+        });
+        // POPULAR: 실패
+        when(userStoreService.getPopularStores(anyInt())).thenThrow(new IllegalStateException("popular down"));
+        // CATEGORY: 1, 2는 영업 중, 3은 영업 종료
+        when(storeRepository.findTopByCategory(eq(StoreCategory.korean), eq(StoreOpenStatus.OPEN), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(storeSummaryLoader.load(anyList())).thenReturn(List.of(
+                store(1L, 4.0, StoreOpenStatus.OPEN),
+                store(2L, 5.0, StoreOpenStatus.OPEN),
+                store(3L, 5.0, StoreOpenStatus.CLOSE)));
+        // FAVORITE: 1
+        when(favoriteStoreService.getMyFavoriteStores(USER))
+                .thenReturn(List.of(new UserFavoriteStoreResponseDTO(100L, 1L, "store1", 4.0)));
+        when(storeSummaryLoader.loadByIds(List.of(1L))).thenReturn(List.of(store(1L, 4.0, StoreOpenStatus.OPEN)));
+        // FREQUENT: 2, 1 순
+        AppUser user = AppUser.builder().appUserId(7L).appUserEmail(USER).build();
+        when(appUserRepository.findByAppUserEmail(USER)).thenReturn(Optional.of(user));
+        when(userStoreOrderService.getFrequentStores(7L)).thenReturn(List.of(
+                store(2L, 5.0, StoreOpenStatus.OPEN),
+                store(1L, 4.0, StoreOpenStatus.OPEN)));
+        // 최근 주문 수: 1만 있음
+        when(storePopularityCounters.recentOrders(1L)).thenReturn(100);
+        when(storePopularityCounters.recentOrders(2L)).thenReturn(0);
+
+        long start = System.nanoTime();
+        List<HomeFeedItemDTO> feed = homeFeedService.getHomeFeed(USER, null, "korean", 10);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // 느린 출처를 기다리지 않는다.
+        assertThat(elapsedMs).isLessThan(SLOW_SOURCE_MS / 2);
+
+        // 1: 평점 0.8*0.3 + 인기 1.0*0.3 + 자주 주문 2위 0.5*0.2 + 즐겨찾기 0.1 = 0.74
+        // 2: 평점 1.0*0.3 + 인기 0 + 자주 주문 1위 1.0*0.2 = 0.5
+        assertThat(feed).extracting(item -> item.getStore().getStoreId()).containsExactly(1L, 2L);
+        assertThat(feed.get(0).getScore()).isCloseTo(0.74, within(1e-9));
+        assertThat(feed.get(1).getScore()).isCloseTo(0.5, within(1e-9));
+        assertThat(feed.get(0).getSources())
+                .containsExactlyInAnyOrder(Source.CATEGORY, Source.FAVORITE, Source.FREQUENT);
+        assertThat(feed.get(1).getSources())
+                .containsExactlyInAnyOrder(Source.CATEGORY, Source.FREQUENT);
+    }
+
+    @Test
+    void allSourcesFailingGivesAnEmptyFeed() {
+        when(userStoreService.getRandomStores(any(), anyInt())).thenThrow(new IllegalStateException("random down"));
+        when(userStoreService.getPopularStores(anyInt())).thenThrow(new IllegalStateException("popular down"));
+
+        assertThat(homeFeedService.getHomeFeed(null, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void timedOutSourceIsInterrupted() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(userStoreService.getRandomStores(any(), anyInt())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(SLOW_SOURCE_MS);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return new CursorPageDTO<>(List.of(store(9L, 5.0, StoreOpenStatus.OPEN)), null, false);
+        });
+        when(userStoreService.getPopularStores(anyInt())).thenReturn(List.of(store(1L, 4.0, StoreOpenStatus.OPEN)));
+
+        List<HomeFeedItemDTO> feed = homeFeedService.getHomeFeed(null, null, null, 10);
+
+        assertThat(feed).extracting(item -> item.getStore().getStoreId()).containsExactly(1L);
+        // 시간 초과 후 작업이 취소되어 워커(=DB 연결)를 계속 붙잡지 않는다.
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void sourcesBeyondTheQueueAreSkippedWithoutRunning() {
+        // 워커 1 + 대기 1: RANDOM 실행(느림), POPULAR 대기, 나머지는 거절되어 바로 빈 출처
+        homeFeedService.shutdown();
+        homeFeedService = service(1, 1);
+        when(userStoreService.getRandomStores(any(), anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(SLOW_SOURCE_MS);
+            return new CursorPageDTO<>(List.of(), null, false);
+        });
+        when(userStoreService.getPopularStores(anyInt())).thenReturn(List.of(store(1L, 4.0, StoreOpenStatus.OPEN)));
+
+        long start = System.nanoTime();
+        homeFeedService.getHomeFeed(USER, null, "korean", 10);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMs).isLessThan(SLOW_SOURCE_MS / 2);
+        verify(storeRepository, never()).findTopByCategory(any(), any(), any());
+        verify(favoriteStoreService, never()).getMyFavoriteStores(any());
+        verify(appUserRepository, never()).findByAppUserEmail(any());
+    }
+
+    private static UserStoreSummaryDTO store(Long storeId, double rating, StoreOpenStatus status) {
+        return UserStoreSummaryDTO.builder()
+                .storeId(storeId)
+                .storeName("store" + storeId)
+                .storeOpenStatus(status)
+                .storeRating(rating)
+                .build();
+    }
+}
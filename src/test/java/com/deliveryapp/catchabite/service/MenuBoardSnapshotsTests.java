@@ -0,0 +1,185 @@
+package com.deliveryapp.catchabite.service;
+
+import com.deliveryapp.catchabite.domain.enumtype.StoreCategory;
+import com.deliveryapp.catchabite.dto.MenuDTO;
+import com.deliveryapp.catchabite.dto.MenuOptionDTO;
+import com.deliveryapp.catchabite.entity.Menu;
+import com.deliveryapp.catchabite.entity.MenuCategory;
+import com.deliveryapp.catchabite.entity.MenuOption;
+import com.deliveryapp.catchabite.entity.MenuOptionGroup;
+import com.deliveryapp.catchabite.entity.Store;
+import com.deliveryapp.catchabite.entity.StoreOwner;
+import com.deliveryapp.catchabite.repository.MenuCategoryRepository;
+import com.deliveryapp.catchabite.repository.MenuOptionGroupRepository;
+import com.deliveryapp.catchabite.repository.MenuOptionRepository;
+import com.deliveryapp.catchabite.repository.MenuRepository;
+import com.deliveryapp.catchabite.repository.StoreOwnerRepository;
+import com.deliveryapp.catchabite.repository.StoreRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 메뉴판 스냅샷: 옵션 변경도 스냅샷을 다시 만들고, 응답 본문은 다른 API와 같은 ApiResponse 형태여야 한다.
+@SpringBootTest(properties = "scheduling.enabled=false")
+@ActiveProfiles("test")
+class MenuBoardSnapshotsTests {
+
+    private static final long REFRESH_WAIT_MS = 5000;
+
+    @Autowired
+    private MenuBoardSnapshots menuBoardSnapshots;
+
+    @Autowired
+    private MenuOptionService menuOptionService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private StoreOwnerRepository storeOwnerRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuCategoryRepository menuCategoryRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuOptionGroupRepository menuOptionGroupRepository;
+
+    @Autowired
+    private MenuOptionRepository menuOptionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private StoreOwner owner;
+    private Store store;
+    private MenuCategory category;
+    private Menu menu;
+    private MenuOptionGroup group;
+    private MenuOption option;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        owner = storeOwnerRepository.save(StoreOwner.builder()
+            .storeOwnerEmail("owner" + suffix + "@test.com")
+            .storeOwnerPassword("Passw0rd!")
+            .storeOwnerName("Test Owner")
+            .storeOwnerMobile("010" + String.format("%08d", Math.abs(System.nanoTime() % 100000000L)))
+            .storeOwnerBusinessRegistrationNo("BRN-" + suffix)
+            .createdAt(LocalDateTime.now())
+            .build());
+
+        store = storeRepository.save(Store.builder()
+            .storeOwner(owner)
+            .storeOwnerName("Test Owner")
+            .storeName("메뉴판 테스트 가게")
+            .storeAddress("서울시 테스트구 3")
+            .storeCategory(StoreCategory.korean)
+            .storePhone("0212345678")
+            .build());
+
+        category = menuCategoryRepository.save(MenuCategory.builder()
+            .store(store)
+            .menuCategoryName("식사")
+            .build());
+
+        menu = menuRepository.save(Menu.builder()
+            .store(store)
+            .menuCategory(category)
+            .menuName("비빔밥")
+            .menuPrice(9000)
+            .menuIsAvailable(true)
+            .build());
+
+        group = menuOptionGroupRepository.save(MenuOptionGroup.builder()
+            .menu(menu)
+            .menuOptionGroupName("추가")
+            .menuOptionGroupRequired(false)
+            .build());
+
+        option = menuOptionRepository.save(MenuOption.builder()
+            .menuOptionGroup(group)
+            .menuOptionName("계란")
+            .menuOptionPrice(500)
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        menuOptionRepository.deleteById(option.getMenuOptionId());
+        menuOptionGroupRepository.deleteById(group.getMenuOptionGroupId());
+        menuRepository.deleteById(menu.getMenuId());
+        menuCategoryRepository.deleteById(category.getMenuCategoryId());
+        storeRepository.deleteById(store.getStoreId());
+        storeOwnerRepository.deleteById(owner.getStoreOwnerId());
+    }
+
+    @Test
+    void optionPriceChangeRebuildsTheSnapshot() throws InterruptedException {
+        MenuBoardSnapshots.Snapshot before = menuBoardSnapshots.get(store.getStoreId());
+
+        menuOptionService.updateOption(owner.getStoreOwnerId(), menu.getMenuId(), group.getMenuOptionGroupId(),
+                option.getMenuOptionId(), MenuOptionDTO.builder().menuOptionName("계란").menuOptionPrice(1000).build());
+
+        // 커밋 이후 재생성되어 더 새 세대의 스냅샷으로 바뀐다.
+        // (현재 메뉴판 DTO에는 옵션 필드가 없어 JSON/ETag 자체는 같을 수 있다.)
+        MenuBoardSnapshots.Snapshot after = awaitNewerThan(before);
+        assertThat(after.generation()).isGreaterThan(before.generation());
+    }
+
+    @Test
+    void menuPriceChangeChangesTheEtag() throws InterruptedException {
+        MenuBoardSnapshots.Snapshot before = menuBoardSnapshots.get(store.getStoreId());
+
+        menuService.updateMenu(owner.getStoreOwnerId(), store.getStoreId(), menu.getMenuId(),
+                MenuDTO.builder()
+                    .menuCategoryId(category.getMenuCategoryId())
+                    .menuName("비빔밥")
+                    .menuPrice(9500)
+                    .menuIsAvailable(true)
+                    .build());
+
+        MenuBoardSnapshots.Snapshot after = awaitNewerThan(before);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(after.matches(before.etag())).isFalse();
+        assertThat(after.json()).contains("9500");
+    }
+
+    @Test
+    void bodyIsARegularApiResponse() throws Exception {
+        MenuBoardSnapshots.Snapshot snapshot = menuBoardSnapshots.get(store.getStoreId());
+
+        JsonNode body = objectMapper.readTree(menuBoardSnapshots.body(snapshot));
+
+        assertThat(body.get("success").asBoolean()).isTrue();
+        assertThat(body.get("code").asText()).isEqualTo("OK");
+        assertThat(body.get("message").asText()).isEqualTo("success");
+        assertThat(body.has("timestamp")).isTrue();
+        assertThat(body.get("data")).isEqualTo(objectMapper.readTree(snapshot.json()));
+    }
+
+    private MenuBoardSnapshots.Snapshot awaitNewerThan(MenuBoardSnapshots.Snapshot before) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + REFRESH_WAIT_MS;
+        MenuBoardSnapshots.Snapshot current = menuBoardSnapshots.get(store.getStoreId());
+        while (current.generation() <= before.generation() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            current = menuBoardSnapshots.get(store.getStoreId());
+        }
+        return current;
+    }
+}
@@ -0,0 +1,59 @@
+package com.deliveryapp.catchabite.service;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 오프라인 지오코더 단위 테스트 (지역 중심 매칭 + 결정적 jitter)
+class OfflineGeocoderTests {
+
+    private static final Geocoder.Point JUNG_GU = new Geocoder.Point(37.5641, 126.9979);
+    private static final Geocoder.Point DONGDAEMUN_GU = new Geocoder.Point(37.5744, 127.0396);
+    private static final Geocoder.Point SEOUL = new Geocoder.Point(37.5665, 126.9780);
+
+    @Test
+    void seoulDistrictIsMatchedByWholeWord() {
+        OfflineGeocoder geocoder = geocoder(0);
+
+        assertThat(geocoder.geocode("서울특별시 중구 세종대로 110")).contains(JUNG_GU);
+        // 자치구는 단어 단위로 찾으므로 등록 순서(중구가 마지막)와 관계없이 해당 구로 잡힌다.
+        assertThat(geocoder.geocode("서울 동대문구 왕산로 1")).contains(DONGDAEMUN_GU);
+        // "중구"가 다른 단어의 일부일 뿐이면 서울 중심
+        assertThat(geocoder.geocode("서울특별시 중구청앞길 1")).contains(SEOUL);
+    }
+
+    @Test
+    void unknownOrAmbiguousAddressesAreNotLocated() {
+        OfflineGeocoder geocoder = geocoder(0);
+
+        assertThat(geocoder.geocode(null)).isEmpty();
+        assertThat(geocoder.geocode("  ")).isEmpty();
+        assertThat(geocoder.geocode("제주특별자치도 제주시 1")).isEmpty();
+        // 경기 광주시는 광주광역시로 잡히지 않는다.
+        assertThat(geocoder.geocode("경기도 광주시 역동 1")).isEmpty();
+    }
+
+    @Test
+    void jitterIsDeterministicAndBounded() {
+        OfflineGeocoder geocoder = geocoder(800);
+
+        Geocoder.Point first = geocoder.geocode("서울 중구 을지로 10").orElseThrow();
+        Geocoder.Point again = geocoder.geocode("서울  중구 을지로 10").orElseThrow(); // 공백 차이는 같은 주소
+        Geocoder.Point other = geocoder.geocode("서울 중구 을지로 20").orElseThrow();
+
+        assertThat(again).isEqualTo(first);
+        assertThat(other).isNotEqualTo(first);
+        for (Geocoder.Point p : new Geocoder.Point[]{first, other}) {
+            double offsetM = GeoUtils.haversineMeters(JUNG_GU.latitude(), JUNG_GU.longitude(), p.latitude(), p.longitude());
+            assertThat(offsetM).isLessThanOrEqualTo(800 * Math.sqrt(2) + 1);
+        }
+    }
+
+    private static OfflineGeocoder geocoder(double jitterM) {
+        OfflineGeocoder geocoder = new OfflineGeocoder();
+        ReflectionTestUtils.setField(geocoder, "jitterM", jitterM);
+        return geocoder;
+    }
+}
@@ -0,0 +1,211 @@
+package com.deliveryapp.catchabite.service;
+
+import com.deliveryapp.catchabite.domain.enumtype.DelivererVehicleType;
+import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+import com.deliveryapp.catchabite.domain.enumtype.StoreCategory;
+import com.deliveryapp.catchabite.entity.Address;
+import com.deliveryapp.catchabite.entity.AppUser;
+import com.deliveryapp.catchabite.entity.Deliverer;
+import com.deliveryapp.catchabite.entity.OrderDelivery;
+import com.deliveryapp.catchabite.entity.Store;
+import com.deliveryapp.catchabite.entity.StoreOrder;
+import com.deliveryapp.catchabite.entity.StoreOwner;
+import com.deliveryapp.catchabite.repository.AddressRepository;
+import com.deliveryapp.catchabite.repository.AppUserRepository;
+import com.deliveryapp.catchabite.repository.DelivererRepository;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository;
+import com.deliveryapp.catchabite.repository.StoreOrderRepository;
+import com.deliveryapp.catchabite.repository.StoreOwnerRepository;
+import com.deliveryapp.catchabite.repository.StoreRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 트랜잭션 커밋된 데이터를 여러 스레드가 동시에 다루므로 @Transactional을 붙이지 않고 직접 정리한다.
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderDeliveryConcurrencyTests {
+
+    private static final int THREADS = 200;
+
+    @Autowired
+    private OrderDeliveryService orderDeliveryService;
+
+    @Autowired
+    private OrderDeliveryRepository orderDeliveryRepository;
+
+    @Autowired
+    private StoreOrderRepository storeOrderRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreOwnerRepository storeOwnerRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private DelivererRepository delivererRepository;
+
+    private AppUser user;
+    private Address address;
+    private StoreOwner owner;
+    private Store store;
+    private StoreOrder order;
+    private Deliverer rider;
+    private OrderDelivery delivery;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = uniqueSuffix();
+
+        user = appUserRepository.save(AppUser.builder()
+            .appUserEmail("user" + suffix + "@test.com")
+            .appUserPassword("Passw0rd!")
+            .appUserNickname("nick" + suffix)
+            .appUserName("Test User")
+            .appUserMobile(uniqueMobile())
+            .appUserCreatedDate(LocalDateTime.now())
+            .build());
+
+        address = addressRepository.save(Address.builder()
+            .appUser(user)
+            .addressDetail("서울시 테스트구 1")
+            .build());
+
+        owner = storeOwnerRepository.save(StoreOwner.builder()
+            .storeOwnerEmail("owner" + suffix + "@test.com")
+            .storeOwnerPassword("Passw0rd!")
+            .storeOwnerName("Test Owner")
+            .storeOwnerMobile(uniqueMobile())
+            .storeOwnerBusinessRegistrationNo("BRN-" + suffix)
+            .createdAt(LocalDateTime.now())
+            .build());
+
+        store = storeRepository.save(Store.builder()
+            .storeOwner(owner)
+            .storeOwnerName("Test Owner")
+            .storeName("동시성 테스트 가게")
+            .storeAddress("서울시 테스트구 2")
+            .storeCategory(StoreCategory.korean)
+            .storePhone("0212345678")
+            .build());
+
+        order = storeOrderRepository.save(StoreOrder.builder()
+            .appUser(user)
+            .store(store)
+            .address(address)
+            .orderAddressSnapshot("서울시 테스트구 1")
+            .orderTotalPrice(15000L)
+            .build());
+
+        rider = delivererRepository.save(Deliverer.builder()
+            .delivererEmail("rider" + suffix + "@test.com")
+            .delivererMobile(uniqueMobile())
+            .delivererPassword("Passw0rd!")
+            .delivererVehicleType(DelivererVehicleType.MOTORBIKE)
+            .build());
+
+        delivery = orderDeliveryRepository.save(OrderDelivery.builder()
+            .storeOrder(order)
+            .deliverer(rider)
+            .orderDeliveryStatus(DeliveryStatus.ASSIGNED)
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderDeliveryRepository.deleteById(delivery.getDeliveryId());
+        storeOrderRepository.deleteById(order.getOrderId());
+        delivererRepository.deleteById(rider.getDelivererId());
+        storeRepository.deleteById(store.getStoreId());
+        storeOwnerRepository.deleteById(owner.getStoreOwnerId());
+        addressRepository.deleteById(address.getAddressId());
+        appUserRepository.deleteById(user.getAppUserId());
+    }
+
+    @Test
+    void concurrentAcceptHasExactlyOneWinner() throws Exception {
+        Long deliveryId = delivery.getDeliveryId();
+        Long riderId = rider.getDelivererId();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger wins = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(pool.submit(() -> {
+                ready.countDown();
+                start.await();
+                try {
+                    orderDeliveryService.accept(deliveryId, riderId);
+                    wins.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        ready.await(10, TimeUnit.SECONDS);
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(wins.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(THREADS - 1);
+
+        OrderDelivery reloaded = orderDeliveryRepository.findById(deliveryId).orElseThrow();
+        assertThat(reloaded.getOrderDeliveryStatus()).isEqualTo(DeliveryStatus.ACCEPTED);
+        assertThat(reloaded.getOrderAcceptTime()).isNotNull();
+        assertThat(reloaded.getVersion()).isEqualTo(delivery.getVersion() + 1);
+    }
+
+    @Test
+    void acceptByOtherRiderIsRejectedWithoutChangingState() {
+        Long deliveryId = delivery.getDeliveryId();
+
+        assertThatThrownBy(() -> orderDeliveryService.accept(deliveryId, rider.getDelivererId() + 1000))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("배정된 배달원이 아닙니다.");
+
+        OrderDelivery reloaded = orderDeliveryRepository.findById(deliveryId).orElseThrow();
+        assertThat(reloaded.getOrderDeliveryStatus()).isEqualTo(DeliveryStatus.ASSIGNED);
+        assertThat(reloaded.getVersion()).isEqualTo(delivery.getVersion());
+    }
+
+    private String uniqueSuffix() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+    }
+
+    private String uniqueMobile() {
+        long value = Math.abs(System.nanoTime() % 100000000L);
+        return "010" + String.format("%08d", value);
+    }
+}
@@ -0,0 +1,226 @@
+package com.deliveryapp.catchabite.service;
+
+import com.deliveryapp.catchabite.domain.enumtype.DelivererVehicleType;
+import com.deliveryapp.catchabite.domain.enumtype.DeliveryStatus;
+import com.deliveryapp.catchabite.domain.enumtype.StoreCategory;
+import com.deliveryapp.catchabite.dto.CursorPageDTO;
+import com.deliveryapp.catchabite.dto.OrderDeliveryDTO;
+import com.deliveryapp.catchabite.entity.Address;
+import com.deliveryapp.catchabite.entity.AppUser;
+import com.deliveryapp.catchabite.entity.Deliverer;
+import com.deliveryapp.catchabite.entity.OrderDelivery;
+import com.deliveryapp.catchabite.entity.Store;
+import com.deliveryapp.catchabite.entity.StoreOrder;
+import com.deliveryapp.catchabite.entity.StoreOwner;
+import com.deliveryapp.catchabite.repository.AddressRepository;
+import com.deliveryapp.catchabite.repository.AppUserRepository;
+import com.deliveryapp.catchabite.repository.DelivererRepository;
+import com.deliveryapp.catchabite.repository.OrderDeliveryRepository;
+import com.deliveryapp.catchabite.repository.StoreOrderRepository;
+import com.deliveryapp.catchabite.repository.StoreOwnerRepository;
+import com.deliveryapp.catchabite.repository.StoreRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 배달 조회 getter는 생성자 프로젝션 1쿼리로 읽고 엔티티를 올리지 않아야 한다. (목록 길이와 무관)
+// 주기 작업의 SQL이 통계에 섞이지 않도록 스케줄링을 끈다.
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "scheduling.enabled=false"
+})
+@ActiveProfiles("test")
+class OrderDeliveryQueryCountTests {
+
+    @Autowired
+    private OrderDeliveryService orderDeliveryService;
+
+    @Autowired
+    private OrderDeliveryRepository orderDeliveryRepository;
+
+    @Autowired
+    private StoreOrderRepository storeOrderRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreOwnerRepository storeOwnerRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private DelivererRepository delivererRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private AppUser user;
+    private Address address;
+    private StoreOwner owner;
+    private Store store;
+    private Deliverer rider;
+    private final List<StoreOrder> orders = new ArrayList<>();
+    private final List<OrderDelivery> deliveries = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = uniqueSuffix();
+        user = appUserRepository.save(AppUser.builder()
+            .appUserEmail("user" + suffix + "@test.com")
+            .appUserPassword("Passw0rd!")
+            .appUserNickname("nick" + suffix)
+            .appUserName("Test User")
+            .appUserMobile(uniqueMobile())
+            .appUserCreatedDate(LocalDateTime.now())
+            .build());
+
+        address = addressRepository.save(Address.builder()
+            .appUser(user)
+            .addressDetail("서울시 테스트구 1")
+            .build());
+
+        owner = storeOwnerRepository.save(StoreOwner.builder()
+            .storeOwnerEmail("owner" + suffix + "@test.com")
+            .storeOwnerPassword("Passw0rd!")
+            .storeOwnerName("Test Owner")
+            .storeOwnerMobile(uniqueMobile())
+            .storeOwnerBusinessRegistrationNo("BRN-" + suffix)
+            .createdAt(LocalDateTime.now())
+            .build());
+
+        store = storeRepository.save(Store.builder()
+            .storeOwner(owner)
+            .storeOwnerName("Test Owner")
+            .storeName("배달 조회 테스트 가게")
+            .storeAddress("서울시 테스트구 2")
+            .storeCategory(StoreCategory.korean)
+            .storePhone("0212345678")
+            .build());
+
+        rider = delivererRepository.save(Deliverer.builder()
+            .delivererEmail("rider" + suffix + "@test.com")
+            .delivererMobile(uniqueMobile())
+            .delivererPassword("Passw0rd!")
+            .delivererVehicleType(DelivererVehicleType.MOTORBIKE)
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderDeliveryRepository.deleteAll(deliveries);
+        storeOrderRepository.deleteAll(orders);
+        delivererRepository.deleteById(rider.getDelivererId());
+        storeRepository.deleteById(store.getStoreId());
+        storeOwnerRepository.deleteById(owner.getStoreOwnerId());
+        addressRepository.deleteById(address.getAddressId());
+        appUserRepository.deleteById(user.getAppUserId());
+    }
+
+    @Test
+    void singleDeliveryGettersRunOneStatementWithoutLoadingEntities() {
+        createDeliveries(1);
+        Long deliveryId = deliveries.get(0).getDeliveryId();
+
+        // 이전 방식(fetch join 엔티티 조회)은 배달/주문/고객/배달원 엔티티를 올린다.
+        statistics.clear();
+        orderDeliveryRepository.findDeliveryForUser(deliveryId, user.getAppUserId()).orElseThrow();
+        assertThat(statistics.getEntityLoadCount()).isGreaterThan(0);
+
+        OrderDeliveryDTO forUser = measure(() -> orderDeliveryService.getDeliveryForUser(deliveryId, user.getAppUserId()));
+        OrderDeliveryDTO forStore = measure(() -> orderDeliveryService.getDeliveryForStore(deliveryId, owner.getStoreOwnerId()));
+        OrderDeliveryDTO forRider = measure(() -> orderDeliveryService.getDeliveryForDeliverer(deliveryId, rider.getDelivererId()));
+
+        for (OrderDeliveryDTO dto : List.of(forUser, forStore, forRider)) {
+            assertThat(dto.getDeliveryId()).isEqualTo(deliveryId);
+            assertThat(dto.getOrderId()).isEqualTo(orders.get(0).getOrderId());
+            assertThat(dto.getDelivererId()).isEqualTo(rider.getDelivererId());
+            assertThat(dto.getOrderDeliveryStatus()).isEqualTo(DeliveryStatus.ASSIGNED);
+        }
+    }
+
+    @Test
+    void deliveryPagesRunSameStatementCountForAnyPageSize() {
+        createDeliveries(2);
+        long fewUser = countPage(() -> orderDeliveryService.getDeliveriesByUser(user.getAppUserId(), null, 20), 2);
+        long fewStore = countPage(() -> orderDeliveryService.getDeliveriesByStore(owner.getStoreOwnerId(), null, 20), 2);
+        long fewRider = countPage(() -> orderDeliveryService.getDeliveriesByDeliverer(rider.getDelivererId(), null, 20), 2);
+
+        createDeliveries(10);
+        long manyUser = countPage(() -> orderDeliveryService.getDeliveriesByUser(user.getAppUserId(), null, 20), 12);
+        long manyStore = countPage(() -> orderDeliveryService.getDeliveriesByStore(owner.getStoreOwnerId(), null, 20), 12);
+        long manyRider = countPage(() -> orderDeliveryService.getDeliveriesByDeliverer(rider.getDelivererId(), null, 20), 12);
+
+        assertThat(fewUser).isEqualTo(1);
+        assertThat(manyUser).isEqualTo(fewUser);
+        assertThat(manyStore).isEqualTo(fewStore);
+        assertThat(manyRider).isEqualTo(fewRider);
+    }
+
+    // 단건 조회: SQL 1개, 엔티티 적재 0
+    private <T> T measure(Supplier<T> call) {
+        statistics.clear();
+        T result = call.get();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(0);
+        return result;
+    }
+
+    // 목록 조회의 SQL 수 (엔티티 적재 0)
+    private long countPage(Supplier<CursorPageDTO<OrderDeliveryDTO>> call, int expectedSize) {
+        statistics.clear();
+        CursorPageDTO<OrderDeliveryDTO> page = call.get();
+        long queries = statistics.getPrepareStatementCount();
+
+        assertThat(page.getContent()).hasSize(expectedSize);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(0);
+        return queries;
+    }
+
+    private void createDeliveries(int count) {
+        for (int i = 0; i < count; i++) {
+            StoreOrder order = storeOrderRepository.save(StoreOrder.builder()
+                .appUser(user)
+                .store(store)
+                .address(address)
+                .orderAddressSnapshot("서울시 테스트구 1")
+                .orderTotalPrice(15000L)
+                .build());
+            orders.add(order);
+            deliveries.add(orderDeliveryRepository.save(OrderDelivery.builder()
+                .storeOrder(order)
+                .deliverer(rider)
+                .orderDeliveryStatus(DeliveryStatus.ASSIGNED)
+                .build()));
+        }
+    }
+
+    private String uniqueSuffix() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+    }
+
+    private String uniqueMobile() {
+        long value = Math.abs(System.nanoTime() % 100000000L);
+        return "010" + String.format("%08d", value);
+    }
+}
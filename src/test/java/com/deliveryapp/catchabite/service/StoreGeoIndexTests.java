@@ -0,0 +1,110 @@
+package com.deliveryapp.catchabite.service;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 매장 위치 색인 단위 테스트 (put/setOpen/covering만 사용, DB 없음)
+class StoreGeoIndexTests {
+
+    private static final double LAT = 37.5665;
+    private static final double LON = 126.9780;
+
+    // 기본 반경 3km, 최대 반경 20km
+    private final StoreGeoIndex index = new StoreGeoIndex(null, null, null, 3000, 20000);
+
+    @Test
+    void storeCoversPointOnlyInsideItsOwnRadius() {
+        // 반경 1km 매장 (0.01도 셀 경계를 넘는 거리)
+        index.put(1L, LAT, LON, 1000, true);
+
+        assertThat(ids(eastOf(995))).containsExactly(1L);
+        assertThat(ids(eastOf(1005))).isEmpty();
+        assertThat(ids(northOf(995))).containsExactly(1L);
+        assertThat(ids(northOf(1005))).isEmpty();
+    }
+
+    @Test
+    void missingRadiusUsesDefaultAndLargeRadiusIsCapped() {
+        index.put(1L, LAT, LON, null, true);
+        index.put(2L, LAT, LON, 50_000, true);
+
+        assertThat(ids(eastOf(2990))).containsExactly(1L, 2L);
+        assertThat(ids(eastOf(3010))).containsExactly(2L);
+        assertThat(ids(eastOf(19_990))).containsExactly(2L);
+        assertThat(ids(eastOf(20_010))).isEmpty();
+    }
+
+    @Test
+    void coveringStoresAreNearestFirstAndLimited() {
+        // 넣는 순서와 무관하게 거리 순
+        index.put(3L, eastOf(1500)[0], eastOf(1500)[1], 3000, true);
+        index.put(1L, eastOf(300)[0], eastOf(300)[1], 3000, true);
+        index.put(2L, northOf(800)[0], northOf(800)[1], 3000, true);
+
+        List<StoreGeoIndex.Hit> hits = index.covering(LAT, LON, 10);
+        assertThat(hits).extracting(StoreGeoIndex.Hit::storeId).containsExactly(1L, 2L, 3L);
+        assertThat(hits.get(0).distanceM()).isBetween(295.0, 305.0);
+        assertThat(index.covering(LAT, LON, 2)).extracting(StoreGeoIndex.Hit::storeId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void movedAndRemovedStoresLeaveTheirOldCell() {
+        index.put(1L, LAT, LON, 1000, true);
+        index.put(1L, eastOf(5000)[0], eastOf(5000)[1], 1000, true);
+
+        assertThat(ids(new double[]{LAT, LON})).isEmpty();
+        assertThat(ids(eastOf(5000))).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(ids(eastOf(5000))).isEmpty();
+        assertThat(index.size()).isEqualTo(0);
+        assertThat(Double.isNaN(index.distance(1L, LAT, LON))).isTrue();
+    }
+
+    @Test
+    void coveringOpenSkipsClosedStoresAndFollowsStatusChanges() {
+        index.put(1L, eastOf(300)[0], eastOf(300)[1], 3000, false);
+        index.put(2L, eastOf(600)[0], eastOf(600)[1], 3000, true);
+        index.put(3L, eastOf(900)[0], eastOf(900)[1], 3000, true);
+
+        assertThat(index.covering(LAT, LON, 10)).extracting(StoreGeoIndex.Hit::storeId).containsExactly(1L, 2L, 3L);
+        assertThat(openIds(10)).containsExactly(2L, 3L);
+        // limit은 영업 중인 매장 기준
+        assertThat(openIds(1)).containsExactly(2L);
+
+        index.setOpen(1L, true);
+        index.setOpen(2L, false);
+        assertThat(openIds(10)).containsExactly(1L, 3L);
+
+        // 위치를 옮겨도 영업 상태는 put에 넘긴 값
+        index.put(3L, eastOf(100)[0], eastOf(100)[1], 3000, true);
+        assertThat(openIds(10)).containsExactly(3L, 1L);
+
+        // 색인에 없는 매장은 무시
+        index.setOpen(99L, true);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    private List<Long> openIds(int limit) {
+        return index.coveringOpen(LAT, LON, limit).stream()
+                .map(StoreGeoIndex.Hit::storeId)
+                .toList();
+    }
+
+    private List<Long> ids(double[] point) {
+        return index.covering(point[0], point[1], Integer.MAX_VALUE).stream()
+                .map(StoreGeoIndex.Hit::storeId)
+                .toList();
+    }
+
+    private static double[] eastOf(double meters) {
+        return new double[]{LAT, LON + meters / GeoUtils.metersPerDegreeLon(LAT)};
+    }
+
+    private static double[] northOf(double meters) {
+        return new double[]{LAT + meters / GeoUtils.METERS_PER_DEGREE_LAT, LON};
+    }
+}
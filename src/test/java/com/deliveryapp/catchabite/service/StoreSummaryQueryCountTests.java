@@ -0,0 +1,131 @@
+package com.deliveryapp.catchabite.service;
+
+import com.deliveryapp.catchabite.domain.enumtype.StoreCategory;
+import com.deliveryapp.catchabite.dto.UserStoreSummaryDTO;
+import com.deliveryapp.catchabite.entity.Store;
+import com.deliveryapp.catchabite.entity.StoreImage;
+import com.deliveryapp.catchabite.entity.StoreOwner;
+import com.deliveryapp.catchabite.repository.StoreImageRepository;
+import com.deliveryapp.catchabite.repository.StoreOwnerRepository;
+import com.deliveryapp.catchabite.repository.StoreRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 매장 요약 목록은 목록 길이와 관계없이 SQL 수가 같아야 한다. (매장 1 + 이미지 IN 1)
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "scheduling.enabled=false"
+})
+@ActiveProfiles("test")
+class StoreSummaryQueryCountTests {
+
+    private static final StoreCategory CATEGORY = StoreCategory.late_night;
+    private static final int IMAGES_PER_STORE = 2;
+
+    @Autowired
+    private UserStoreService userStoreService;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreImageRepository storeImageRepository;
+
+    @Autowired
+    private StoreOwnerRepository storeOwnerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private StoreOwner owner;
+    private final List<Store> stores = new ArrayList<>();
+    private final List<StoreImage> images = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = uniqueSuffix();
+        owner = storeOwnerRepository.save(StoreOwner.builder()
+            .storeOwnerEmail("owner" + suffix + "@test.com")
+            .storeOwnerPassword("Passw0rd!")
+            .storeOwnerName("Test Owner")
+            .storeOwnerMobile(uniqueMobile())
+            .storeOwnerBusinessRegistrationNo("BRN-" + suffix)
+            .createdAt(LocalDateTime.now())
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        storeImageRepository.deleteAll(images);
+        storeRepository.deleteAll(stores);
+        storeOwnerRepository.deleteById(owner.getStoreOwnerId());
+    }
+
+    @Test
+    void categoryListRunsSameNumberOfQueriesForAnyListSize() {
+        createStores(2);
+        long fewStores = countQueries(2);
+
+        createStores(10);
+        long manyStores = countQueries(12);
+
+        assertThat(manyStores).isEqualTo(fewStores);
+        assertThat(fewStores).isLessThanOrEqualTo(2);
+    }
+
+    // 목록을 조회하고 실행된 SQL 수를 돌려준다.
+    private long countQueries(int expectedSize) {
+        statistics.clear();
+        List<UserStoreSummaryDTO> result = userStoreService.getStoresByCategory(CATEGORY.name());
+        long queries = statistics.getPrepareStatementCount();
+
+        assertThat(result).hasSize(expectedSize);
+        assertThat(result).allSatisfy(dto -> assertThat(dto.getStoreImageUrl()).hasSize(IMAGES_PER_STORE));
+        return queries;
+    }
+
+    private void createStores(int count) {
+        for (int i = 0; i < count; i++) {
+            Store store = storeRepository.save(Store.builder()
+                .storeOwner(owner)
+                .storeOwnerName("Test Owner")
+                .storeName("쿼리 수 테스트 가게 " + stores.size())
+                .storeAddress("서울시 테스트구 " + stores.size())
+                .storeCategory(CATEGORY)
+                .storePhone("0212345678")
+                .build());
+            stores.add(store);
+            for (int j = 0; j < IMAGES_PER_STORE; j++) {
+                images.add(storeImageRepository.save(StoreImage.builder()
+                    .store(store)
+                    .storeImageUrl("https://img.test/" + store.getStoreId() + "/" + j + ".jpg")
+                    .build()));
+            }
+        }
+    }
+
+    private String uniqueSuffix() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+    }
+
+    private String uniqueMobile() {
+        long value = Math.abs(System.nanoTime() % 100000000L);
+        return "010" + String.format("%08d", value);
+    }
+}
@@ -0,0 +1,88 @@
+package com.deliveryapp.catchabite.service;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+import com.deliveryapp.catchabite.dto.TripPlanDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 묶음 배달 경로 계획 실행 시간 (./gradlew benchmark 로만 실행, 기본 test에서는 제외)
+// 실제 시간을 재므로 느리거나 공유된 CI 머신에서는 결과가 흔들릴 수 있다.
+@Tag("benchmark")
+class TripPlannerBenchmarkTests {
+
+    private static final long PLAN_BUDGET_MS = 20;
+    private static final long MAX_COMPUTE_MICROS = 50_000;
+
+    // 서울 대략 범위
+    private static final double MIN_LAT = 37.45;
+    private static final double MAX_LAT = 37.65;
+    private static final double MIN_LON = 126.85;
+    private static final double MAX_LON = 127.15;
+
+    private final Random random = new Random(20261018L);
+    private long nextDeliveryId = 1;
+
+    @Test
+    void tripsArePlannedWithinFiftyMillis() {
+        TripPlanner planner = planner();
+
+        // JIT 워밍업 (운영 중인 서버의 정상 상태 기준으로 시간을 잰다)
+        for (int i = 0; i < 200; i++) {
+            double[] rider = randomRider();
+            planner.plan(rider[0], rider[1], randomTrip(rider, 3));
+        }
+
+        long worstMicros = 0;
+        for (int trip = 0; trip < 1000; trip++) {
+            double[] rider = randomRider();
+            int size = (trip % 50 == 0) ? 25 : 1 + random.nextInt(5);
+            TripPlanDTO plan = planner.plan(rider[0], rider[1], randomTrip(rider, size));
+            worstMicros = Math.max(worstMicros, plan.getComputeMicros());
+        }
+        System.out.printf("trip planner worst compute time: %d us (budget %d ms)%n", worstMicros, PLAN_BUDGET_MS);
+        assertThat(worstMicros).isLessThanOrEqualTo(MAX_COMPUTE_MICROS);
+    }
+
+    private double[] randomRider() {
+        return new double[]{between(MIN_LAT, MAX_LAT), between(MIN_LON, MAX_LON)};
+    }
+
+    // 라이더 2km 안의 매장, 매장 3km 안의 고객. 일부는 이미 픽업한 배달
+    private List<TripPlanner.Order> randomTrip(double[] rider, int size) {
+        List<TripPlanner.Order> orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double[] store = around(rider[0], rider[1], 2000);
+            double[] customer = around(store[0], store[1], 3000);
+            orders.add(new TripPlanner.Order(nextDeliveryId++,
+                    store[0], store[1], customer[0], customer[1], random.nextInt(5) == 0));
+        }
+        return orders;
+    }
+
+    private double[] around(double lat, double lon, double radiusM) {
+        double dLat = (random.nextDouble() * 2 - 1) * radiusM / GeoUtils.METERS_PER_DEGREE_LAT;
+        double dLon = (random.nextDouble() * 2 - 1) * radiusM / GeoUtils.metersPerDegreeLon(lat);
+        return new double[]{lat + dLat, lon + dLon};
+    }
+
+    private double between(double min, double max) {
+        return min + random.nextDouble() * (max - min);
+    }
+
+    private static TripPlanner planner() {
+        HaversineRoutingProvider provider = new HaversineRoutingProvider();
+        ReflectionTestUtils.setField(provider, "roadFactor", 1.3);
+        ReflectionTestUtils.setField(provider, "avgSpeedKmh", 20.0);
+
+        TripPlanner planner = new TripPlanner(List.of(provider));
+        ReflectionTestUtils.setField(planner, "providerName", "haversine");
+        ReflectionTestUtils.setField(planner, "planBudgetMs", PLAN_BUDGET_MS);
+        return planner;
+    }
+}
@@ -0,0 +1,161 @@
+package com.deliveryapp.catchabite.service;
+
+import com.deliveryapp.catchabite.common.util.GeoUtils;
+import com.deliveryapp.catchabite.dto.TripPlanDTO;
+import com.deliveryapp.catchabite.dto.TripStopDTO;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 묶음 배달 경로 계획 단위 테스트 (서울 범위 임의 주문, Spring/DB 없음)
+// - 픽업은 항상 전달보다 앞
+// - 2-opt 결과는 최근접 이웃 초기 경로보다 길어지지 않음
+// - 2-opt는 예산(마감 시각) 안에서만 돈다: 예산 0이면 최근접 이웃 그대로, 예산이 늘면 결과가 나빠지지 않음
+// 실행 시간 자체는 환경에 따라 달라 TripPlannerBenchmarkTests(benchmark 태그)에서 잰다.
+class TripPlannerTests {
+
+    private static final long PLAN_BUDGET_MS = 20;
+    // 사실상 무제한 (수렴할 때까지)
+    private static final long UNLIMITED_BUDGET_MS = 60_000;
+
+    // 서울 대략 범위
+    private static final double MIN_LAT = 37.45;
+    private static final double MAX_LAT = 37.65;
+    private static final double MIN_LON = 126.85;
+    private static final double MAX_LON = 127.15;
+
+    private TripPlanner planner;
+    private TripPlanner nearestNeighborOnly;
+    private TripPlanner unlimited;
+    private Random random;
+    private long nextDeliveryId;
+
+    @BeforeEach
+    void setUp() {
+        planner = planner(PLAN_BUDGET_MS);
+        // 예산 0ms면 2-opt를 돌지 않고 최근접 이웃 경로를 그대로 쓴다.
+        nearestNeighborOnly = planner(0);
+        unlimited = planner(UNLIMITED_BUDGET_MS);
+        random = new Random(20261018L);
+        nextDeliveryId = 1;
+    }
+
+    @Test
+    void everyPickupPrecedesItsDropoff() {
+        for (int trip = 0; trip < 1000; trip++) {
+            Rider rider = randomRider();
+            List<TripPlanner.Order> orders = randomTrip(rider, 1 + random.nextInt(5));
+
+            TripPlanDTO plan = planner.plan(rider.lat(), rider.lon(), orders);
+
+            assertPrecedence(orders, plan);
+            assertThat(plan.getStops()).hasSize(2 * orders.size() - pickedUpCount(orders));
+        }
+    }
+
+    @Test
+    void twoOptNeverIncreasesCostOverNearestNeighbor() {
+        int improved = 0;
+        for (int trip = 0; trip < 500; trip++) {
+            Rider rider = randomRider();
+            List<TripPlanner.Order> orders = randomTrip(rider, 5);
+
+            long nearestM = nearestNeighborOnly.plan(rider.lat(), rider.lon(), orders).getTotalDistanceM();
+            TripPlanDTO plan = planner.plan(rider.lat(), rider.lon(), orders);
+
+            assertPrecedence(orders, plan);
+            assertThat(plan.getTotalDistanceM()).isLessThanOrEqualTo(nearestM);
+            if (plan.getTotalDistanceM() < nearestM) improved++;
+        }
+        // 2-opt가 실제로 경로를 줄이는 경우가 있어야 한다.
+        assertThat(improved).isGreaterThan(0);
+    }
+
+    @Test
+    void moreBudgetNeverGivesALongerRoute() {
+        // 같은 입력이면 2-opt는 같은 순서로 개선하므로, 마감이 늦을수록 같은 경로를 더 멀리 따라간다.
+        for (int trip = 0; trip < 20; trip++) {
+            Rider rider = randomRider();
+            List<TripPlanner.Order> orders = randomTrip(rider, 25);
+
+            TripPlanDTO budgeted = planner.plan(rider.lat(), rider.lon(), orders);
+            TripPlanDTO converged = unlimited.plan(rider.lat(), rider.lon(), orders);
+
+            assertPrecedence(orders, budgeted);
+            assertPrecedence(orders, converged);
+            assertThat(budgeted.getStops()).hasSize(50 - pickedUpCount(orders));
+            assertThat(converged.getTotalDistanceM()).isLessThanOrEqualTo(budgeted.getTotalDistanceM());
+        }
+    }
+
+    // 배달마다 전달 1번, 픽업 전 배달은 픽업 1번이 전달보다 앞
+    private void assertPrecedence(List<TripPlanner.Order> orders, TripPlanDTO plan) {
+        Map<Long, Integer> pickupAt = new HashMap<>();
+        Map<Long, Integer> dropoffAt = new HashMap<>();
+        List<TripStopDTO> stops = plan.getStops();
+        for (int i = 0; i < stops.size(); i++) {
+            TripStopDTO stop = stops.get(i);
+            Map<Long, Integer> target = (stop.getStopType() == TripStopDTO.StopType.PICKUP) ? pickupAt : dropoffAt;
+            assertThat(target.put(stop.getDeliveryId(), i)).isNull();
+        }
+
+        for (TripPlanner.Order order : orders) {
+            assertThat(dropoffAt.get(order.deliveryId())).isNotNull();
+            if (order.pickedUp()) {
+                assertThat(pickupAt.get(order.deliveryId())).isNull();
+            } else {
+                assertThat(pickupAt.get(order.deliveryId())).isLessThan(dropoffAt.get(order.deliveryId()));
+            }
+        }
+    }
+
+    private record Rider(double lat, double lon) {}
+
+    private Rider randomRider() {
+        return new Rider(between(MIN_LAT, MAX_LAT), between(MIN_LON, MAX_LON));
+    }
+
+    // 라이더 2km 안의 매장, 매장 3km 안의 고객. 일부는 이미 픽업한 배달
+    private List<TripPlanner.Order> randomTrip(Rider rider, int size) {
+        List<TripPlanner.Order> orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double[] store = around(rider.lat(), rider.lon(), 2000);
+            double[] customer = around(store[0], store[1], 3000);
+            orders.add(new TripPlanner.Order(nextDeliveryId++,
+                    store[0], store[1], customer[0], customer[1], random.nextInt(5) == 0));
+        }
+        return orders;
+    }
+
+    private double[] around(double lat, double lon, double radiusM) {
+        double dLat = (random.nextDouble() * 2 - 1) * radiusM / GeoUtils.METERS_PER_DEGREE_LAT;
+        double dLon = (random.nextDouble() * 2 - 1) * radiusM / GeoUtils.metersPerDegreeLon(lat);
+        return new double[]{lat + dLat, lon + dLon};
+    }
+
+    private double between(double min, double max) {
+        return min + random.nextDouble() * (max - min);
+    }
+
+    private static int pickedUpCount(List<TripPlanner.Order> orders) {
+        return (int) orders.stream().filter(TripPlanner.Order::pickedUp).count();
+    }
+
+    private static TripPlanner planner(long planBudgetMs) {
+        HaversineRoutingProvider provider = new HaversineRoutingProvider();
+        ReflectionTestUtils.setField(provider, "roadFactor", 1.3);
+        ReflectionTestUtils.setField(provider, "avgSpeedKmh", 20.0);
+
+        TripPlanner planner = new TripPlanner(List.of(provider));
+        ReflectionTestUtils.setField(planner, "providerName", "haversine");
+        ReflectionTestUtils.setField(planner, "planBudgetMs", planBudgetMs);
+        return planner;
+    }
+}